@@ -0,0 +1,95 @@
+package com.coinmanager.backtest;
+
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.backtest.io.CandleFileLoader;
+import com.coinmanager.backtest.io.CandleStream;
+import com.coinmanager.bench.SyntheticCandles;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.service.AccountService;
+import com.coinmanager.strategy.MultiFactorParams;
+import com.coinmanager.strategy.MultiFactorStrategy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 백테스트 end-to-end 처리량. 점수는 초당 봉 수(ops/s = bars/s).
+ * - loadCsv / loadBinary : 파일 → CandleSeries 적재만
+ * - runInMemory          : 적재된 시리즈로 엔진 + 스트리밍 전략
+ * - streamCsv            : BacktestRunner 기본 경로 (CSV 파이프라인 → 엔진)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BacktestThroughputBenchmark {
+
+	private static final int BARS = 500_000;
+	private static final int LOOKBACK = 120;
+
+	private final CandleFileLoader loader = new CandleFileLoader();
+	private final BacktestEngine engine = new BacktestEngine();
+
+	private MultiFactorStrategy strategy;
+	private CandleSeries series;
+	private Path dir;
+	private Path csv;
+	private Path bin;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		StubUpbitApiClient api = new StubUpbitApiClient();
+		strategy = new MultiFactorStrategy(
+			MultiFactorParams.defaults(), new AccountService(api, EventJournal.disabled()), new StubRiskManagerService(), api);
+
+		series = SyntheticCandles.series(BARS);
+		dir = Files.createTempDirectory("cm-bench");
+		csv = SyntheticCandles.writeCsv(series, dir.resolve("KRWBTC_1m.csv"));
+		bin = dir.resolve("KRWBTC_1m" + BinaryCandleFile.EXTENSION);
+		BinaryCandleFile.write(series, 1, bin);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(csv);
+		Files.deleteIfExists(bin);
+		Files.deleteIfExists(dir);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BARS)
+	public CandleSeries loadCsv() throws IOException {
+		return loader.load(csv);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BARS)
+	public CandleSeries loadBinary() throws IOException {
+		return loader.load(bin);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BARS)
+	public BacktestResult runInMemory() {
+		return engine.run(series, strategy.streaming(SyntheticCandles.MARKET));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BARS)
+	public BacktestResult streamCsv() throws IOException {
+		try (CandleStream stream = loader.open(csv)) {
+			return engine.run(stream, strategy.streaming(stream.market()), LOOKBACK);
+		}
+	}
+}
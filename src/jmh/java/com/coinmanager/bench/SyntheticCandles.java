@@ -0,0 +1,102 @@
+package com.coinmanager.bench;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 재현 가능한(시드 고정) 1분봉 생성기 – 로그 정규 랜덤워크 + 변동성 군집
+ */
+@UtilityClass
+public class SyntheticCandles {
+
+	public final String MARKET = "KRW-BTC";
+	public final long DEFAULT_SEED = 42L;
+
+	private final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+	private final long MINUTE = 60_000L;
+
+	/**
+	 * 오름차순 캔들 n 개
+	 */
+	public CandleSeries series(int n, long seed) {
+		SplittableRandom r = new SplittableRandom(seed);
+		CandleSeries s = new CandleSeries(MARKET, n);
+
+		long t = CandleSeries.toEpochMillis(START);
+		double price = 50_000_000;
+		double vol = 0.0015;
+		for (int i = 0; i < n; i++) {
+			// 변동성이 천천히 오르내리도록 (신호가 가끔씩 발생하는 구간을 만든다)
+			vol = Math.clamp(vol * Math.exp(0.05 * r.nextGaussian()), 0.0003, 0.01);
+
+			double open = price;
+			double close = Math.round(open * Math.exp(vol * r.nextGaussian()));
+			double high = Math.round(Math.max(open, close) * (1 + vol * Math.abs(r.nextGaussian()) * 0.5));
+			double low = Math.round(Math.min(open, close) * (1 - vol * Math.abs(r.nextGaussian()) * 0.5));
+			double volume = 0.5 + r.nextDouble() * 5 * (1 + vol * 300);
+
+			s.append(t, open, high, low, close, volume);
+			t += MINUTE;
+			price = close;
+		}
+		return s;
+	}
+
+	public CandleSeries series(int n) {
+		return series(n, DEFAULT_SEED);
+	}
+
+	/**
+	 * BigDecimal 기반 MarketData 리스트 (미리 만들어 둔 실제 객체)
+	 */
+	public List<MarketData> marketData(int n, long seed) {
+		return new ArrayList<>(series(n, seed).asMarketDataList());
+	}
+
+	/**
+	 * Jackson 이 /v1/candles 응답을 Map 으로 읽었을 때와 같은 모양 (최신순)
+	 */
+	public List<Map<String, Object>> upbitResponse(int n, long seed) {
+		CandleSeries s = series(n, seed);
+		List<Map<String, Object>> out = new ArrayList<>(n);
+		for (int i = n - 1; i >= 0; i--) {
+			Map<String, Object> m = new HashMap<>();
+			m.put("market", MARKET);
+			m.put("candle_date_time_kst", s.timestamp(i).toString() + ":00");
+			m.put("opening_price", s.open(i));
+			m.put("high_price", s.high(i));
+			m.put("low_price", s.low(i));
+			m.put("trade_price", s.close(i));
+			m.put("candle_acc_trade_volume", s.volume(i));
+			m.put("timestamp", s.time(i));
+			out.add(m);
+		}
+		return out;
+	}
+
+	/**
+	 * DataExportService 와 같은 형식의 CSV
+	 */
+	public Path writeCsv(CandleSeries s, Path out) throws IOException {
+		try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+			w.write("\"timestamp\",\"open\",\"high\",\"low\",\"close\",\"volume\"\n");
+			for (int i = 0; i < s.size(); i++) {
+				w.write('"' + s.timestamp(i).toString() + "\",\"" + (long) s.open(i) + "\",\"" + (long) s.high(i) + "\",\""
+					+ (long) s.low(i) + "\",\"" + (long) s.close(i) + "\",\"" + s.volume(i) + "\"\n");
+			}
+		}
+		return out;
+	}
+}
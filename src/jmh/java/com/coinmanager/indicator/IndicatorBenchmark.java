@@ -0,0 +1,113 @@
+package com.coinmanager.indicator;
+
+import com.coinmanager.bench.SyntheticCandles;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.util.TechIndicatorUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 한 봉에서 전략이 쓰는 지표 전체(SMA 9/26, RSI 14, BB 20, 거래량 20, 모멘텀 10)를 얻는 비용
+ * - bigDecimalWindow : 기존 방식, 120 개 MarketData 윈도우에서 매번 재계산
+ * - columnarWindow   : CandleSeries 컬럼 위에서 재계산
+ * - streamingEngine  : IndicatorEngine 증분 갱신 (봉당 O(1))
+ * - batchSeries      : BatchIndicators 로 시계열 전체 컬럼을 한 번에 계산 (봉당 비용으로 환산)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IndicatorBenchmark {
+
+	private static final int WINDOW = 120;
+	private static final int BARS = 10_000;
+
+	private List<MarketData> window;
+	private CandleSeries series;
+	private int index;
+
+	private IndicatorEngine engine;
+	private SmaIndicator maS;
+	private SmaIndicator maL;
+	private RsiIndicator rsi;
+	private BollingerIndicator bb;
+	private VolumeMultiplierIndicator volX;
+	private MomentumIndicator momentum;
+
+	@Setup
+	public void setup() {
+		window = SyntheticCandles.marketData(WINDOW, SyntheticCandles.DEFAULT_SEED);
+		series = SyntheticCandles.series(BARS);
+		index = WINDOW;
+
+		engine = new IndicatorEngine(SyntheticCandles.MARKET);
+		maS = engine.sma(9);
+		maL = engine.sma(26);
+		rsi = engine.rsi(14);
+		bb = engine.bollinger(20, 2);
+		volX = engine.volumeMultiplier(20);
+		momentum = engine.momentum(10);
+	}
+
+	@Benchmark
+	public void bigDecimalWindow(Blackhole bh) {
+		bh.consume(TechIndicatorUtil.sma(window, 9));
+		bh.consume(TechIndicatorUtil.sma(window, 26));
+		bh.consume(TechIndicatorUtil.rsi(window, 14));
+		bh.consume(TechIndicatorUtil.bollinger(window, 20));
+		bh.consume(TechIndicatorUtil.volumeMultiplier(window, 20));
+		bh.consume(TechIndicatorUtil.momentum(window, 10));
+	}
+
+	@Benchmark
+	public void columnarWindow(Blackhole bh) {
+		int i = nextIndex();
+		bh.consume(TechIndicatorUtil.sma(series, i, 9));
+		bh.consume(TechIndicatorUtil.sma(series, i, 26));
+		bh.consume(TechIndicatorUtil.rsi(series, i, 14));
+		bh.consume(TechIndicatorUtil.bollinger(series, i, 20));
+		bh.consume(TechIndicatorUtil.volumeMultiplier(series, i, 20));
+		bh.consume(TechIndicatorUtil.momentum(series, i, 10));
+	}
+
+	@Benchmark
+	public void streamingEngine(Blackhole bh) {
+		int i = nextIndex();
+		engine.update(series.open(i), series.high(i), series.low(i), series.close(i), series.volume(i));
+		bh.consume(maS.value());
+		bh.consume(maL.value());
+		bh.consume(rsi.value());
+		bh.consume(bb.upper());
+		bh.consume(bb.lower());
+		bh.consume(volX.value());
+		bh.consume(momentum.value());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BARS)
+	public void batchSeries(Blackhole bh) {
+		int n = series.size();
+		double[] close = series.closeColumn();
+		bh.consume(BatchIndicators.sma(close, n, 9));
+		bh.consume(BatchIndicators.sma(close, n, 26));
+		bh.consume(BatchIndicators.rsi(close, n, 14));
+		bh.consume(BatchIndicators.bollinger(close, n, 20, 2));
+		bh.consume(BatchIndicators.volumeMultiplier(series.volumeColumn(), n, 20));
+		bh.consume(BatchIndicators.momentum(close, n, 10));
+	}
+
+	private int nextIndex() {
+		int i = index;
+		index = i + 1 < BARS ? i + 1 : WINDOW;
+		return i;
+	}
+}
@@ -0,0 +1,106 @@
+package com.coinmanager.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Jwts.SIG;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.crypto.SecretKey;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 토큰 1개 생성 비용 – 기존 jjwt 경로(요청마다 키 유도 + 빌더) vs JwtUtil.
+ * *VirtualThreads 는 실제 호출 경로처럼 요청마다 새 가상 스레드에서 만든다 (스레드 생성 비용 포함).
+ *
+ * ./gradlew jmh -Pjmh.includes=JwtBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+	private static final String ACCESS_KEY = "xV4xqGJtuZ4lCBw5Lrk1QRmd1XKNHLDsXwKdLmZ0";
+	private static final String SECRET_KEY = "Ne3GJm7oWqzDbV8mEJQtFkBqRmvw4dWZpRnX3Lcy";
+
+	private static final int BATCH = 64;
+
+	@Param({"", "market=KRW-BTC&side=bid&price=50000&ord_type=price"})
+	public String query;
+
+	private JwtUtil jwtUtil;
+	private ExecutorService virtualThreads;
+
+	@Setup
+	public void setup() {
+		jwtUtil = new JwtUtil(ACCESS_KEY, SECRET_KEY);
+		virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@TearDown
+	public void tearDown() {
+		virtualThreads.close();
+	}
+
+	@Benchmark
+	public String legacyJjwt() {
+		var builder = Jwts.builder()
+			.header().type("JWT")
+			.and()
+			.claim("access_key", ACCESS_KEY)
+			.claim("nonce", UUID.randomUUID().toString());
+
+		if (!query.isEmpty()) {
+			builder.claim("query_hash", DigestUtils.sha512Hex(query))
+				.claim("query_string_alg", "SHA512");
+		}
+
+		SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+		return builder.signWith(key, SIG.HS256).compact();
+	}
+
+	@Benchmark
+	public String jwtUtil() {
+		return jwtUtil.createToken(query);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public List<String> legacyJjwtVirtualThreads() throws Exception {
+		return onVirtualThreads(this::legacyJjwt);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public List<String> jwtUtilVirtualThreads() throws Exception {
+		return onVirtualThreads(this::jwtUtil);
+	}
+
+	private List<String> onVirtualThreads(Supplier<String> token) throws Exception {
+		List<Future<String>> futures = new ArrayList<>(BATCH);
+		for (int i = 0; i < BATCH; i++) {
+			futures.add(virtualThreads.submit(token::get));
+		}
+		List<String> tokens = new ArrayList<>(BATCH);
+		for (Future<String> f : futures) {
+			tokens.add(f.get());
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,69 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.backtest.StubRiskManagerService;
+import com.coinmanager.backtest.StubUpbitApiClient;
+import com.coinmanager.bench.SyntheticCandles;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.domain.dto.OrderRequest;
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.service.AccountService;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 봉 하나에 대한 매매 판단 비용 – 기존 generateSignal(윈도우 재계산) vs 스트리밍 전략
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StrategyBenchmark {
+
+	private static final int WINDOW = 120;
+	private static final int BARS = 10_000;
+
+	private MultiFactorStrategy strategy;
+	private List<MarketData> candles;
+	private List<MarketData> window;
+	private int from;
+
+	private CandleSeries series;
+	private CandleStrategy streaming;
+	private int index;
+
+	@Setup
+	public void setup() {
+		StubUpbitApiClient api = new StubUpbitApiClient();
+		strategy = new MultiFactorStrategy(
+			MultiFactorParams.defaults(), new AccountService(api, EventJournal.disabled()), new StubRiskManagerService(), api);
+
+		candles = SyntheticCandles.marketData(BARS, SyntheticCandles.DEFAULT_SEED);
+		series = SyntheticCandles.series(BARS);
+		streaming = strategy.streaming(SyntheticCandles.MARKET);
+		for (index = 0; index < WINDOW; index++) {
+			streaming.onCandle(series, index);
+		}
+	}
+
+	@Benchmark
+	public Optional<OrderRequest> generateSignal() {
+		int f = from;
+		from = f + WINDOW + 1 < BARS ? f + 1 : 0;
+		return strategy.generateSignal(candles.subList(f, f + WINDOW));
+	}
+
+	@Benchmark
+	public Optional<OrderRequest> streamingOnCandle() {
+		int i = index;
+		index = i + 1 < BARS ? i + 1 : WINDOW;   // 끝에 도달하면 앞부분을 다시 흘려보냄 (지표는 연속 갱신)
+		return streaming.onCandle(series, i);
+	}
+}
@@ -0,0 +1,43 @@
+package com.coinmanager.util;
+
+import com.coinmanager.bench.SyntheticCandles;
+import com.coinmanager.domain.dto.MarketData;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * /v1/candles 응답(200개) → MarketData 변환 비용, 캔들 1개 기준
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CandleMapperBenchmark {
+
+	private static final int PAGE = 200;
+
+	private List<Map<String, Object>> response;
+
+	@Setup
+	public void setup() {
+		response = SyntheticCandles.upbitResponse(PAGE, SyntheticCandles.DEFAULT_SEED);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PAGE)
+	public void toMarketData(Blackhole bh) {
+		for (Map<String, Object> m : response) {
+			MarketData md = UpbitCandleMapper.toMarketData(m, SyntheticCandles.MARKET);
+			bh.consume(md);
+		}
+	}
+}
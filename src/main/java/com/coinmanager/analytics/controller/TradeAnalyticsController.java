@@ -0,0 +1,63 @@
+package com.coinmanager.analytics.controller;
+
+import com.coinmanager.analytics.dto.RebuildResult;
+import com.coinmanager.analytics.dto.TradePage;
+import com.coinmanager.analytics.dto.TradeSummary;
+import com.coinmanager.analytics.service.TradeAnalyticsService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/analytics")
+public class TradeAnalyticsController {
+
+	private final TradeAnalyticsService service;
+
+	/* 기간 요약 – 실현손익, 거래대금, 승률, 수수료 (from ~ to, 일 단위 양끝 포함) */
+	@GetMapping("/summary")
+	public TradeSummary summary(
+		@RequestParam String market,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		return service.summary(market, from, to);
+	}
+
+	/* 일별 집계 */
+	@GetMapping("/daily")
+	public List<TradeSummary> daily(
+		@RequestParam String market,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		return service.daily(market, from, to);
+	}
+
+	/* 체결 내역 키셋 페이지 – 응답의 afterTime/afterId 를 다음 요청에 그대로 넘긴다 */
+	@GetMapping("/trades")
+	public TradePage trades(
+		@RequestParam String market,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterTime,
+		@RequestParam(required = false) Long afterId,
+		@RequestParam(defaultValue = "100") int limit) {
+
+		return service.trades(market, from, to, afterTime, afterId, limit);
+	}
+
+	/* 집계 재생성 */
+	@PostMapping("/rebuild")
+	public RebuildResult rebuild() {
+		return service.rebuild();
+	}
+}
@@ -0,0 +1,14 @@
+package com.coinmanager.analytics.dto;
+
+/**
+ * 집계 재생성 결과
+ *
+ * @param skipped 매수/매도 구분이 없는 이전 기록 수 (집계 제외)
+ */
+public record RebuildResult(
+	long rows,
+	long skipped,
+	int days,
+	long elapsedMs
+) {
+}
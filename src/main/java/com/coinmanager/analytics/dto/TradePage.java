@@ -0,0 +1,23 @@
+package com.coinmanager.analytics.dto;
+
+import com.coinmanager.domain.dto.TradeRow;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 체결 내역 키셋 페이지. 다음 페이지는 afterTime/afterId 를 그대로 넘기며, 마지막 페이지면 둘 다 null
+ */
+public record TradePage(
+	List<TradeRow> items,
+	LocalDateTime afterTime,
+	Long afterId
+) {
+
+	public static TradePage of(List<TradeRow> items, int limit) {
+		if (items.size() < limit) {
+			return new TradePage(items, null, null);
+		}
+		TradeRow last = items.get(items.size() - 1);
+		return new TradePage(items, last.executedAt(), last.id());
+	}
+}
@@ -0,0 +1,58 @@
+package com.coinmanager.analytics.dto;
+
+import com.coinmanager.domain.entity.DailyTradeStats;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 [from, to] (일 단위, 양끝 포함) 체결 집계
+ *
+ * @param turnover 매수 + 매도 원화 금액
+ * @param winRate  손익이 난 매도 중 이익 비율 (매도가 없으면 0)
+ */
+public record TradeSummary(
+	String market,
+	LocalDate from,
+	LocalDate to,
+	int trades,
+	int buys,
+	int sells,
+	BigDecimal buyNotional,
+	BigDecimal sellNotional,
+	BigDecimal turnover,
+	BigDecimal fees,
+	BigDecimal realizedPnl,
+	int wins,
+	int losses,
+	double winRate
+) {
+
+	public static TradeSummary of(String market, LocalDate from, LocalDate to, List<DailyTradeStats> days) {
+		int buys = 0;
+		int sells = 0;
+		int wins = 0;
+		int losses = 0;
+		BigDecimal buyNotional = BigDecimal.ZERO;
+		BigDecimal sellNotional = BigDecimal.ZERO;
+		BigDecimal fees = BigDecimal.ZERO;
+		BigDecimal pnl = BigDecimal.ZERO;
+		for (DailyTradeStats d : days) {
+			buys += d.getBuyCount();
+			sells += d.getSellCount();
+			wins += d.getWins();
+			losses += d.getLosses();
+			buyNotional = buyNotional.add(d.getBuyNotional());
+			sellNotional = sellNotional.add(d.getSellNotional());
+			fees = fees.add(d.getFees());
+			pnl = pnl.add(d.getRealizedPnl());
+		}
+		double winRate = wins + losses == 0 ? 0 : (double) wins / (wins + losses);
+		return new TradeSummary(market, from, to, buys + sells, buys, sells,
+			buyNotional, sellNotional, buyNotional.add(sellNotional), fees, pnl, wins, losses, winRate);
+	}
+
+	public static TradeSummary of(DailyTradeStats day) {
+		return of(day.getMarket(), day.getTradeDate(), day.getTradeDate(), List.of(day));
+	}
+}
@@ -0,0 +1,188 @@
+package com.coinmanager.analytics.service;
+
+import com.coinmanager.analytics.dto.RebuildResult;
+import com.coinmanager.analytics.dto.TradePage;
+import com.coinmanager.analytics.dto.TradeSummary;
+import com.coinmanager.domain.dto.TradeRow;
+import com.coinmanager.domain.entity.DailyTradeStats;
+import com.coinmanager.domain.entity.OrderHistory;
+import com.coinmanager.domain.entity.PositionState;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.repository.DailyTradeStatsRepository;
+import com.coinmanager.domain.repository.OrderHistoryRepository;
+import com.coinmanager.domain.repository.PositionStateRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 체결 내역 분석.
+ *
+ * <p>체결 내역은 저장될 때 같은 트랜잭션에서 마켓·일자 집계(daily_trade_stats)와
+ * 마켓별 보유 원가(position_states)에 누적되므로, 기간 요약은 일 수만큼의 행만 읽는다.
+ * 원본 조회는 키셋 페이지로, 집계 재생성은 스트리밍으로 하여 기록 양과 무관하게 메모리가 일정하다.
+ */
+@Slf4j
+@Service
+public class TradeAnalyticsService {
+
+	public static final int MAX_PAGE = 1_000;
+
+	private final OrderHistoryRepository historyRepo;
+	private final DailyTradeStatsRepository statsRepo;
+	private final PositionStateRepository positionRepo;
+	private final TransactionTemplate tx;
+
+	// 누적(record)과 재생성(rebuild)이 같은 행을 동시에 고치지 않도록 – 트랜잭션 바깥에서 잡는다
+	private final ReentrantLock rollupLock = new ReentrantLock();
+
+	public TradeAnalyticsService(
+		OrderHistoryRepository historyRepo,
+		DailyTradeStatsRepository statsRepo,
+		PositionStateRepository positionRepo,
+		PlatformTransactionManager txManager
+	) {
+		this.historyRepo = historyRepo;
+		this.statsRepo = statsRepo;
+		this.positionRepo = positionRepo;
+		this.tx = new TransactionTemplate(txManager);
+	}
+
+	/* ---------------- 쓰기 ---------------- */
+
+	/**
+	 * 체결 내역 저장 + 집계 누적 (트랜잭션 하나)
+	 */
+	public void record(List<OrderHistory> batch) {
+		rollupLock.lock();
+		try {
+			tx.executeWithoutResult(status -> {
+				historyRepo.saveAll(batch);
+				Rollup rollup = new Rollup(
+					market -> positionRepo.findById(market).orElseGet(() -> new PositionState(market)),
+					(market, date) -> statsRepo.findByMarketAndTradeDate(market, date)
+						.orElseGet(() -> new DailyTradeStats(market, date)));
+				batch.forEach(h -> rollup.apply(TradeRow.of(h)));
+				rollup.save();
+			});
+		} finally {
+			rollupLock.unlock();
+		}
+	}
+
+	/**
+	 * 집계 테이블을 비우고 전체 체결 내역에서 다시 만든다 (스키마 도입 전 기록 반영, 집계 보정용)
+	 */
+	public RebuildResult rebuild() {
+		rollupLock.lock();
+		try {
+			return tx.execute(status -> {
+				long started = System.nanoTime();
+				statsRepo.deleteAllInBatch();
+				positionRepo.deleteAllInBatch();
+
+				Rollup rollup = new Rollup(PositionState::new, DailyTradeStats::new);
+				try (Stream<TradeRow> rows = historyRepo.streamAll()) {
+					rows.forEach(rollup::apply);
+				}
+				rollup.save();
+
+				RebuildResult result = new RebuildResult(rollup.rows, rollup.skipped, rollup.dayCount(),
+					(System.nanoTime() - started) / 1_000_000);
+				log.info("체결 집계 재생성 완료 -> {}", result);
+				return result;
+			});
+		} finally {
+			rollupLock.unlock();
+		}
+	}
+
+	/* ---------------- 읽기 ---------------- */
+
+	/**
+	 * 기간 요약 – 일별 집계 행만 읽는다
+	 */
+	public TradeSummary summary(String market, LocalDate from, LocalDate to) {
+		return TradeSummary.of(market, from, to,
+			statsRepo.findByMarketAndTradeDateBetweenOrderByTradeDate(market, from, to));
+	}
+
+	public List<TradeSummary> daily(String market, LocalDate from, LocalDate to) {
+		return statsRepo.findByMarketAndTradeDateBetweenOrderByTradeDate(market, from, to).stream()
+			.map(TradeSummary::of)
+			.toList();
+	}
+
+	/**
+	 * 기간 [from, to) 체결 내역 한 페이지. 커서가 없으면 첫 페이지
+	 */
+	public TradePage trades(String market, LocalDateTime from, LocalDateTime to,
+		LocalDateTime afterTime, Long afterId, int limit) {
+
+		int size = Math.clamp(limit, 1, MAX_PAGE);
+		List<TradeRow> rows = afterTime == null
+			? historyRepo.findPageAfter(market, to, from, 0L, Limit.of(size))
+			: historyRepo.findPageAfter(market, to, afterTime, afterId != null ? afterId : 0L, Limit.of(size));
+		return TradePage.of(rows, size);
+	}
+
+	/* ---------------- 집계 ---------------- */
+
+	/**
+	 * 체결 순서대로 평균단가법 실현손익을 누적한다. 건드린 행만 메모리에 둔다 (마켓 수 × 일 수)
+	 */
+	private final class Rollup {
+
+		private final Function<String, PositionState> positionLoader;
+		private final BiFunction<String, LocalDate, DailyTradeStats> dayLoader;
+		private final Map<String, PositionState> positions = new HashMap<>();
+		private final Map<String, Map<LocalDate, DailyTradeStats>> days = new HashMap<>();
+		private long rows;
+		private long skipped;
+
+		private Rollup(Function<String, PositionState> positionLoader,
+			BiFunction<String, LocalDate, DailyTradeStats> dayLoader) {
+			this.positionLoader = positionLoader;
+			this.dayLoader = dayLoader;
+		}
+
+		private void apply(TradeRow row) {
+			rows++;
+			if (row.side() == null) {
+				skipped++;                              // 매수/매도 구분이 없던 이전 기록
+				return;
+			}
+			PositionState position = positions.computeIfAbsent(row.market(), positionLoader);
+			DailyTradeStats day = days.computeIfAbsent(row.market(), m -> new HashMap<>())
+				.computeIfAbsent(row.executedAt().toLocalDate(), d -> dayLoader.apply(row.market(), d));
+
+			if (row.side() == OrderSide.BID) {
+				position.buy(row.volume(), row.notional(), row.feeOrZero());
+				day.addBuy(row.volume(), row.notional(), row.feeOrZero());
+			} else {
+				day.addSell(row.volume(), row.notional(), row.feeOrZero(),
+					position.sell(row.volume(), row.notional(), row.feeOrZero()));
+			}
+		}
+
+		private int dayCount() {
+			return days.values().stream().mapToInt(Map::size).sum();
+		}
+
+		private void save() {
+			positionRepo.saveAll(positions.values());
+			days.values().forEach(byDate -> statsRepo.saveAll(byDate.values()));
+		}
+	}
+}
@@ -1,5 +1,16 @@
 package com.coinmanager.backtest;
 
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.backtest.io.CandleFileLoader;
+import com.coinmanager.backtest.optimize.ParameterSpace;
+import com.coinmanager.backtest.optimize.ParameterSweepOptimizer;
+import com.coinmanager.backtest.optimize.SweepResult;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.strategy.MultiFactorParams;
+import com.coinmanager.strategy.MultiFactorStrategy;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -14,12 +25,76 @@ import org.springframework.stereotype.Component;
 public class BacktestCommand implements ApplicationRunner {
 
 	private final BacktestRunner runner;
+	private final ParameterSweepOptimizer optimizer;
+	private final CandleFileLoader loader;
 
 	@Override
 	public void run(ApplicationArguments args) throws Exception {
+		boolean legacy = args.containsOption("legacy");     // --legacy : generateSignal(List) 경로
+		String strategy = option(args, "strategy", MultiFactorStrategy.NAME);   // --strategy=<이름>
+
+		if (args.containsOption("warehouse")) {           // --warehouse=KRW-BTC:1 [--from=..] [--to=..] : 로컬 캔들 창고
+			String[] key = option(args, "warehouse", "KRW-BTC:1").split(":");
+			String from = option(args, "from", null);
+			String to = option(args, "to", null);
+			log.info("백테스트 시작 -> warehouse: {}, {} ~ {}, strategy: {}, legacy: {}", key[0], from, to, strategy, legacy);
+			runner.runWarehouse(key[0], key.length > 1 ? Integer.parseInt(key[1]) : 1,
+				from == null ? null : LocalDateTime.parse(from),
+				to == null ? null : LocalDateTime.parse(to),
+				strategy, legacy);
+			System.exit(0);
+		}
+
+		if (args.containsOption("batch")) {               // --batch=<디렉터리|glob> [--threads=N] : 여러 데이터셋 동시 실행
+			String pattern = option(args, "batch", "data");
+			int threads = Integer.parseInt(option(args, "threads",
+				String.valueOf(Runtime.getRuntime().availableProcessors())));
+			List<DatasetResult> results = runner.runBatch(pattern, strategy, legacy, threads);
+			System.exit(results.stream().anyMatch(DatasetResult::failed) ? 1 : 0);   // 하나라도 실패하면 CI 에서 잡히도록
+		}
+
 		String path = args.getOptionValues("csv").getFirst();
-		log.info("백테스트 시작 -> path: {}", path);
-		runner.run(path);
+
+		if (args.containsOption("convert")) {             // --convert=<out.bin> : CSV/JSON → 바이너리
+			Path out = loader.convert(Path.of(path), Path.of(option(args, "convert", path + BinaryCandleFile.EXTENSION)));
+			log.info("바이너리 변환 완료 → {}", out.toAbsolutePath());
+			System.exit(0);
+		}
+
+		if (args.containsOption("sweep")) {               // --sweep=grid|random [--samples=N] [--threads=N]
+			sweep(path, args);
+			System.exit(0);
+		}
+
+		log.info("백테스트 시작 -> path: {}, strategy: {}, legacy: {}", path, strategy, legacy);
+		runner.run(path, strategy, legacy);
 		System.exit(0);
 	}
+
+	private void sweep(String path, ApplicationArguments args) throws Exception {
+		String mode = option(args, "sweep", "grid");
+		int samples = Integer.parseInt(option(args, "samples", "1000"));
+		int threads = Integer.parseInt(option(args, "threads",
+			String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+		CandleSeries candles = runner.loadCandles(path);
+		ParameterSpace space = ParameterSpace.defaults();
+		List<MultiFactorParams> candidates = "random".equalsIgnoreCase(mode)
+			? space.random(samples, 42L)
+			: space.grid();
+
+		List<SweepResult> ranked = optimizer.sweep(candles, candidates, threads);
+		ranked.stream().limit(10).forEach(r -> log.info("{} -> 수익률 {}%, MDD {}%, 거래 {}회",
+			r.params(), String.format("%.2f", r.result().profitPct()),
+			String.format("%.2f", r.result().mddPct()), r.result().trades()));
+
+		Path out = Path.of("data", "sweep_result.csv");
+		optimizer.writeReport(ranked, out);
+		log.info("탐색 결과 CSV 저장 완료 → {}", out.toAbsolutePath());
+	}
+
+	private static String option(ApplicationArguments args, String name, String defaultValue) {
+		List<String> values = args.getOptionValues(name);
+		return values == null || values.isEmpty() ? defaultValue : values.getFirst();
+	}
 }
@@ -0,0 +1,118 @@
+package com.coinmanager.backtest;
+
+import com.coinmanager.backtest.io.CandleStream;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.OrderRequest;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.strategy.CandleStrategy;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 이벤트 구동형 백테스트 엔진.
+ * 캔들을 한 개씩 전략에 푸시하고, 현금·보유량·평가금액·MDD 는 primitive double 로만 추적한다
+ * (핫루프에서 BigDecimal 할당 없음). 상태가 없으므로 여러 스레드에서 공유해도 된다.
+ */
+public class BacktestEngine {
+
+	public static final double DEFAULT_FEE = 0.0005;           // 업비트 수수료 0.05%
+	public static final double DEFAULT_CASH = 1_000_000;
+
+	private static final double QTY_SCALE = 1e8;               // 수량 소수 8자리 절사
+	private static final int ROLLING_SLACK = 8_192;            // 스트리밍 시 롤링 버퍼 여유분
+
+	private final double fee;
+	private final double initialCash;
+
+	public BacktestEngine() {
+		this(DEFAULT_FEE, DEFAULT_CASH);
+	}
+
+	public BacktestEngine(double fee, double initialCash) {
+		this.fee = fee;
+		this.initialCash = initialCash;
+	}
+
+	/**
+	 * 메모리에 올라온 시계열 – 전략은 series 를 그대로(복사 없이) 본다
+	 */
+	public BacktestResult run(CandleSeries candles, CandleStrategy strategy) {
+		Ledger ledger = new Ledger();
+		for (int i = 0; i < candles.size(); i++) {
+			ledger.onBar(strategy.onCandle(candles, i), candles.close(i));
+		}
+		return ledger.result(candles.market(), candles.size());
+	}
+
+	/**
+	 * 청크 스트림 – 전략에는 최근 lookback 개 이상이 항상 이어져 보이는 롤링 버퍼를 넘긴다
+	 */
+	public BacktestResult run(CandleStream stream, CandleStrategy strategy, int lookback) throws IOException {
+		Ledger ledger = new Ledger();
+		CandleSeries window = new CandleSeries(stream.market(), lookback + ROLLING_SLACK);
+		int bars = 0;
+
+		CandleSeries chunk;
+		while ((chunk = stream.next()) != null) {
+			for (int i = 0; i < chunk.size(); i++) {
+				if (window.size() == window.capacity()) {
+					window.compact(lookback);
+				}
+				window.append(chunk, i);
+				int last = window.size() - 1;
+				ledger.onBar(strategy.onCandle(window, last), window.close(last));
+				bars++;
+			}
+		}
+		return ledger.result(stream.market(), bars);
+	}
+
+	/**
+	 * 한 번의 실행 동안의 계좌 상태
+	 */
+	private final class Ledger {
+
+		private double cash = initialCash;
+		private double coin;
+		private double equity = initialCash;
+		private double peak = initialCash;
+		private double mdd;
+		private int trades;
+
+		void onBar(Optional<OrderRequest> signal, double price) {
+			if (signal.isPresent()) {
+				OrderRequest order = signal.get();
+				if (order.getSide() == OrderSide.BID) {        // 진입 금액(수수료 제외)
+					double krw = order.getPrice().doubleValue();
+					if (cash >= krw) {
+						double qty = Math.floor(krw / price * QTY_SCALE) / QTY_SCALE;
+						cash -= krw;
+						coin += qty * (1 - fee);               // 수수료 차감 후 코인 보유
+						trades++;
+					}
+				} else {                                       // 매도
+					double qty = order.getVolume().doubleValue();
+					if (coin >= qty) {
+						coin -= qty;
+						cash += qty * price * (1 - fee);       // 수수료 공제 후 현금 증가
+						trades++;
+					}
+				}
+			}
+			equity = cash + coin * price;
+
+			/* MDD 계산 */
+			if (equity > peak) {
+				peak = equity;
+			}
+			double dd = (peak - equity) / peak;
+			if (dd > mdd) {
+				mdd = dd;
+			}
+		}
+
+		BacktestResult result(String market, int bars) {
+			return new BacktestResult(market, bars, trades, initialCash, equity, mdd);
+		}
+	}
+}
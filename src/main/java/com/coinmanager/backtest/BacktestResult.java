@@ -0,0 +1,24 @@
+package com.coinmanager.backtest;
+
+/**
+ * 백테스트 1회 결과
+ *
+ * @param mdd 최대 낙폭 비율 (0.1234 = 12.34%)
+ */
+public record BacktestResult(
+	String market,
+	int bars,
+	int trades,
+	double startAsset,
+	double finalEquity,
+	double mdd
+) {
+
+	public double profitPct() {
+		return (finalEquity - startAsset) / startAsset * 100;
+	}
+
+	public double mddPct() {
+		return mdd * 100;
+	}
+}
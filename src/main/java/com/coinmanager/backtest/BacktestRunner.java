@@ -1,14 +1,15 @@
 package com.coinmanager.backtest;
 
-import com.coinmanager.domain.dto.MarketData;
-import com.coinmanager.domain.dto.OrderRequest;
-import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.backtest.io.CandleFileLoader;
+import com.coinmanager.backtest.io.CandleStream;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.strategy.CandleStrategy;
 import com.coinmanager.strategy.MultiFactorStrategy;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
+import com.coinmanager.strategy.StrategyRegistry;
+import com.coinmanager.strategy.TradingStrategy;
+import com.coinmanager.strategy.WindowedStrategyAdapter;
+import com.coinmanager.warehouse.CandleWarehouse;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,12 +18,14 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -32,104 +35,177 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class BacktestRunner {
 
-	private static final DateTimeFormatter FLEX_FMT =
-		new DateTimeFormatterBuilder()
-			.appendPattern("yyyy-MM-dd'T'HH:mm") // 기본
-			.optionalStart()
-			.appendPattern(":ss")                // 초(선택)
-			.optionalEnd()
-			.optionalStart()
-			.appendPattern("XXX")                // +09:00 오프셋(선택)
-			.optionalEnd()
-			.toFormatter();
+	private static final int LEGACY_WINDOW = 120;    // 실거래와 같은 최근 120봉 (스트리밍 롤링 버퍼 크기)
+	private static final String RESULT_HEADER = "datetime,dataset,market,strategy,profitPct,mddPct,finalEquity";
+	private static final DateTimeFormatter ROTATE_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
 
-	private final DateTimeFormatter FMT = DateTimeFormatter.ISO_DATE_TIME;
-	private final BigDecimal FEE = new BigDecimal("0.0005"); // 업비트 수수료 0.05%
-
-	private final MultiFactorStrategy strategy;
-	private final ObjectMapper mapper = new ObjectMapper();
+	private final StrategyRegistry registry;
+	private final CandleFileLoader loader;
+	private final CandleWarehouse warehouse;
+	private final BacktestEngine engine = new BacktestEngine();
 
 	public void run(String path) throws Exception {
+		run(path, MultiFactorStrategy.NAME, false);
+	}
 
-		List<MarketData> rawCandles = load(path);          // CSV or JSON
-		log.info("로드된 캔들 수 = {}", rawCandles.size());
+	/**
+	 * @param strategyName 레지스트리에 등록된 전략 이름
+	 * @param legacy       true 면 스트리밍 지표 대신 generateSignal(List) 경로(어댑터)로 실행
+	 */
+	public void run(String path, String strategyName, boolean legacy) throws Exception {
+		// 파일 전체를 메모리에 올리지 않고 청크 단위로 흘려보냄
+		try (CandleStream stream = loader.open(Path.of(path))) {
+			simulate(path, stream, registry.get(strategyName), legacy);
+		}
+	}
 
-		// 필요하면 초봉→1분봉 집계
-		List<MarketData> candles =
-			isSecondCandle(rawCandles) ? toMinuteCandles(rawCandles) : rawCandles;
+	/**
+	 * 배치 모드 – 디렉터리/glob 의 모든 캔들 파일을 고정 크기 풀에서 동시에 돌리고 data/batch_result.csv 에 모은다.
+	 * 데이터셋마다 스트리밍(CandlePipeline)이라 메모리는 파일 크기가 아니라 threads 에 비례한다.
+	 * 한 데이터셋이 실패해도 나머지는 계속 돌며, 실패 사유는 결과 표의 error 열에 남는다.
+	 */
+	public List<DatasetResult> runBatch(String pattern, String strategyName, boolean legacy, int threads)
+		throws IOException, InterruptedException {
 
-		// === 초기 상태 ===
-		BigDecimal cash = new BigDecimal("1000000");
-		BigDecimal coin = BigDecimal.ZERO;
-		BigDecimal equity = cash, startAsset = cash;
-		BigDecimal peak = equity, mdd = BigDecimal.ZERO;
+		List<Path> files = loader.resolve(pattern);
+		if (files.isEmpty()) {
+			throw new IllegalArgumentException("캔들 파일이 없음: " + pattern);
+		}
+		TradingStrategy strategy = registry.get(strategyName);
+		int parallelism = Math.max(1, Math.min(threads, files.size()));
+		log.info("배치 백테스트 시작 -> 데이터셋 {}개, strategy: {}, legacy: {}, 병렬도 {}",
+			files.size(), strategy.name(), legacy, parallelism);
 
-		// === 시뮬레이션 ===
-		for (int i = 50; i < candles.size(); i++) {        // 지표 워밍업 50봉
-			List<MarketData> slice = candles.subList(0, i + 1);
-
-			OrderRequest order = strategy.generateSignal(slice).orElse(null);
-			if (order != null) {
-				BigDecimal price = slice.getLast().getClosePrice();
-				if (order.getSide() == OrderSide.BID) {        // 진입 금액(수수료 제외)
-					BigDecimal krw = order.getPrice();
-					if (cash.compareTo(krw) >= 0) {
-						BigDecimal qty = krw.divide(price, 8, RoundingMode.DOWN);    // 지출
-						BigDecimal netQty = qty.multiply(BigDecimal.ONE.subtract(FEE));    // 수수료 차감 후 코인 보유
-						cash = cash.subtract(krw);
-						coin = coin.add(netQty);
-					}
-				} else {                                       // 매도
-					BigDecimal qty = order.getVolume();
-					if (coin.compareTo(qty) >= 0) {
-						BigDecimal gross = qty.multiply(price);                      // 매도 총액
-						BigDecimal net = gross.multiply(BigDecimal.ONE.subtract(FEE)); // 수수료 차감
-
-						coin = coin.subtract(qty);  // 보유 코인 감소
-						cash = cash.add(net);       // 수수료 공제 후 현금 증가
-					}
-				}
-			}
-			equity = cash.add(coin.multiply(slice.getLast().getClosePrice()));
+		long started = System.nanoTime();
+		AtomicInteger done = new AtomicInteger();
+		List<Callable<DatasetResult>> tasks = files.stream()
+			.<Callable<DatasetResult>>map(file -> () -> {
+				DatasetResult r = runDataset(file, strategy, legacy);
+				logDataset(done.incrementAndGet(), files.size(), r);
+				return r;
+			})
+			.toList();
 
-			/* MDD 계산 */
-			if (equity.compareTo(peak) > 0) {
-				peak = equity;
-			}
-			BigDecimal dd = peak.subtract(equity)
-				.divide(peak, 4, RoundingMode.HALF_UP);
-			if (dd.compareTo(mdd) > 0) {
-				mdd = dd;
+		List<DatasetResult> results = new ArrayList<>(files.size());
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+			Thread.ofPlatform().name("backtest-batch-", 0).daemon().factory());
+		try {
+			for (Future<DatasetResult> f : pool.invokeAll(tasks)) {
+				results.add(f.get());
 			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("배치 백테스트 실패", e.getCause());    // runDataset 이 잡지 못한 Error
+		} finally {
+			pool.shutdownNow();
 		}
 
-		BigDecimal profitPct = equity.subtract(startAsset)
-			.divide(startAsset, 4, RoundingMode.HALF_UP)
-			.multiply(BigDecimal.valueOf(100));
+		long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+		long bars = results.stream().filter(r -> !r.failed()).mapToLong(r -> r.result().bars()).sum();
+		log.info("배치 백테스트 완료 -> {}개 중 실패 {}개, {} ms, {} bars/s",
+			results.size(), results.stream().filter(DatasetResult::failed).count(), elapsedMs, bars * 1000L / elapsedMs);
 
-		log.info("============== RESULT ==============\n");
-		log.info("Total Assets : {} won\n", equity.toPlainString());
-		log.info("Yield    : {} %\n", profitPct.setScale(2, RoundingMode.HALF_UP));
-		log.info("MDD       : {} %\n", mdd.multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP));
+		Path out = Path.of("data", "batch_result.csv");
+		writeBatchReport(results, strategy.name(), out);
+		log.info("배치 결과 CSV 저장 완료 → {}", out.toAbsolutePath());
+		return results;
+	}
+
+	private DatasetResult runDataset(Path file, TradingStrategy strategy, boolean legacy) {
+		String dataset = file.toString();
+		String market = null;
+		long started = System.nanoTime();
+		try (CandleStream stream = loader.open(file)) {
+			market = stream.market();
+			BacktestResult result = backtest(stream, strategy, legacy);
+			return DatasetResult.ok(dataset, result, (System.nanoTime() - started) / 1_000_000);
+		} catch (Exception e) {
+			return DatasetResult.failed(dataset, market, (System.nanoTime() - started) / 1_000_000, e);
+		}
+	}
 
+	private void logDataset(int done, int total, DatasetResult r) {
+		if (r.failed()) {
+			log.warn("[{}/{}] {} ({}) 실패: {}", done, total, r.dataset(), r.market(), r.error());
+			return;
+		}
+		log.info("[{}/{}] {} ({}) -> 수익률 {}%, MDD {}%, 거래 {}회, {} ms", done, total, r.dataset(), r.market(),
+			String.format("%.2f", r.result().profitPct()), String.format("%.2f", r.result().mddPct()),
+			r.result().trades(), r.elapsedMs());
+	}
+
+	/**
+	 * 로컬 캔들 창고의 구간으로 실행 (from/to 는 KST, null 이면 처음/끝까지)
+	 */
+	public void runWarehouse(String market, int unit, LocalDateTime from, LocalDateTime to,
+		String strategyName, boolean legacy) throws Exception {
+		CandleSeries candles = warehouse.read(market, unit,
+			from == null ? Long.MIN_VALUE : CandleSeries.toEpochMillis(from),
+			to == null ? Long.MAX_VALUE : CandleSeries.toEpochMillis(to));
+		log.info("창고 캔들 로드 -> {} {}m, {}개", market, unit, candles.size());
+
+		simulate("warehouse:" + market + ":" + unit, CandleStream.of(candles), registry.get(strategyName), legacy);
+	}
+
+	private void simulate(String dataset, CandleStream stream, TradingStrategy strategy, boolean legacy) throws Exception {
+		// === 시뮬레이션 ===
+		long started = System.nanoTime();
+		BacktestResult result = backtest(stream, strategy, legacy);
+		long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+		log.info("============== RESULT ({}) ==============\n", strategy.name());
+		log.info("Total Assets : {} won\n", String.format("%.0f", result.finalEquity()));
+		log.info("Yield    : {} %\n", String.format("%.2f", result.profitPct()));
+		log.info("MDD       : {} %\n", String.format("%.2f", result.mddPct()));
+		log.info("Bars/sec  : {} ({} bars, {} ms)", result.bars() * 1000L / Math.max(1, elapsedMs), result.bars(), elapsedMs);
+
+		writeResult(dataset, strategy.name(), result);
+	}
+
+	/**
+	 * 스트림 하나를 끝까지 시뮬레이션한다. 전략 상태는 호출마다 새로 만들어서 여러 스레드에서 동시에 불러도 된다.
+	 */
+	private BacktestResult backtest(CandleStream stream, TradingStrategy strategy, boolean legacy) throws IOException {
+		CandleStrategy candleStrategy = legacy
+			? new WindowedStrategyAdapter(strategy, LEGACY_WINDOW)
+			: strategy.streaming(stream.market());
+		return engine.run(stream, candleStrategy, LEGACY_WINDOW);
+	}
+
+	/**
+	 * 파일 로드 + 필요하면 초봉→1분봉 집계
+	 */
+	public CandleSeries loadCandles(String path) throws Exception {
+		CandleSeries rawCandles = loader.load(Path.of(path));    // CSV, JSON or BIN
+		log.info("로드된 캔들 수 = {}", rawCandles.size());
+
+		return isSecondCandle(rawCandles) ? rawCandles.resample(60_000) : rawCandles;
+	}
+
+	private void writeResult(String dataset, String strategyName, BacktestResult result) {
 		try {
 			Path out = Path.of("data", "result.csv");
 			Files.createDirectories(out.getParent());    // data/ 폴더 자동 생성
 
+			// 열이 바뀌기 전 파일은 옆으로 치워 두고 새로 시작
+			if (Files.exists(out) && !RESULT_HEADER.equals(firstLine(out))) {
+				Path old = out.resolveSibling("result-" + LocalDateTime.now().format(ROTATE_FMT) + ".csv");
+				Files.move(out, old);
+				log.info("이전 형식 결과 CSV 이동 → {}", old.toAbsolutePath());
+			}
+
 			// 헤더가 없으면 처음 한 번만 작성
 			if (Files.notExists(out)) {
-				Files.writeString(out,
-					"datetime,profitPct,mddPct,finalEquity\n",
-					StandardOpenOption.CREATE);
+				Files.writeString(out, RESULT_HEADER + "\n", StandardOpenOption.CREATE);
 			}
 
-			String row = String.format("%s, %.2f, %.2f, %s%n",
+			String row = String.format("%s, %s, %s, %s, %.2f, %.2f, %s%n",
 				LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-				profitPct.setScale(2, RoundingMode.HALF_UP).doubleValue(),
-				mdd.multiply(BigDecimal.valueOf(100))
-					.setScale(2, RoundingMode.HALF_UP)
-					.doubleValue(),
-				equity.toPlainString()
+				csv(dataset),
+				result.market(),
+				strategyName,
+				result.profitPct(),
+				result.mddPct(),
+				BigDecimal.valueOf(result.finalEquity()).setScale(8, RoundingMode.HALF_UP).toPlainString()
 			);
 
 			Files.writeString(out, row, StandardOpenOption.APPEND);
@@ -140,94 +216,47 @@ public class BacktestRunner {
 		}
 	}
 
-	/* -----------------------------------------------------
-	   1) 파일 확장자에 따라 CSV, JSON 자동 판단
-	   ----------------------------------------------------- */
-	private List<MarketData> load(String file) throws Exception {
-		if (file.endsWith(".csv")) {
-			return loadCsv(file);
-		}
-		if (file.endsWith(".json")) {
-			return loadJson(file);
+	/**
+	 * 배치 결과 표 – 실행마다 새로 쓴다 (입력 파일 경로순)
+	 */
+	private void writeBatchReport(List<DatasetResult> results, String strategyName, Path out) throws IOException {
+		Files.createDirectories(out.toAbsolutePath().getParent());
+		try (BufferedWriter w = Files.newBufferedWriter(out)) {
+			w.write("dataset,market,strategy,bars,trades,profitPct,mddPct,finalEquity,elapsedMs,error\n");
+			for (DatasetResult r : results) {
+				BacktestResult b = r.result();
+				if (r.failed()) {
+					w.write(String.format("%s,%s,%s,,,,,,%d,%s%n",
+						csv(r.dataset()), r.market() == null ? "" : r.market(), strategyName, r.elapsedMs(), csv(r.error())));
+				} else {
+					w.write(String.format("%s,%s,%s,%d,%d,%.2f,%.2f,%.0f,%d,%n",
+						csv(r.dataset()), r.market(), strategyName, b.bars(), b.trades(),
+						b.profitPct(), b.mddPct(), b.finalEquity(), r.elapsedMs()));
+				}
+			}
 		}
-		throw new IllegalArgumentException("지원하지 않는 확장자: " + file);
 	}
 
-	/* -------------------- CSV -------------------- */
-	private List<MarketData> loadCsv(String file) throws Exception {
-		List<MarketData> list = new ArrayList<>();
-		try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-			br.readLine(); // header skip
-			String ln;
-			while ((ln = br.readLine()) != null) {
-				// CSV는 콤마·따옴표가 포함될 수 있으니 split 대신 OpenCSV 권장
-				String[] s = ln.replace("\"", "").split(",");   // ① 따옴표 제거
-
-				list.add(
-					MarketData.builder()
-						.timestamp(LocalDateTime.parse(s[0], FLEX_FMT))   // ② 유연 포맷
-						.openPrice(new BigDecimal(s[1]))
-						.highPrice(new BigDecimal(s[2]))
-						.lowPrice(new BigDecimal(s[3]))
-						.closePrice(new BigDecimal(s[4]))
-						.volume(new BigDecimal(s[5]))
-						.market("KRW-BTC")
-						.build()
-				);
-			}
+	private static String firstLine(Path file) throws IOException {
+		try (var lines = Files.lines(file)) {
+			return lines.findFirst().orElse("");
 		}
-		return list;
 	}
 
-	/* -------------------- JSON (Upbit 캔들 API) -------------------- */
-	private List<MarketData> loadJson(String file) throws Exception {
-
-		List<Map<String, Object>> arr = mapper.readValue(
-			new File(file), new TypeReference<>() {
-			});
-
-		return arr.stream()
-			.sorted(Comparator.comparing(m -> (String) m.get("candle_date_time_kst")))
-			.map(m -> MarketData.builder()
-				.timestamp(LocalDateTime.parse((String) m.get("candle_date_time_kst"), FMT))
-				.openPrice(new BigDecimal(m.get("opening_price").toString()))
-				.highPrice(new BigDecimal(m.get("high_price").toString()))
-				.lowPrice(new BigDecimal(m.get("low_price").toString()))
-				.closePrice(new BigDecimal(m.get("trade_price").toString()))
-				.volume(new BigDecimal(m.get("candle_acc_trade_volume").toString()))
-				.market("KRW-BTC")
-				.build())
-			.collect(Collectors.toList());
+	/**
+	 * 쉼표·따옴표·줄바꿈이 들어간 값은 따옴표로 감싼다 (파일 경로, 오류 메시지)
+	 */
+	private static String csv(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
 	}
 
 	/* -----------------------------------------------------
 	   2) 초봉 판별 → 1분봉 집계(선택 기능)
 	   ----------------------------------------------------- */
-	private boolean isSecondCandle(List<MarketData> data) {
-		return data.getFirst().getTimestamp().getSecond() != 0;
-	}
-
-	private List<MarketData> toMinuteCandles(List<MarketData> sec) {
-		return sec.stream()
-			.collect(Collectors.groupingBy(md ->
-				md.getTimestamp().withSecond(0).withNano(0))) // 분 키
-			.entrySet().stream()
-			.map(e -> {
-				List<MarketData> list = e.getValue();
-				return MarketData.builder()
-					.timestamp(e.getKey())
-					.openPrice(list.getFirst().getOpenPrice())
-					.highPrice(list.stream().map(MarketData::getHighPrice)
-						.max(BigDecimal::compareTo).orElse(java.math.BigDecimal.ZERO))
-					.lowPrice(list.stream().map(MarketData::getLowPrice)
-						.min(BigDecimal::compareTo).orElse(BigDecimal.ZERO))
-					.closePrice(list.getLast().getClosePrice())
-					.volume(list.stream().map(MarketData::getVolume)
-						.reduce(BigDecimal.ZERO, BigDecimal::add))
-					.market("KRW-BTC")
-					.build();
-			})
-			.sorted(Comparator.comparing(MarketData::getTimestamp))
-			.collect(Collectors.toList());
+	private boolean isSecondCandle(CandleSeries data) {
+		return data.timestamp(0).getSecond() != 0;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.coinmanager.backtest;
+
+/**
+ * 배치 백테스트에서 데이터셋(파일) 하나의 결과
+ *
+ * @param result 실패하면 null
+ * @param error  실패 사유 (성공이면 null)
+ */
+public record DatasetResult(
+	String dataset,
+	String market,
+	BacktestResult result,
+	long elapsedMs,
+	String error
+) {
+
+	static DatasetResult ok(String dataset, BacktestResult result, long elapsedMs) {
+		return new DatasetResult(dataset, result.market(), result, elapsedMs, null);
+	}
+
+	static DatasetResult failed(String dataset, String market, long elapsedMs, Throwable cause) {
+		String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+		return new DatasetResult(dataset, market, null, elapsedMs, message);
+	}
+
+	public boolean failed() {
+		return error != null;
+	}
+}
@@ -2,6 +2,7 @@ package com.coinmanager.backtest;
 
 import com.coinmanager.service.RiskManagerService;
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -17,4 +18,9 @@ public class StubRiskManagerService extends RiskManagerService {
 	public BigDecimal krwPositionSize() {
 		return new BigDecimal("2000000");
 	}
+
+	@Override
+	public CompletableFuture<BigDecimal> krwPositionSizeAsync() {
+		return CompletableFuture.completedFuture(krwPositionSize());
+	}
 }
@@ -1,12 +1,16 @@
 package com.coinmanager.backtest;
 
+import com.coinmanager.domain.account.AccountSnapshot;
 import com.coinmanager.domain.dto.MarketData;
 import com.coinmanager.domain.dto.OrderRequest;
 import com.coinmanager.domain.dto.OrderResponse;
 import com.coinmanager.domain.dto.PriceLimitInfo;
 import com.coinmanager.service.UpbitApiClient;
+import com.coinmanager.service.ratelimit.RequestPriority;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -17,7 +21,7 @@ import org.springframework.stereotype.Component;
 public class StubUpbitApiClient extends UpbitApiClient {
 
 	public StubUpbitApiClient() {
-		super(null, null);
+		super(null, null, null, null);
 	}
 
 	@Override
@@ -25,6 +29,11 @@ public class StubUpbitApiClient extends UpbitApiClient {
 		throw new UnsupportedOperationException("백테스트에선 지원하지 않음");
 	}
 
+	@Override
+	public List<MarketData> getMarketData(String m, int u, int c, String t, RequestPriority p) {
+		throw new UnsupportedOperationException("백테스트에선 지원하지 않음");
+	}
+
 	@Override
 	public PriceLimitInfo getPriceLimit(String market) {
 		PriceLimitInfo info = new PriceLimitInfo();
@@ -33,18 +42,25 @@ public class StubUpbitApiClient extends UpbitApiClient {
 		return info;
 	}
 
+	@Override
+	public CompletableFuture<PriceLimitInfo> getPriceLimitAsync(String market) {
+		return CompletableFuture.completedFuture(getPriceLimit(market));   // 백테스트는 스레드를 옮기지 않는다
+	}
+
 	@Override
 	public OrderResponse createOrder(OrderRequest r) {
 		return new OrderResponse();
 	}
 
 	@Override
-	public BigDecimal getTotalAssetKrw() {
-		return new BigDecimal("1000000");
+	public Optional<OrderResponse> findOrder(String identifier) {
+		return Optional.empty();
 	}
 
 	@Override
-	public BigDecimal getCoinBalance(String coin) {
-		return new BigDecimal("0");
+	public AccountSnapshot getAccounts() {
+		return AccountSnapshot.of(List.of(
+			new AccountSnapshot.Balance(AccountSnapshot.KRW, new BigDecimal("1000000"), BigDecimal.ZERO, BigDecimal.ZERO)
+		));
 	}
 }
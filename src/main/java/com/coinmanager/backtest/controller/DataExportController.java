@@ -1,10 +1,13 @@
 package com.coinmanager.backtest.controller;
 
 import com.coinmanager.backtest.service.DataExportService;
+import com.coinmanager.domain.candle.CandleSeries;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -25,13 +28,21 @@ public class DataExportController {
 		@RequestParam String market,
 		@RequestParam(defaultValue = "1") int unit,
 		@RequestParam(defaultValue = "1000") int count,
-		@RequestParam(defaultValue = "json") String format) throws Exception {
+		@RequestParam(defaultValue = "json") String format,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to)
+		throws Exception {
 
-		Path file = service.exportCandles(market, unit, count, format);
+		// from 이 있으면 기간(KST) 기준, 없으면 최근 count 개
+		Path file = from != null
+			? service.exportRange(market, unit, from, to != null ? to : LocalDateTime.now(CandleSeries.KST), format)
+			: service.exportCandles(market, unit, count, format);
 		ByteArrayResource res = new ByteArrayResource(Files.readAllBytes(file));
-		MediaType type = format.equalsIgnoreCase("csv")
-			? MediaType.TEXT_PLAIN
-			: MediaType.APPLICATION_JSON;
+		MediaType type = switch (format.toLowerCase()) {
+			case "csv" -> MediaType.TEXT_PLAIN;
+			case "bin" -> MediaType.APPLICATION_OCTET_STREAM;
+			default -> MediaType.APPLICATION_JSON;
+		};
 
 		return ResponseEntity.ok()
 			.contentType(type)
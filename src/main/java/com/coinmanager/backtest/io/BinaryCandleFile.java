@@ -0,0 +1,304 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 고정 길이 바이너리 캔들 파일 (.bin)
+ *
+ * <pre>
+ * [헤더 64 byte]
+ *   magic "CMCANDL1"(8) | version int(4) | unit int(4, 분) | count long(8) | scale long(8)
+ *   | market 길이 short(2) + UTF-8(최대 30) | padding
+ * [레코드 48 byte × count]
+ *   epochMillis long | open | high | low | close | volume  (가격·거래량은 × scale 고정소수 long)
+ * </pre>
+ * 리틀엔디언이며, 읽기는 FileChannel.map 으로 페이지 캐시를 그대로 사용한다.
+ */
+@UtilityClass
+public class BinaryCandleFile {
+
+	public final String EXTENSION = ".bin";
+
+	private final byte[] MAGIC = "CMCANDL1".getBytes(StandardCharsets.US_ASCII);
+	private final int VERSION = 1;
+	private final int HEADER_SIZE = 64;
+	private final int COUNT_OFFSET = 16;                      // magic(8) + version(4) + unit(4)
+	private final int RECORD_SIZE = 48;
+	private final int MAX_MARKET_BYTES = 30;
+	private final long SCALE = 100_000_000L;                  // 소수 8자리
+	private final double MAX_VALUE = (double) Long.MAX_VALUE / SCALE;
+	private final int RECORDS_PER_MAP = Integer.MAX_VALUE / RECORD_SIZE;   // 매핑 1회 최대 레코드 수
+	private final int WRITE_BATCH = 4096;
+
+	public record Header(String market, int unit, long count) {
+	}
+
+	/* ---------------- 쓰기 ---------------- */
+	public void write(CandleSeries series, int unit, Path out) throws IOException {
+		try (FileChannel ch = FileChannel.open(out,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			writeFully(ch, header(series.market(), unit, series.size()), 0);
+			writeRecords(ch, HEADER_SIZE, series, 0, series.size());
+		}
+	}
+
+	/**
+	 * 기존 파일 끝에 series[from, to) 를 덧붙인다.
+	 * 레코드를 먼저 기록·flush 한 뒤 헤더의 count 를 갱신하므로, 도중에 중단돼도 이전 count 기준으로 온전하다.
+	 *
+	 * @return 갱신된 전체 캔들 수
+	 */
+	public long append(Path file, CandleSeries series, int from, int to) throws IOException {
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			Header header = readHeader(ch);
+			writeRecords(ch, HEADER_SIZE + header.count() * RECORD_SIZE, series, from, to);
+			ch.force(false);
+
+			long count = header.count() + (to - from);
+			ByteBuffer c = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(count);
+			writeFully(ch, c.flip(), COUNT_OFFSET);
+			return count;
+		}
+	}
+
+	/* ---------------- 읽기 ---------------- */
+	public Header readHeader(Path in) throws IOException {
+		try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			return readHeader(ch);
+		}
+	}
+
+	public CandleSeries read(Path in) throws IOException {
+		try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			Header header = readHeader(ch);
+			return read(ch, in, header, 0, header.count());
+		}
+	}
+
+	/**
+	 * [from, from + n) 번째 레코드만 매핑해서 읽는다
+	 */
+	public CandleSeries read(Path in, long from, long n) throws IOException {
+		try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			Header header = readHeader(ch);
+			if (from < 0 || n < 0 || from + n > header.count()) {
+				throw new IndexOutOfBoundsException("범위 [" + from + ", " + (from + n) + ") / " + header.count());
+			}
+			return read(ch, in, header, from, n);
+		}
+	}
+
+	/**
+	 * 파일 전체를 힙에 올리지 않고 chunk 개씩 매핑해 읽는 스트림. 청크 버퍼 하나를 재사용한다
+	 */
+	public CandleStream stream(Path in, int chunk) throws IOException {
+		FileChannel ch = FileChannel.open(in, StandardOpenOption.READ);
+		try {
+			Header header = readHeader(ch);
+			checkSize(ch, in, header);
+			return new CandleStream() {
+				private final CandleSeries buffer = new CandleSeries(header.market(), chunk);
+				private long next;
+
+				@Override
+				public String market() {
+					return header.market();
+				}
+
+				@Override
+				public CandleSeries next() throws IOException {
+					if (next >= header.count()) {
+						return null;
+					}
+					int n = (int) Math.min(chunk, header.count() - next);
+					buffer.clear();
+					readInto(ch, buffer, next, n);
+					next += n;
+					return buffer;
+				}
+
+				@Override
+				public void close() throws IOException {
+					ch.close();
+				}
+			};
+		} catch (IOException | RuntimeException e) {
+			ch.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 시각이 epochMillis 이상인 첫 레코드 번호 (레코드는 시간 오름차순이어야 함). 없으면 count
+	 */
+	public long lowerBound(Path in, long epochMillis) throws IOException {
+		try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			long lo = 0;
+			long hi = readHeader(ch).count();
+			while (lo < hi) {
+				long mid = (lo + hi) >>> 1;
+				if (timeAt(ch, mid) < epochMillis) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+	}
+
+	/**
+	 * index 번째 레코드의 시각
+	 */
+	public long timeAt(Path in, long index) throws IOException {
+		try (FileChannel ch = FileChannel.open(in, StandardOpenOption.READ)) {
+			return timeAt(ch, index);
+		}
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private CandleSeries read(FileChannel ch, Path in, Header header, long from, long n) throws IOException {
+		if (n > Integer.MAX_VALUE) {
+			throw new IOException("CandleSeries 한도를 넘는 캔들 수: " + n);
+		}
+		checkSize(ch, in, header);
+
+		CandleSeries series = new CandleSeries(header.market(), (int) n);
+		readInto(ch, series, from, n);
+		return series;
+	}
+
+	private void checkSize(FileChannel ch, Path in, Header header) throws IOException {
+		long expected = HEADER_SIZE + header.count() * RECORD_SIZE;
+		if (ch.size() < expected) {
+			throw new IOException("잘린 캔들 파일: " + in + " (" + ch.size() + " < " + expected + ")");
+		}
+	}
+
+	/**
+	 * [from, from + n) 번째 레코드를 series 뒤에 붙인다
+	 */
+	private void readInto(FileChannel ch, CandleSeries series, long from, long n) throws IOException {
+		long done = 0;
+		while (done < n) {
+			int chunk = (int) Math.min(RECORDS_PER_MAP, n - done);
+			MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY,
+				HEADER_SIZE + (from + done) * RECORD_SIZE, (long) chunk * RECORD_SIZE);
+			LongBuffer lb = map.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+			for (int i = 0; i < chunk; i++) {
+				series.append(
+					lb.get(),
+					fromFixed(lb.get()),
+					fromFixed(lb.get()),
+					fromFixed(lb.get()),
+					fromFixed(lb.get()),
+					fromFixed(lb.get())
+				);
+			}
+			done += chunk;
+		}
+	}
+
+	private void writeRecords(FileChannel ch, long position, CandleSeries series, int from, int to) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocateDirect(RECORD_SIZE * WRITE_BATCH).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = from; i < to; i++) {
+			buf.putLong(series.time(i))
+				.putLong(toFixed(series.open(i)))
+				.putLong(toFixed(series.high(i)))
+				.putLong(toFixed(series.low(i)))
+				.putLong(toFixed(series.close(i)))
+				.putLong(toFixed(series.volume(i)));
+			if (!buf.hasRemaining()) {
+				position = writeFully(ch, buf.flip(), position);
+				buf.clear();
+			}
+		}
+		writeFully(ch, buf.flip(), position);
+	}
+
+	private long timeAt(FileChannel ch, long index) throws IOException {
+		ByteBuffer t = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		long pos = HEADER_SIZE + index * RECORD_SIZE;
+		while (t.hasRemaining()) {
+			if (ch.read(t, pos + t.position()) < 0) {
+				throw new IOException("레코드 범위 밖: " + index);
+			}
+		}
+		return t.getLong(0);
+	}
+
+	private ByteBuffer header(String market, int unit, long count) {
+		byte[] name = market.getBytes(StandardCharsets.UTF_8);
+		if (name.length > MAX_MARKET_BYTES) {
+			throw new IllegalArgumentException("마켓 코드가 너무 김: " + market);
+		}
+		ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		h.put(MAGIC)
+			.putInt(VERSION)
+			.putInt(unit)
+			.putLong(count)
+			.putLong(SCALE)
+			.putShort((short) name.length)
+			.put(name);
+		return h.clear();
+	}
+
+	private Header readHeader(FileChannel ch) throws IOException {
+		ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		while (h.hasRemaining()) {
+			if (ch.read(h, h.position()) < 0) {
+				throw new IOException("헤더가 잘린 캔들 파일");
+			}
+		}
+		h.flip();
+
+		byte[] magic = new byte[MAGIC.length];
+		h.get(magic);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("캔들 바이너리 파일이 아님");
+		}
+		int version = h.getInt();
+		if (version != VERSION) {
+			throw new IOException("지원하지 않는 버전: " + version);
+		}
+		int unit = h.getInt();
+		long count = h.getLong();
+		long scale = h.getLong();
+		if (scale != SCALE) {
+			throw new IOException("지원하지 않는 scale: " + scale);
+		}
+		byte[] name = new byte[h.getShort()];
+		h.get(name);
+		return new Header(new String(name, StandardCharsets.UTF_8), unit, count);
+	}
+
+	private long writeFully(FileChannel ch, ByteBuffer buf, long position) throws IOException {
+		while (buf.hasRemaining()) {
+			position += ch.write(buf, position);
+		}
+		return position;
+	}
+
+	private long toFixed(double v) {
+		if (Math.abs(v) > MAX_VALUE) {
+			throw new IllegalArgumentException("고정소수 범위 초과: " + v);
+		}
+		return Math.round(v * SCALE);
+	}
+
+	private double fromFixed(long v) {
+		return (double) v / SCALE;
+	}
+}
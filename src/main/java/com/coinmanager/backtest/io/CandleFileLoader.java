@@ -0,0 +1,209 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleAggregator;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.candle.CandleSink;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백테스트 입력 파일(CSV / Upbit JSON / 바이너리) 로더
+ */
+@Slf4j
+@Component
+public class CandleFileLoader {
+
+	private static final String DEFAULT_MARKET = "KRW-BTC";
+	private static final int CHUNK_SIZE = 8_192;          // 파이프라인 청크 (캔들 수)
+	private static final int PIPELINE_DEPTH = 4;
+	private static final int SPILL_CHUNK_SIZE = 1 << 20;  // 역순 JSON 을 뒤집을 때 메모리에 둘 최대 캔들 수
+	private static final int SNIFF_BYTES = 4_096;         // JSON 앞부분만 읽어 market 필드를 찾는다
+
+	private static final Pattern MARKET_FIELD = Pattern.compile("\"market\"\\s*:\\s*\"([A-Z]+-[A-Z0-9]+)\"");
+	// DataExportService 파일명(KRWBTC_1m_...) 또는 KRW-BTC.csv 같은 이름
+	private static final Pattern MARKET_FILE_NAME = Pattern.compile("^(KRW|BTC|USDT)-?([A-Z0-9]+)(?:[_.\\-]|$)");
+
+	/* -----------------------------------------------------
+	   1) 파일 확장자에 따라 CSV, JSON, BIN 자동 판단
+	   ----------------------------------------------------- */
+
+	/**
+	 * 전체를 메모리에 올린다 (파라미터 탐색처럼 같은 데이터를 여러 번 쓸 때)
+	 */
+	public CandleSeries load(Path path) throws IOException {
+		if (isBinary(path)) {
+			return BinaryCandleFile.read(path);
+		}
+		CandleSeries series = new CandleSeries(inferMarket(path));
+		parse(path, series::append);
+		series.sortByTime();    // Upbit 응답은 최신순
+		series.trimToSize();
+		return series;
+	}
+
+	/**
+	 * 파일 전체를 만들지 않고 청크 단위로 흘려보낸다. 초봉은 1분봉으로, 역순은 오름차순으로 바꿔서 내보낸다.
+	 */
+	public CandleStream open(Path path) throws IOException {
+		if (isBinary(path)) {
+			return BinaryCandleFile.stream(path, CHUNK_SIZE);       // 청크 단위 mmap – 파일 전체를 힙에 올리지 않는다
+		}
+		String file = path.toString();
+		if (!file.endsWith(".csv") && !file.endsWith(".json")) {
+			throw new IllegalArgumentException("지원하지 않는 확장자: " + file);
+		}
+
+		String market = inferMarket(path);
+		return new CandlePipeline(market, CHUNK_SIZE, PIPELINE_DEPTH, sink -> {
+			CandleAggregator minute = CandleAggregator.minuteIfSecondCandles(sink);
+			ReverseChronologicalBuffer ordered = new ReverseChronologicalBuffer(market, SPILL_CHUNK_SIZE, minute);
+			parse(path, ordered);
+			ordered.finish();
+			minute.flush();
+		});
+	}
+
+	/**
+	 * 배치 입력 해석 – 디렉터리면 바로 아래의 지원 파일 전부, 아니면 glob(data/*_1m_*.csv, data/**.bin 등).
+	 * 백테스트가 같은 data/ 에 남기는 결과 표(result.csv, batch_result.csv, sweep_result.csv …)는 제외한다.
+	 * 결과는 경로순으로 정렬한다.
+	 */
+	public List<Path> resolve(String pattern) throws IOException {
+		Path dir = Path.of(pattern);
+		if (Files.isDirectory(dir)) {
+			try (Stream<Path> files = Files.list(dir)) {
+				return files.filter(Files::isRegularFile).filter(CandleFileLoader::isCandleInput).sorted().toList();
+			}
+		}
+
+		// 와일드카드가 처음 나오는 구간 앞까지를 탐색 시작점으로
+		int wildcard = indexOfWildcard(pattern);
+		if (wildcard < 0) {
+			return Files.isRegularFile(dir) ? List.of(dir) : List.of();
+		}
+		int slash = Math.max(pattern.lastIndexOf('/', wildcard), pattern.lastIndexOf('\\', wildcard));
+		Path base = slash < 0 ? Path.of("") : Path.of(pattern.substring(0, slash + 1));
+		int depth = pattern.contains("**") ? Integer.MAX_VALUE : (int) pattern.substring(slash + 1).chars().filter(c -> c == '/').count() + 1;
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+
+		try (Stream<Path> files = Files.walk(base.toString().isEmpty() ? Path.of(".") : base, depth)) {
+			return files
+				.filter(Files::isRegularFile)
+				.map(p -> base.toString().isEmpty() ? Path.of(".").relativize(p) : p)
+				.filter(matcher::matches)
+				.filter(CandleFileLoader::isCandleInput)
+				.sorted()
+				.toList();
+		}
+	}
+
+	/**
+	 * CSV/JSON → 바이너리(.bin) 변환. unit 을 모르면 첫 두 캔들 간격으로 추정한다.
+	 */
+	public Path convert(Path in, Path out) throws IOException {
+		CandleSeries series = load(in);
+		BinaryCandleFile.write(series, inferUnitMinutes(series), out);
+		return out;
+	}
+
+	public static int inferUnitMinutes(CandleSeries series) {
+		if (series.size() < 2) {
+			return 1;
+		}
+		return (int) Math.max(1, (series.time(1) - series.time(0)) / 60_000);
+	}
+
+	/**
+	 * 마켓 코드 추정 – JSON 의 market 필드 → 파일명 → 기본값(KRW-BTC) 순.
+	 * 바이너리는 헤더에 마켓이 있으므로 여기까지 오지 않는다.
+	 */
+	public String inferMarket(Path path) throws IOException {
+		Optional<String> market = path.toString().endsWith(".json") ? sniffJsonMarket(path) : Optional.empty();
+		return market
+			.or(() -> marketFromFileName(path))
+			.orElseGet(() -> {
+				log.warn("마켓을 알 수 없는 파일 → {} 로 간주: {}", DEFAULT_MARKET, path);
+				return DEFAULT_MARKET;
+			});
+	}
+
+	/**
+	 * KRWBTC_1m_20000.csv → KRW-BTC, krw-eth.json → KRW-ETH
+	 */
+	static Optional<String> marketFromFileName(Path path) {
+		Matcher m = MARKET_FILE_NAME.matcher(path.getFileName().toString().toUpperCase(Locale.ROOT));
+		return m.find() ? Optional.of(m.group(1) + "-" + m.group(2)) : Optional.empty();
+	}
+
+	private static Optional<String> sniffJsonMarket(Path path) throws IOException {
+		byte[] head;
+		try (InputStream in = Files.newInputStream(path)) {
+			head = in.readNBytes(SNIFF_BYTES);
+		}
+		Matcher m = MARKET_FIELD.matcher(new String(head, StandardCharsets.UTF_8));
+		return m.find() ? Optional.of(m.group(1)) : Optional.empty();
+	}
+
+	/* -------------------- CSV / JSON (Upbit 캔들 API) -------------------- */
+	private void parse(Path path, CandleSink sink) throws IOException {
+		String file = path.toString();
+		if (file.endsWith(".csv")) {
+			try (Reader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+				new CsvCandleReader(r).readAll(sink);
+			}
+			return;
+		}
+		if (file.endsWith(".json")) {
+			try (InputStream in = new BufferedInputStream(Files.newInputStream(path), 1 << 16)) {
+				new JsonCandleReader(in).readAll(sink);
+			}
+			return;
+		}
+		throw new IllegalArgumentException("지원하지 않는 확장자: " + file);
+	}
+
+	private static boolean isSupported(Path path) {
+		String file = path.toString();
+		return file.endsWith(".csv") || file.endsWith(".json") || isBinary(path);
+	}
+
+	private static boolean isCandleInput(Path path) {
+		return isSupported(path) && !isReport(path);
+	}
+
+	/**
+	 * 백테스트 결과 CSV (*result*.csv)
+	 */
+	private static boolean isReport(Path path) {
+		String name = path.getFileName().toString();
+		return name.endsWith(".csv") && name.contains("result");
+	}
+
+	private static int indexOfWildcard(String pattern) {
+		for (int i = 0; i < pattern.length(); i++) {
+			if ("*?[{".indexOf(pattern.charAt(i)) >= 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isBinary(Path path) {
+		return path.toString().endsWith(BinaryCandleFile.EXTENSION);
+	}
+}
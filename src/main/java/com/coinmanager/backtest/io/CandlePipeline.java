@@ -0,0 +1,139 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.candle.CandleSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파서(생산자 스레드) → 시뮬레이션(소비자) 사이의 제한 크기 파이프라인.
+ * 고정 개수의 청크 버퍼를 돌려 쓰므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+public class CandlePipeline implements CandleStream {
+
+	@FunctionalInterface
+	public interface Producer {
+		void produce(CandleSink sink) throws IOException;
+	}
+
+	private final String market;
+	private final int chunkSize;
+	private final BlockingQueue<CandleSeries> full;
+	private final BlockingQueue<CandleSeries> free;
+	private final CandleSeries eof;
+	private final Thread worker;
+
+	private volatile Throwable failure;
+	private CandleSeries filling;         // 생산자 전용
+	private CandleSeries current;         // 소비자 전용
+
+	/**
+	 * @param depth 생산자가 소비자보다 앞서 채워 둘 수 있는 청크 수
+	 */
+	public CandlePipeline(String market, int chunkSize, int depth, Producer producer) {
+		this.market = market;
+		this.chunkSize = chunkSize;
+		this.full = new ArrayBlockingQueue<>(depth + 1);
+		this.free = new ArrayBlockingQueue<>(depth + 2);
+		for (int i = 0; i < depth + 2; i++) {
+			free.add(new CandleSeries(market, chunkSize));
+		}
+		this.eof = new CandleSeries(market, 1);
+		this.worker = Thread.ofPlatform()
+			.name("candle-pipeline-" + market)
+			.daemon()
+			.start(() -> produce(producer));
+	}
+
+	@Override
+	public String market() {
+		return market;
+	}
+
+	@Override
+	public CandleSeries next() throws IOException {
+		if (current != null) {
+			free.offer(current);              // 직전 청크 반납
+			current = null;
+		}
+		CandleSeries chunk;
+		try {
+			chunk = full.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("캔들 파이프라인 대기 중 인터럽트", e);
+		}
+		if (chunk == eof) {
+			full.offer(eof);                  // 반복 호출에도 계속 null
+			rethrowFailure();
+			return null;
+		}
+		current = chunk;
+		return chunk;
+	}
+
+	@Override
+	public void close() {
+		worker.interrupt();
+	}
+
+	/* ---------------- 생산자 스레드 ---------------- */
+	private void produce(Producer producer) {
+		try {
+			filling = takeFree();
+			producer.produce(this::append);
+			if (!filling.isEmpty()) {
+				full.put(filling);
+			}
+			full.put(eof);
+			return;
+		} catch (CancellationException e) {
+			log.debug("캔들 파이프라인 취소: {}", market);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Throwable t) {
+			failure = t;
+		}
+		full.clear();                         // 실패·취소 → 남은 청크는 버리고 EOF 로 종료 알림
+		full.offer(eof);
+	}
+
+	private void append(long t, double o, double h, double l, double c, double v) {
+		filling.append(t, o, h, l, c, v);
+		if (filling.size() < chunkSize) {
+			return;
+		}
+		try {
+			full.put(filling);
+			filling = takeFree();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("캔들 파이프라인 중단");
+		}
+	}
+
+	private CandleSeries takeFree() throws InterruptedException {
+		CandleSeries chunk = free.take();
+		chunk.clear();
+		return chunk;
+	}
+
+	private void rethrowFailure() throws IOException {
+		Throwable t = failure;
+		if (t == null) {
+			return;
+		}
+		if (t instanceof IOException io) {
+			throw io;
+		}
+		if (t instanceof UncheckedIOException uio) {
+			throw uio.getCause();
+		}
+		throw new IOException("캔들 파싱 실패: " + market, t);
+	}
+}
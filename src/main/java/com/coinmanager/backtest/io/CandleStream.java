@@ -0,0 +1,48 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import java.io.IOException;
+
+/**
+ * 시간 오름차순 캔들을 청크 단위로 꺼내는 스트림.
+ * 반환된 청크는 다음 next() 호출 전까지만 유효하다(버퍼 재사용).
+ */
+public interface CandleStream extends AutoCloseable {
+
+	String market();
+
+	/**
+	 * @return 다음 청크, 끝이면 null
+	 */
+	CandleSeries next() throws IOException;
+
+	@Override
+	void close() throws IOException;
+
+	/**
+	 * 이미 메모리에 있는 시계열을 청크 하나짜리 스트림으로
+	 */
+	static CandleStream of(CandleSeries series) {
+		return new CandleStream() {
+			private boolean consumed;
+
+			@Override
+			public String market() {
+				return series.market();
+			}
+
+			@Override
+			public CandleSeries next() {
+				if (consumed) {
+					return null;
+				}
+				consumed = true;
+				return series;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+}
@@ -0,0 +1,106 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSink;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * timestamp,open,high,low,close,volume CSV 스트리밍 토크나이저.
+ * 줄 단위 String 이나 split 배열을 만들지 않고 char 버퍼 위에서 바로 필드를 파싱한다.
+ */
+public class CsvCandleReader {
+
+	private static final int FIELDS = 6;
+
+	private final Reader in;
+	private char[] buf = new char[1 << 16];
+	private final int[] start = new int[FIELDS];
+	private final int[] end = new int[FIELDS];
+
+	public CsvCandleReader(Reader in) {
+		this.in = in;
+	}
+
+	/**
+	 * 첫 줄(헤더)을 건너뛰고 모든 행을 sink 로 보낸다
+	 */
+	public void readAll(CandleSink sink) throws IOException {
+		int len = 0;
+		int pos = 0;
+		boolean header = true;
+
+		while (true) {
+			int eol = indexOf('\n', pos, len);
+			if (eol < 0) {
+				// 버퍼 끝에 걸친 줄 → 앞으로 당기고 더 읽기
+				int rem = len - pos;
+				System.arraycopy(buf, pos, buf, 0, rem);
+				len = rem;
+				pos = 0;
+				if (len == buf.length) {
+					buf = Arrays.copyOf(buf, buf.length * 2);
+				}
+				int n = in.read(buf, len, buf.length - len);
+				if (n < 0) {
+					if (len > 0 && !header) {
+						parseLine(0, len, sink);
+					}
+					return;
+				}
+				len += n;
+				continue;
+			}
+
+			int lineEnd = eol > pos && buf[eol - 1] == '\r' ? eol - 1 : eol;
+			if (header) {
+				header = false;
+			} else if (lineEnd > pos) {
+				parseLine(pos, lineEnd, sink);
+			}
+			pos = eol + 1;
+		}
+	}
+
+	private void parseLine(int from, int to, CandleSink sink) {
+		int field = 0;
+		int fieldStart = from;
+		for (int i = from; i <= to && field < FIELDS; i++) {
+			if (i == to || buf[i] == ',') {
+				int s = fieldStart;
+				int e = i;
+				while (s < e && (buf[s] == '"' || buf[s] == ' ')) {    // 따옴표·공백 제거
+					s++;
+				}
+				while (e > s && (buf[e - 1] == '"' || buf[e - 1] == ' ')) {
+					e--;
+				}
+				start[field] = s;
+				end[field] = e;
+				field++;
+				fieldStart = i + 1;
+			}
+		}
+		if (field < FIELDS) {
+			throw new IllegalArgumentException("필드 부족: " + new String(buf, from, to - from));
+		}
+
+		sink.accept(
+			FastParse.epochMillis(buf, start[0], end[0] - start[0]),
+			FastParse.parseDouble(buf, start[1], end[1] - start[1]),
+			FastParse.parseDouble(buf, start[2], end[2] - start[2]),
+			FastParse.parseDouble(buf, start[3], end[3] - start[3]),
+			FastParse.parseDouble(buf, start[4], end[4] - start[4]),
+			FastParse.parseDouble(buf, start[5], end[5] - start[5])
+		);
+	}
+
+	private int indexOf(char c, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buf[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,128 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 대용량 입력용 무할당 파서 – char 배열 구간을 String 생성 없이 바로 숫자로 읽는다.
+ */
+@UtilityClass
+public class FastParse {
+
+	private final long KST_OFFSET_MILLIS = CandleSeries.KST.getTotalSeconds() * 1000L;
+	private final long MAX_EXACT_MANTISSA = 1L << 53;
+	private final double[] POW10 = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * yyyy-MM-dd'T'HH:mm[:ss[.SSS]][Z|±HH:mm] → epoch millis. 오프셋이 없으면 KST 로 본다.
+	 * 날짜와 시간 사이는 'T' 또는 공백 모두 허용.
+	 */
+	public long epochMillis(char[] b, int off, int len) {
+		if (len < 16 || b[off + 4] != '-' || b[off + 7] != '-' || b[off + 13] != ':') {
+			throw new IllegalArgumentException("시각 형식 오류: " + new String(b, off, len));
+		}
+		int year = digits(b, off, 4);
+		int month = digits(b, off + 5, 2);
+		int day = digits(b, off + 8, 2);
+		int hour = digits(b, off + 11, 2);
+		int minute = digits(b, off + 14, 2);
+
+		int p = off + 16;
+		int end = off + len;
+		int second = 0;
+		int millis = 0;
+		if (p < end && b[p] == ':') {
+			second = digits(b, p + 1, 2);
+			p += 3;
+			if (p < end && b[p] == '.') {               // 소수 초 → 앞 3자리만
+				p++;
+				int scale = 100;
+				while (p < end && b[p] >= '0' && b[p] <= '9') {
+					millis += (b[p] - '0') * scale;
+					scale /= 10;
+					p++;
+				}
+			}
+		}
+
+		long offsetMillis = KST_OFFSET_MILLIS;
+		if (p < end) {
+			if (b[p] == 'Z') {
+				offsetMillis = 0;
+			} else if (b[p] == '+' || b[p] == '-') {
+				int sign = b[p] == '+' ? 1 : -1;
+				offsetMillis = sign * (digits(b, p + 1, 2) * 3_600_000L + digits(b, p + 4, 2) * 60_000L);
+			}
+		}
+
+		long days = daysFromCivil(year, month, day);
+		return days * 86_400_000L + hour * 3_600_000L + minute * 60_000L + second * 1000L + millis - offsetMillis;
+	}
+
+	/**
+	 * 일반 소수(부호, 소수점, 지수 선택)를 double 로. 유효숫자가 53bit 를 넘으면 표준 파서로 위임한다.
+	 */
+	public double parseDouble(char[] b, int off, int len) {
+		int p = off;
+		int end = off + len;
+		boolean neg = false;
+		if (p < end && (b[p] == '-' || b[p] == '+')) {
+			neg = b[p] == '-';
+			p++;
+		}
+
+		long mantissa = 0;
+		int fraction = 0;
+		boolean dot = false;
+		boolean any = false;
+		for (; p < end; p++) {
+			char ch = b[p];
+			if (ch >= '0' && ch <= '9') {
+				if (mantissa >= MAX_EXACT_MANTISSA / 10) {
+					return Double.parseDouble(new String(b, off, len));
+				}
+				mantissa = mantissa * 10 + (ch - '0');
+				if (dot) {
+					fraction++;
+				}
+				any = true;
+			} else if (ch == '.' && !dot) {
+				dot = true;
+			} else {
+				return Double.parseDouble(new String(b, off, len));     // 지수 표기 등
+			}
+		}
+		if (!any || fraction >= POW10.length) {
+			return Double.parseDouble(new String(b, off, len));
+		}
+		double v = mantissa / POW10[fraction];
+		return neg ? -v : v;
+	}
+
+	private int digits(char[] b, int off, int n) {
+		int v = 0;
+		for (int i = off; i < off + n; i++) {
+			char ch = b[i];
+			if (ch < '0' || ch > '9') {
+				throw new IllegalArgumentException("숫자가 아님: " + ch);
+			}
+			v = v * 10 + (ch - '0');
+		}
+		return v;
+	}
+
+	/**
+	 * 1970-01-01 기준 일수 (proleptic Gregorian)
+	 */
+	private long daysFromCivil(int y, int m, int d) {
+		y -= m <= 2 ? 1 : 0;
+		long era = Math.floorDiv(y, 400);
+		long yoe = y - era * 400;
+		long doy = (153L * (m + (m > 2 ? -3 : 9)) + 2) / 5 + d - 1;
+		long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+		return era * 146_097 + doe - 719_468;
+	}
+}
@@ -0,0 +1,73 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSink;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 캔들 JSON 배열 스트리밍 파서 (JsonParser 토큰 스트림, Map/List 를 만들지 않음).
+ * Upbit 캔들 API 응답(snake_case)과 DataExportService 가 쓴 MarketData(camelCase) 모두 읽는다.
+ * Upbit 응답의 숫자 timestamp 는 캔들 시작이 아니라 마지막 체결 시각(epoch ms)이라 candle_date_time_kst 를 우선하고,
+ * 시각 문자열이 없을 때만 쓴다.
+ * 파일의 시간 순서는 그대로 전달되므로, 역순 데이터는 호출 측에서 ReverseChronologicalBuffer 등으로 처리한다.
+ */
+public class JsonCandleReader {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	private final InputStream in;
+
+	public JsonCandleReader(InputStream in) {
+		this.in = in;
+	}
+
+	public void readAll(CandleSink sink) throws IOException {
+		try (JsonParser p = FACTORY.createParser(in)) {
+			if (p.nextToken() != JsonToken.START_ARRAY) {
+				throw new IOException("캔들 JSON 배열이 아님");
+			}
+			while (p.nextToken() == JsonToken.START_OBJECT) {
+				long time = Long.MIN_VALUE;
+				long epochMillis = Long.MIN_VALUE;      // 숫자 timestamp
+				double open = Double.NaN;
+				double high = Double.NaN;
+				double low = Double.NaN;
+				double close = Double.NaN;
+				double volume = Double.NaN;
+
+				while (p.nextToken() == JsonToken.FIELD_NAME) {
+					String field = p.currentName();
+					p.nextToken();
+					switch (field) {
+						case "candle_date_time_kst" ->
+							time = FastParse.epochMillis(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+						case "timestamp" -> {
+							if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+								epochMillis = p.getLongValue();
+							} else if (time == Long.MIN_VALUE) {       // MarketData 의 KST 시각 문자열
+								time = FastParse.epochMillis(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+							}
+						}
+						case "opening_price", "openPrice" -> open = p.getValueAsDouble();
+						case "high_price", "highPrice" -> high = p.getValueAsDouble();
+						case "low_price", "lowPrice" -> low = p.getValueAsDouble();
+						case "trade_price", "closePrice" -> close = p.getValueAsDouble();
+						case "candle_acc_trade_volume", "volume" -> volume = p.getValueAsDouble();
+						default -> p.skipChildren();
+					}
+				}
+
+				if (time == Long.MIN_VALUE) {
+					time = epochMillis;
+				}
+				if (time == Long.MIN_VALUE || Double.isNaN(close)) {
+					throw new IOException("시각/종가가 없는 캔들 (line " + p.currentLocation().getLineNr() + ")");
+				}
+				sink.accept(time, open, high, low, close, volume);
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.coinmanager.backtest.io;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.candle.CandleSink;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시간 순서를 모르는 캔들 스트림을 오름차순으로 바꿔 downstream 에 넘기는 sink.
+ * 처음 두 캔들로 방향을 판단해 오름차순이면 그대로 통과시키고,
+ * 역순(Upbit 응답)이면 chunkSize 단위로 모아 임시 바이너리 파일로 내려쓴 뒤
+ * finish() 에서 청크를 뒤에서부터 역방향으로 재생한다 → 메모리는 청크 하나 크기로 제한된다.
+ */
+public class ReverseChronologicalBuffer implements CandleSink {
+
+	private final String market;
+	private final int chunkSize;
+	private final CandleSink downstream;
+
+	private final List<Path> spilled = new ArrayList<>();
+	private CandleSeries chunk;
+	private Boolean descending;           // null = 아직 판단 전
+
+	public ReverseChronologicalBuffer(String market, int chunkSize, CandleSink downstream) {
+		this.market = market;
+		this.chunkSize = chunkSize;
+		this.downstream = downstream;
+		this.chunk = new CandleSeries(market, Math.min(chunkSize, 1024));
+	}
+
+	@Override
+	public void accept(long epochMillis, double o, double h, double l, double c, double v) {
+		if (descending == null) {
+			if (chunk.isEmpty()) {
+				chunk.append(epochMillis, o, h, l, c, v);
+				return;
+			}
+			descending = epochMillis < chunk.time(0);
+			if (!descending) {                    // 오름차순 → 보류했던 첫 캔들부터 통과
+				emitForward(chunk);
+				chunk.clear();
+				downstream.accept(epochMillis, o, h, l, c, v);
+				return;
+			}
+		} else if (!descending) {
+			downstream.accept(epochMillis, o, h, l, c, v);
+			return;
+		}
+
+		chunk.append(epochMillis, o, h, l, c, v);
+		if (chunk.size() == chunkSize) {
+			spill();
+		}
+	}
+
+	/**
+	 * 입력이 끝난 뒤 호출 – 역순 청크들을 과거→현재 순으로 내보낸다
+	 */
+	public void finish() throws IOException {
+		if (descending == null || !descending) {
+			emitForward(chunk);           // 캔들이 1개뿐이었던 경우
+			chunk.clear();
+			return;
+		}
+		try {
+			emitBackward(chunk);              // 가장 오래된 캔들들은 마지막 청크에 있다
+			chunk = null;
+			for (int i = spilled.size() - 1; i >= 0; i--) {
+				emitBackward(BinaryCandleFile.read(spilled.get(i)));
+			}
+		} finally {
+			for (Path p : spilled) {
+				Files.deleteIfExists(p);
+			}
+			spilled.clear();
+		}
+	}
+
+	private void spill() {
+		try {
+			Path tmp = Files.createTempFile("candle-spill-", BinaryCandleFile.EXTENSION);
+			tmp.toFile().deleteOnExit();
+			BinaryCandleFile.write(chunk, 0, tmp);
+			spilled.add(tmp);
+			chunk.clear();
+		} catch (IOException e) {
+			throw new UncheckedIOException("역순 청크 임시 저장 실패 (" + market + ")", e);
+		}
+	}
+
+	private void emitForward(CandleSeries s) {
+		for (int i = 0; i < s.size(); i++) {
+			downstream.accept(s.time(i), s.open(i), s.high(i), s.low(i), s.close(i), s.volume(i));
+		}
+	}
+
+	private void emitBackward(CandleSeries s) {
+		for (int i = s.size() - 1; i >= 0; i--) {
+			downstream.accept(s.time(i), s.open(i), s.high(i), s.low(i), s.close(i), s.volume(i));
+		}
+	}
+}
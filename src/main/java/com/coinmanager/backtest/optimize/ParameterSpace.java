@@ -0,0 +1,118 @@
+package com.coinmanager.backtest.optimize;
+
+import com.coinmanager.strategy.MultiFactorParams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * MultiFactorStrategy 파라미터 탐색 범위. 각 축의 후보값으로 격자(grid) 또는 무작위 조합을 만든다.
+ */
+public class ParameterSpace {
+
+	private final int[] maShort;
+	private final int[] maLong;
+	private final int[] rsiPeriod;
+	private final int[] bbPeriod;
+	private final int[] volPeriod;
+	private final int[] momentumPeriod;
+	private final double[] rsiBuyMax;
+	private final double[] rsiSellMin;
+	private final double[] volMultiMin;
+	private final double[] momentumThreshold;
+
+	public ParameterSpace(
+		int[] maShort, int[] maLong, int[] rsiPeriod, int[] bbPeriod, int[] volPeriod, int[] momentumPeriod,
+		double[] rsiBuyMax, double[] rsiSellMin, double[] volMultiMin, double[] momentumThreshold
+	) {
+		this.maShort = maShort;
+		this.maLong = maLong;
+		this.rsiPeriod = rsiPeriod;
+		this.bbPeriod = bbPeriod;
+		this.volPeriod = volPeriod;
+		this.momentumPeriod = momentumPeriod;
+		this.rsiBuyMax = rsiBuyMax;
+		this.rsiSellMin = rsiSellMin;
+		this.volMultiMin = volMultiMin;
+		this.momentumThreshold = momentumThreshold;
+	}
+
+	/**
+	 * 현재 기본값 주변의 기본 탐색 범위 (약 7천 조합)
+	 */
+	public static ParameterSpace defaults() {
+		return new ParameterSpace(
+			new int[]{5, 7, 9, 12},
+			new int[]{20, 26, 30, 40},
+			new int[]{9, 14},
+			new int[]{20},
+			new int[]{20},
+			new int[]{5, 10},
+			new double[]{30, 35, 40, 45},
+			new double[]{65, 70, 75},
+			new double[]{1.0, 1.05, 1.2},
+			new double[]{1.001, 1.0025, 1.005}
+		);
+	}
+
+	/**
+	 * 모든 조합 (단기 이평 < 장기 이평 인 것만)
+	 */
+	public List<MultiFactorParams> grid() {
+		int[] radix = {
+			maShort.length, maLong.length, rsiPeriod.length, bbPeriod.length, volPeriod.length,
+			momentumPeriod.length, rsiBuyMax.length, rsiSellMin.length, volMultiMin.length, momentumThreshold.length
+		};
+		long total = 1;
+		for (int r : radix) {
+			total *= r;
+		}
+
+		List<MultiFactorParams> out = new ArrayList<>();
+		int[] at = new int[radix.length];
+		for (long n = 0; n < total; n++) {
+			long rest = n;
+			for (int axis = radix.length - 1; axis >= 0; axis--) {    // 혼합 진법으로 축별 인덱스 분해
+				at[axis] = (int) (rest % radix[axis]);
+				rest /= radix[axis];
+			}
+			if (maShort[at[0]] >= maLong[at[1]]) {
+				continue;
+			}
+			out.add(new MultiFactorParams(
+				maShort[at[0]], maLong[at[1]], rsiPeriod[at[2]], bbPeriod[at[3]], volPeriod[at[4]],
+				momentumPeriod[at[5]], rsiBuyMax[at[6]], rsiSellMin[at[7]], volMultiMin[at[8]], momentumThreshold[at[9]]
+			));
+		}
+		return out;
+	}
+
+	/**
+	 * 각 축에서 독립적으로 하나씩 뽑은 무작위 조합 n 개 (seed 고정 시 재현 가능)
+	 */
+	public List<MultiFactorParams> random(int n, long seed) {
+		SplittableRandom rnd = new SplittableRandom(seed);
+		List<MultiFactorParams> out = new ArrayList<>(n);
+		while (out.size() < n) {
+			int ms = pick(maShort, rnd);
+			int ml = pick(maLong, rnd);
+			if (ms >= ml) {
+				continue;
+			}
+			out.add(new MultiFactorParams(
+				ms, ml,
+				pick(rsiPeriod, rnd), pick(bbPeriod, rnd), pick(volPeriod, rnd), pick(momentumPeriod, rnd),
+				pick(rsiBuyMax, rnd), pick(rsiSellMin, rnd), pick(volMultiMin, rnd), pick(momentumThreshold, rnd)
+			));
+		}
+		return out;
+	}
+
+	private static int pick(int[] values, SplittableRandom rnd) {
+		return values[rnd.nextInt(values.length)];
+	}
+
+	private static double pick(double[] values, SplittableRandom rnd) {
+		return values[rnd.nextInt(values.length)];
+	}
+}
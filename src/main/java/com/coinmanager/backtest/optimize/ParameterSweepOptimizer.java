@@ -0,0 +1,85 @@
+package com.coinmanager.backtest.optimize;
+
+import com.coinmanager.backtest.BacktestEngine;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.indicator.BatchIndicators;
+import com.coinmanager.indicator.IndicatorColumns;
+import com.coinmanager.strategy.MultiFactorParams;
+import com.coinmanager.strategy.MultiFactorStrategy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파라미터 탐색기 – 하나의 불변 캔들 데이터를 공유하며 조합별 백테스트를 ForkJoinPool 에서 병렬 실행한다.
+ * 지표는 데이터셋 단위로 한 번만 배치 계산(IndicatorColumns)되어 모든 조합이 같은 컬럼을 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParameterSweepOptimizer {
+
+	private final MultiFactorStrategy strategy;
+	private final BacktestEngine engine = new BacktestEngine();
+
+	/**
+	 * @return 순위순으로 정렬된 결과
+	 */
+	public List<SweepResult> sweep(CandleSeries candles, List<MultiFactorParams> candidates, int parallelism)
+		throws InterruptedException {
+
+		log.info("파라미터 탐색 시작 -> 조합 {}개, 캔들 {}개, 병렬도 {}, 벡터 연산 {}",
+			candidates.size(), candles.size(), parallelism, BatchIndicators.isVectorized());
+		long started = System.nanoTime();
+		IndicatorColumns columns = new IndicatorColumns(candles);
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			// 커스텀 풀 안에서 parallelStream 을 돌리면 해당 풀의 워커들이 작업을 나눠 가진다
+			List<SweepResult> results = pool.submit(() -> candidates.parallelStream()
+					.map(p -> new SweepResult(p,
+						engine.run(candles, strategy.withParams(p).precomputed(columns))))
+					.sorted(SweepResult.RANKING)
+					.toList())
+				.get();
+
+			long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+			log.info("파라미터 탐색 완료 -> {} ms, {} runs/s, {} bars/s",
+				elapsedMs,
+				candidates.size() * 1000L / elapsedMs,
+				(long) candidates.size() * candles.size() * 1000L / elapsedMs);
+			return results;
+
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("파라미터 탐색 실패", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * 순위표 CSV 기록
+	 */
+	public void writeReport(List<SweepResult> ranked, Path out) throws IOException {
+		Files.createDirectories(out.toAbsolutePath().getParent());
+		try (BufferedWriter w = Files.newBufferedWriter(out)) {
+			w.write("rank,maShort,maLong,rsiPeriod,bbPeriod,volPeriod,momentumPeriod,"
+				+ "rsiBuyMax,rsiSellMin,volMultiMin,momentumThreshold,trades,profitPct,mddPct,finalEquity\n");
+			int rank = 1;
+			for (SweepResult r : ranked) {
+				MultiFactorParams p = r.params();
+				w.write(String.format("%d,%d,%d,%d,%d,%d,%d,%s,%s,%s,%s,%d,%.2f,%.2f,%.0f%n",
+					rank++, p.maShort(), p.maLong(), p.rsiPeriod(), p.bbPeriod(), p.volPeriod(), p.momentumPeriod(),
+					p.rsiBuyMax(), p.rsiSellMin(), p.volMultiMin(), p.momentumThreshold(),
+					r.result().trades(), r.result().profitPct(), r.result().mddPct(), r.result().finalEquity()));
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.coinmanager.backtest.optimize;
+
+import com.coinmanager.backtest.BacktestResult;
+import com.coinmanager.strategy.MultiFactorParams;
+import java.util.Comparator;
+
+/**
+ * 파라미터 한 조합의 백테스트 결과
+ */
+public record SweepResult(MultiFactorParams params, BacktestResult result) {
+
+	/**
+	 * 수익률 내림차순, 같으면 MDD 오름차순
+	 */
+	public static final Comparator<SweepResult> RANKING =
+		Comparator.comparingDouble((SweepResult r) -> r.result().profitPct()).reversed()
+			.thenComparingDouble(r -> r.result().mdd());
+}
@@ -1,7 +1,10 @@
 package com.coinmanager.backtest.service;
 
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.domain.candle.CandleSeries;
 import com.coinmanager.domain.dto.MarketData;
-import com.coinmanager.service.UpbitApiClient;
+import com.coinmanager.warehouse.CandleBackfillService;
+import com.coinmanager.warehouse.CandleWarehouse;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -11,8 +14,8 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,11 +24,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class DataExportService {
 
-	private final UpbitApiClient api;
+	private static final int BACKFILL_THRESHOLD = 2_000;        // 이보다 많이 비면 동시 수집
+	private static final DateTimeFormatter RANGE_FMT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+	private final CandleWarehouse warehouse;
+	private final CandleBackfillService backfill;
 	private final ObjectMapper mapper;
 
-	public DataExportService(UpbitApiClient api) {
-		this.api = api;
+	public DataExportService(CandleWarehouse warehouse, CandleBackfillService backfill) {
+		this.warehouse = warehouse;
+		this.backfill = backfill;
 		this.mapper = new ObjectMapper()
 			.registerModule(new JavaTimeModule())
 			.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN)
@@ -40,47 +48,57 @@ public class DataExportService {
 		String format
 	) throws Exception {
 
-		List<MarketData> candles = fetchAll(market, unit, count);
+		// 많이 비어 있으면 하위 구간 동시 수집으로 대략 채우고, 나머지(거래 없는 분 등)는 순차 보충
+		long missing = count - warehouse.size(market, unit);
+		if (missing > BACKFILL_THRESHOLD) {
+			LocalDateTime now = LocalDateTime.now(CandleSeries.KST);
+			backfill.backfill(market, unit, now.minusMinutes((long) count * unit), now);
+		}
+
+		// 창고에 없는 구간(최근 꼬리, 부족한 과거)만 Upbit 에서 받아오고 나머지는 로컬에서 읽음
+		warehouse.ensure(market, unit, count);
+		CandleSeries series = warehouse.latest(market, unit, count);
+		return write(series, unit, format, String.valueOf(series.size()));
+	}
+
+	/**
+	 * 기간 지정 내보내기 (KST, from 포함 ~ to 미포함)
+	 */
+	public Path exportRange(
+		String market,
+		int unit,
+		LocalDateTime from,
+		LocalDateTime to,
+		String format
+	) throws Exception {
+
+		backfill.backfill(market, unit, from, to);
+		CandleSeries series = warehouse.read(market, unit,
+			CandleSeries.toEpochMillis(from), CandleSeries.toEpochMillis(to) - 1);
+		return write(series, unit, format,
+			from.format(RANGE_FMT) + "-" + to.format(RANGE_FMT));
+	}
+
+	/* ---------------- 사설 메서드 ---------------- */
+	private Path write(CandleSeries series, int unit, String format, String suffix) throws IOException {
+		List<MarketData> candles = series.asMarketDataList();
 
 		Files.createDirectories(Path.of("data"));
-		String fileName = String.format("%s_%dm_%d.%s",
-			market.replace("-", ""), unit, candles.size(), format);
+		String fileName = String.format("%s_%dm_%s.%s",
+			series.market().replace("-", ""), unit, suffix, format);
 		Path out = Path.of("data", fileName);
 
 		if ("csv".equalsIgnoreCase(format)) {
 			writeCsv(candles, out);
+		} else if ("bin".equalsIgnoreCase(format)) {
+			BinaryCandleFile.write(series, unit, out);
 		} else {
 			mapper.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), candles);
 		}
 		return out;
 	}
 
-	/* ---------------- 사설 메서드 ---------------- */
-	/* (1) 페이징 수집 */
-	private List<MarketData> fetchAll(
-		String m,
-		int u,
-		int target
-	) throws Exception {
-		List<MarketData> acc = new ArrayList<>();
-		String to = null;
-		while (acc.size() < target) {
-			int remain = target - acc.size();
-			int batch = Math.min(remain, 200);
-			List<MarketData> page = api.getMarketData(m, u, batch, to);
-			if (page.isEmpty()) {
-				break;
-			}
-			acc.addAll(page);
-			/* Upbit 응답 역순 → 가장 마지막(0번) 시점 이전으로 to 파라미터 설정 */
-			to = page.getFirst().getTimestamp().minusMinutes(u).toString();
-			Thread.sleep(250); // rate-limit 완충(10 req/s)
-		}
-		Collections.reverse(acc);            // 과거→미래
-		return acc;
-	}
-
-	/* (2) CSV 기록 */
+	/* CSV 기록 */
 	private void writeCsv(List<MarketData> list, Path out) throws IOException {
 		try (CSVWriter csv = new CSVWriter(
 			Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
@@ -1,24 +1,117 @@
 package com.coinmanager.config;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Upbit REST 호출용 RestTemplate.
+ * 응답은 버퍼링하지 않고 스트림 그대로 메시지 컨버터에 넘긴다.
+ */
 @Slf4j
 @Configuration
 public class ApiClientConfig {
 
 	@Bean
-	public RestTemplate restTemplate(RestTemplateBuilder builder) {
+	public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory upbitRequestFactory) {
 		return builder
-			.requestFactory(() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
-			.connectTimeout(Duration.ofSeconds(5))
-			.readTimeout(Duration.ofSeconds(10))
+			.requestFactory(() -> upbitRequestFactory)
 			.build();
 	}
+
+	/* ---------------- apache (기본) ---------------- */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "apache", matchIfMissing = true)
+	public PoolingHttpClientConnectionManager upbitConnectionManager(UpbitHttpProperties props) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(props.maxTotal())
+			.setMaxConnPerRoute(props.maxPerRoute())
+			// 최근에 쓴 커넥션부터 재사용 → 유휴 커넥션이 자연스럽게 만료되고 TLS 세션도 따뜻하게 유지
+			.setConnPoolPolicy(PoolReusePolicy.LIFO)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(props.connectTimeoutMs()))
+				.setSocketTimeout(Timeout.ofMilliseconds(props.responseTimeoutMs()))
+				.setTimeToLive(TimeValue.ofMilliseconds(props.timeToLiveMs()))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+				.build())
+			.build();
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "apache", matchIfMissing = true)
+	public CloseableHttpClient upbitHttpClient(
+		PoolingHttpClientConnectionManager upbitConnectionManager, UpbitHttpProperties props) {
+		TimeValue keepAlive = TimeValue.ofMilliseconds(props.keepAliveMs());
+
+		return HttpClients.custom()
+			.setConnectionManager(upbitConnectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(props.connectionRequestTimeoutMs()))
+				.setResponseTimeout(Timeout.ofMilliseconds(props.responseTimeoutMs()))
+				.setConnectionKeepAlive(keepAlive)
+				.build())
+			// 서버가 준 Keep-Alive 값을 따르되 설정값을 넘기지 않는다
+			.setKeepAliveStrategy((response, context) -> {
+				TimeValue server = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return TimeValue.isPositive(server) && server.compareTo(keepAlive) < 0 ? server : keepAlive;
+			})
+			.evictExpiredConnections()
+			.evictIdleConnections(keepAlive)
+			.disableCookieManagement()
+			.build();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "apache", matchIfMissing = true)
+	public ClientHttpRequestFactory upbitRequestFactory(CloseableHttpClient upbitHttpClient) {
+		log.info("Upbit HTTP transport: apache httpclient5 (pooled)");
+		return new HttpComponentsClientHttpRequestFactory(upbitHttpClient);
+	}
+
+	/* ---------------- jdk (HTTP/2) ---------------- */
+	// HttpClient.close() 는 넘겨받은 executor 를 닫지 않으므로 따로 빈으로 두고 클라이언트 다음에 닫는다
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "jdk")
+	public ExecutorService upbitHttpExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "jdk")
+	public HttpClient upbitJdkHttpClient(ExecutorService upbitHttpExecutor, UpbitHttpProperties props) {
+		return HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(Duration.ofMillis(props.connectTimeoutMs()))
+			.executor(upbitHttpExecutor)
+			.build();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "jdk")
+	public ClientHttpRequestFactory jdkUpbitRequestFactory(HttpClient upbitJdkHttpClient, UpbitHttpProperties props) {
+		log.info("Upbit HTTP transport: JDK HttpClient (HTTP/2)");
+		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(upbitJdkHttpClient);
+		factory.setReadTimeout(Duration.ofMillis(props.responseTimeoutMs()));
+		return factory;
+	}
 }
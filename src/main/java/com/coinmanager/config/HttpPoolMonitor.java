@@ -0,0 +1,61 @@
+package com.coinmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upbit 커넥션 풀 사용량 모니터
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "upbit.http.transport", havingValue = "apache", matchIfMissing = true)
+public class HttpPoolMonitor implements MeterBinder {
+
+	private final PoolingHttpClientConnectionManager upbitConnectionManager;
+
+	public PoolStats totalStats() {
+		return upbitConnectionManager.getTotalStats();
+	}
+
+	public int leased() {
+		return totalStats().getLeased();
+	}
+
+	public int available() {
+		return totalStats().getAvailable();
+	}
+
+	public int pending() {
+		return totalStats().getPending();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("upbit.http.pool.leased", this, HttpPoolMonitor::leased).register(registry);
+		Gauge.builder("upbit.http.pool.available", this, HttpPoolMonitor::available).register(registry);
+		Gauge.builder("upbit.http.pool.pending", this, HttpPoolMonitor::pending)
+			.description("커넥션을 기다리는 요청 수 (0 보다 크면 max-per-route 상향 검토)")
+			.register(registry);
+	}
+
+	@Scheduled(fixedRate = 60_000, initialDelay = 60_000)
+	void report() {
+		PoolStats s = totalStats();
+		if (s.getPending() > 0) {
+			// 풀이 모자라 커넥션을 기다리는 요청이 있음 → max-per-route 상향 검토
+			log.warn("HTTP pool 대기 발생 leased={} available={} pending={} max={}",
+				s.getLeased(), s.getAvailable(), s.getPending(), s.getMax());
+		} else {
+			log.debug("HTTP pool leased={} available={} max={}", s.getLeased(), s.getAvailable(), s.getMax());
+		}
+	}
+}
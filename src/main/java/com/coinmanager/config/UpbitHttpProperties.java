@@ -0,0 +1,24 @@
+package com.coinmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Upbit HTTP 전송 계층 설정 (application.properties 의 upbit.http.*)
+ *
+ * @param transport        apache(커넥션 풀, 기본) | jdk(JDK HttpClient, HTTP/2)
+ * @param maxPerRoute      api.upbit.com 한 호스트당 최대 커넥션 수 – upbit.max-in-flight 이상으로 둔다
+ * @param keepAliveMs      서버가 Keep-Alive 를 알려주지 않을 때 유휴 커넥션 유지 시간 (상한으로도 사용)
+ */
+@ConfigurationProperties("upbit.http")
+public record UpbitHttpProperties(
+	@DefaultValue("apache") String transport,
+	@DefaultValue("20") int maxTotal,
+	@DefaultValue("10") int maxPerRoute,
+	@DefaultValue("3000") long connectTimeoutMs,
+	@DefaultValue("10000") long responseTimeoutMs,
+	@DefaultValue("3000") long connectionRequestTimeoutMs,
+	@DefaultValue("30000") long keepAliveMs,
+	@DefaultValue("300000") long timeToLiveMs
+) {
+}
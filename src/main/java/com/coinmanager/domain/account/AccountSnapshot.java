@@ -0,0 +1,55 @@
+package com.coinmanager.domain.account;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * /v1/accounts 한 번의 조회 결과 (불변).
+ * 통화별 잔고를 한 번만 BigDecimal 로 파싱해 두고 여러 판단에서 재사용한다.
+ */
+public record AccountSnapshot(Map<String, Balance> balances, Instant fetchedAt) {
+
+	public static final String KRW = "KRW";
+
+	public AccountSnapshot {
+		balances = Map.copyOf(balances);
+	}
+
+	public static AccountSnapshot of(List<Balance> list) {
+		return new AccountSnapshot(
+			list.stream().collect(Collectors.toMap(Balance::currency, Function.identity(), (a, b) -> b)),
+			Instant.now()
+		);
+	}
+
+	/**
+	 * 주문 가능 잔고 (locked 제외). 없는 통화는 0
+	 */
+	public BigDecimal balance(String currency) {
+		Balance b = balances.get(currency);
+		return b == null ? BigDecimal.ZERO : b.balance();
+	}
+
+	/**
+	 * 총 자산(KRW) = 현금 + Σ 코인 수량 × 평균 매수가
+	 */
+	public BigDecimal totalAssetKrw() {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (Balance b : balances.values()) {
+			sum = sum.add(KRW.equals(b.currency())
+				? b.balance()                       // 원화는 avg_buy_price 가 0 으로 내려온다
+				: b.balance().multiply(b.avgBuyPrice()));
+		}
+		return sum;
+	}
+
+	/**
+	 * 통화 하나의 잔고
+	 */
+	public record Balance(String currency, BigDecimal balance, BigDecimal locked, BigDecimal avgBuyPrice) {
+	}
+}
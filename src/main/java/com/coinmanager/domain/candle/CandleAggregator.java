@@ -0,0 +1,89 @@
+package com.coinmanager.domain.candle;
+
+/**
+ * 시간순으로 들어오는 캔들(또는 체결)을 intervalMillis 단위 캔들로 합쳐 다음 sink 로 넘긴다.
+ * 구간이 바뀌는 시점에 직전 구간을 내보내며, 마지막 구간은 flush() 로 내보낸다.
+ */
+public class CandleAggregator implements CandleSink {
+
+	private static final long KST_OFFSET_MILLIS = CandleSeries.KST.getTotalSeconds() * 1000L;
+
+	private final long intervalMillis;
+	private final CandleSink downstream;
+	private boolean decided;        // 통과/집계 여부 결정 완료
+	private boolean passthrough;
+
+	private long bucket = Long.MIN_VALUE;
+	private double open;
+	private double high;
+	private double low;
+	private double close;
+	private double volume;
+
+	public CandleAggregator(long intervalMillis, CandleSink downstream) {
+		this(intervalMillis, downstream, false);
+	}
+
+	private CandleAggregator(long intervalMillis, CandleSink downstream, boolean autoDetect) {
+		this.intervalMillis = intervalMillis;
+		this.downstream = downstream;
+		this.decided = !autoDetect;
+	}
+
+	/**
+	 * 첫 캔들의 초가 0 이 아니면(초봉) 1분봉으로 집계하고, 아니면 그대로 통과시킨다.
+	 */
+	public static CandleAggregator minuteIfSecondCandles(CandleSink downstream) {
+		return new CandleAggregator(60_000, downstream, true);
+	}
+
+	public static long bucketOf(long epochMillis, long intervalMillis) {
+		return Math.floorDiv(epochMillis + KST_OFFSET_MILLIS, intervalMillis) * intervalMillis - KST_OFFSET_MILLIS;
+	}
+
+	@Override
+	public void accept(long epochMillis, double o, double h, double l, double c, double v) {
+		if (!decided) {
+			passthrough = epochMillis % 60_000 == 0;
+			decided = true;
+		}
+		if (passthrough) {
+			downstream.accept(epochMillis, o, h, l, c, v);
+			return;
+		}
+
+		long b = bucketOf(epochMillis, intervalMillis);
+		if (b != bucket) {
+			flush();
+			bucket = b;
+			open = o;
+			high = h;
+			low = l;
+			close = c;
+			volume = v;
+			return;
+		}
+		high = Math.max(high, h);
+		low = Math.min(low, l);
+		close = c;
+		volume += v;
+	}
+
+	/**
+	 * 진행 중인 구간을 내보낸다
+	 */
+	public void flush() {
+		if (bucket == Long.MIN_VALUE) {
+			return;
+		}
+		downstream.accept(bucket, open, high, low, close, volume);
+		bucket = Long.MIN_VALUE;
+	}
+
+	/**
+	 * 현재 구간 시작 시각 (없으면 Long.MIN_VALUE)
+	 */
+	public long currentBucket() {
+		return bucket;
+	}
+}
@@ -0,0 +1,236 @@
+package com.coinmanager.domain.candle;
+
+import com.coinmanager.domain.dto.MarketData;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 마켓 하나의 최근 캔들을 고정 크기 컬럼 배열에 순환 저장하는 링버퍼.
+ *
+ * <p>쓰기 스레드는 하나(마켓 파이프라인)만 허용하고, 읽기는 락 없이 여러 스레드에서 동시에 한다.
+ * 쓰기는 슬롯을 채운 뒤 volatile published 를 올려 공개하고, 읽기는 published 를 한 번 읽어
+ * 그 시점의 [start, end) 구간을 복사 없이 가리키는 {@link Snapshot} 을 얻는다.
+ *
+ * <p>버퍼는 window + headroom 칸이고 스냅샷은 최대 window 개만 보여주므로,
+ * 스냅샷을 잡은 뒤 headroom 개가 더 들어오기 전까지는 그 구간이 덮어써지지 않는다.
+ * 오래 붙잡는 독자는 계산 후 {@link Snapshot#isValid()} 로 확인한다 (StampedLock 낙관적 읽기와 같은 방식).
+ */
+public class CandleRingBuffer {
+
+	private static final int DEFAULT_HEADROOM = 64;
+
+	private final String market;
+	private final int window;
+	private final int capacity;
+	private final long[] time;
+	private final double[] open;
+	private final double[] high;
+	private final double[] low;
+	private final double[] close;
+	private final double[] volume;
+
+	private volatile long published;      // 지금까지 공개된 캔들 수 (단조 증가)
+
+	public CandleRingBuffer(String market, int window) {
+		this(market, window, DEFAULT_HEADROOM);
+	}
+
+	public CandleRingBuffer(String market, int window, int headroom) {
+		if (window <= 0 || headroom <= 0) {
+			throw new IllegalArgumentException("window/headroom must be positive: " + window + ", " + headroom);
+		}
+		this.market = market;
+		this.window = window;
+		this.capacity = window + headroom;
+		this.time = new long[capacity];
+		this.open = new double[capacity];
+		this.high = new double[capacity];
+		this.low = new double[capacity];
+		this.close = new double[capacity];
+		this.volume = new double[capacity];
+	}
+
+	/* ---------------- 쓰기 (단일 스레드) ---------------- */
+
+	/**
+	 * 마감된 캔들 하나를 넣는다. 직전 캔들보다 과거면 무시한다.
+	 *
+	 * @return 반영 여부
+	 */
+	public boolean append(long epochMillis, double o, double h, double l, double c, double v) {
+		long n = published;
+		if (n > 0 && epochMillis <= time[slot(n - 1)]) {
+			return false;
+		}
+		int s = slot(n);
+		time[s] = epochMillis;
+		open[s] = o;
+		high[s] = h;
+		low[s] = l;
+		close[s] = c;
+		volume[s] = v;
+		published = n + 1;                  // volatile 쓰기 – 위 슬롯 값이 함께 공개된다
+		return true;
+	}
+
+	/**
+	 * series 의 캔들 중 마지막 캔들보다 새로운 것만 넣는다
+	 */
+	public void appendAll(CandleSeries series) {
+		for (int i = 0; i < series.size(); i++) {
+			append(series.time(i), series.open(i), series.high(i), series.low(i), series.close(i), series.volume(i));
+		}
+	}
+
+	/* ---------------- 읽기 (락 없음) ---------------- */
+
+	/**
+	 * 최근 최대 window 개
+	 */
+	public Snapshot snapshot() {
+		return snapshot(window);
+	}
+
+	/**
+	 * 최근 최대 n 개 (n ≤ window)
+	 */
+	public Snapshot snapshot(int n) {
+		if (n < 0 || n > window) {
+			throw new IllegalArgumentException("0 ≤ n ≤ " + window + ": " + n);
+		}
+		long end = published;
+		return new Snapshot(Math.max(0, end - n), end);
+	}
+
+	public String market() {
+		return market;
+	}
+
+	public int window() {
+		return window;
+	}
+
+	/**
+	 * 지금까지 들어온 캔들 수 (버퍼 크기와 무관)
+	 */
+	public long published() {
+		return published;
+	}
+
+	public long lastTime() {
+		long n = published;
+		return n == 0 ? Long.MIN_VALUE : time[slot(n - 1)];
+	}
+
+	private int slot(long seq) {
+		return (int) (seq % capacity);
+	}
+
+	/**
+	 * 링버퍼의 [start, end) 구간 뷰. 인덱스 0 이 가장 오래된 캔들이다.
+	 */
+	public final class Snapshot {
+
+		private final long start;
+		private final long end;
+
+		private Snapshot(long start, long end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		public int size() {
+			return (int) (end - start);
+		}
+
+		public boolean isEmpty() {
+			return end == start;
+		}
+
+		public String market() {
+			return market;
+		}
+
+		public long time(int i) {
+			return time[at(i)];
+		}
+
+		public double open(int i) {
+			return open[at(i)];
+		}
+
+		public double high(int i) {
+			return high[at(i)];
+		}
+
+		public double low(int i) {
+			return low[at(i)];
+		}
+
+		public double close(int i) {
+			return close[at(i)];
+		}
+
+		public double volume(int i) {
+			return volume[at(i)];
+		}
+
+		public LocalDateTime timestamp(int i) {
+			return LocalDateTime.ofInstant(Instant.ofEpochMilli(time(i)), CandleSeries.KST);
+		}
+
+		/**
+		 * 읽은 값이 아직 덮어써지지 않았는지.
+		 * 쓰기는 published 를 올리기 전에 슬롯을 채우므로, published == start + capacity 인 동안
+		 * start 슬롯이 이미 덮어써지고 있을 수 있다 – 그때부터는 false
+		 */
+		public boolean isValid() {
+			VarHandle.acquireFence();           // 앞선 배열 읽기가 아래 published 읽기 뒤로 밀리지 않게
+			return published - capacity < start;
+		}
+
+		public MarketData get(int i) {
+			return MarketData.builder()
+				.market(market)
+				.timestamp(timestamp(i))
+				.openPrice(BigDecimal.valueOf(open(i)))
+				.highPrice(BigDecimal.valueOf(high(i)))
+				.lowPrice(BigDecimal.valueOf(low(i)))
+				.closePrice(BigDecimal.valueOf(close(i)))
+				.volume(BigDecimal.valueOf(volume(i)))
+				.build();
+		}
+
+		/**
+		 * 복사하지 않는 List&lt;MarketData&gt; 뷰 – 기존 generateSignal(List) 전략용
+		 */
+		public List<MarketData> asMarketDataList() {
+			return new MarketDataView();
+		}
+
+		private int at(int i) {
+			if (i < 0 || i >= size()) {
+				throw new IndexOutOfBoundsException(i);
+			}
+			return slot(start + i);
+		}
+
+		private final class MarketDataView extends AbstractList<MarketData> implements RandomAccess {
+
+			@Override
+			public MarketData get(int index) {
+				return Snapshot.this.get(index);
+			}
+
+			@Override
+			public int size() {
+				return Snapshot.this.size();
+			}
+		}
+	}
+}
@@ -0,0 +1,348 @@
+package com.coinmanager.domain.candle;
+
+import com.coinmanager.domain.dto.MarketData;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * 컬럼 지향(primitive 배열) 캔들 시계열.
+ * 캔들 하나당 long 1개 + double 5개(48 byte)만 사용하며, 시간 순 순차 스캔에 최적화되어 있다.
+ * 기존 List&lt;MarketData&gt; 기반 코드는 asMarketDataList() 뷰로 그대로 사용할 수 있다.
+ */
+public class CandleSeries {
+
+	public static final ZoneOffset KST = ZoneOffset.ofHours(9);   // 업비트 candle_date_time_kst 기준
+
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private final int marketId;
+	private final String market;   // 인턴된 이름 – 같은 마켓의 시계열은 같은 인스턴스를 공유
+	private long[] time;           // epoch millis
+	private double[] open;
+	private double[] high;
+	private double[] low;
+	private double[] close;
+	private double[] volume;
+	private int size;
+
+	public CandleSeries(String market) {
+		this(market, DEFAULT_CAPACITY);
+	}
+
+	public CandleSeries(String market, int initialCapacity) {
+		this.marketId = MarketIds.idOf(market);
+		this.market = MarketIds.nameOf(marketId);
+		int cap = Math.max(1, initialCapacity);
+		this.time = new long[cap];
+		this.open = new double[cap];
+		this.high = new double[cap];
+		this.low = new double[cap];
+		this.close = new double[cap];
+		this.volume = new double[cap];
+	}
+
+	public static CandleSeries of(List<MarketData> candles) {
+		if (candles.isEmpty()) {
+			throw new IllegalArgumentException("빈 캔들 목록");
+		}
+		CandleSeries series = new CandleSeries(candles.getFirst().getMarket(), candles.size());
+		candles.forEach(series::append);
+		return series;
+	}
+
+	/* ---------------- 쓰기 ---------------- */
+	public void append(long epochMillis, double o, double h, double l, double c, double v) {
+		if (size == time.length) {
+			grow();
+		}
+		time[size] = epochMillis;
+		open[size] = o;
+		high[size] = h;
+		low[size] = l;
+		close[size] = c;
+		volume[size] = v;
+		size++;
+	}
+
+	public void append(MarketData m) {
+		append(
+			toEpochMillis(m.getTimestamp()),
+			m.getOpenPrice().doubleValue(),
+			m.getHighPrice().doubleValue(),
+			m.getLowPrice().doubleValue(),
+			m.getClosePrice().doubleValue(),
+			m.getVolume().doubleValue()
+		);
+	}
+
+	public void append(CandleSeries src, int i) {
+		append(src.time[i], src.open[i], src.high[i], src.low[i], src.close[i], src.volume[i]);
+	}
+
+	/**
+	 * 버퍼 재사용을 위해 비운다 (용량 유지)
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * 마지막 keep 개만 앞으로 옮기고 나머지는 버린다 – 고정 크기 롤링 버퍼로 쓸 때 사용
+	 */
+	public void compact(int keep) {
+		int from = Math.max(0, size - keep);
+		int n = size - from;
+		System.arraycopy(time, from, time, 0, n);
+		System.arraycopy(open, from, open, 0, n);
+		System.arraycopy(high, from, high, 0, n);
+		System.arraycopy(low, from, low, 0, n);
+		System.arraycopy(close, from, close, 0, n);
+		System.arraycopy(volume, from, volume, 0, n);
+		size = n;
+	}
+
+	public int capacity() {
+		return time.length;
+	}
+
+	/**
+	 * 시간 오름차순으로 정렬. Upbit 응답처럼 완전 역순이면 뒤집기만 한다.
+	 */
+	public void sortByTime() {
+		if (isSorted()) {
+			return;
+		}
+		if (isReverseSorted()) {
+			reverse();
+			return;
+		}
+		int[] order = IntStream.range(0, size).boxed()
+			.sorted(Comparator.comparingLong(i -> time[i]))
+			.mapToInt(Integer::intValue)
+			.toArray();
+		time = permute(time, order);
+		open = permute(open, order);
+		high = permute(high, order);
+		low = permute(low, order);
+		close = permute(close, order);
+		volume = permute(volume, order);
+	}
+
+	/**
+	 * intervalMillis 단위로 캔들을 집계한 새 시계열 (예: 초봉 → 1분봉)
+	 */
+	public CandleSeries resample(long intervalMillis) {
+		CandleSeries out = new CandleSeries(market(), Math.max(1, size / 4));
+		int i = 0;
+		while (i < size) {
+			long bucket = Math.floorDiv(time[i] + KST.getTotalSeconds() * 1000L, intervalMillis) * intervalMillis
+				- KST.getTotalSeconds() * 1000L;
+			double o = open[i], h = high[i], l = low[i], c = close[i], v = 0;
+			int j = i;
+			while (j < size && time[j] < bucket + intervalMillis) {
+				h = Math.max(h, high[j]);
+				l = Math.min(l, low[j]);
+				c = close[j];
+				v += volume[j];
+				j++;
+			}
+			out.append(bucket, o, h, l, c, v);
+			i = j;
+		}
+		return out;
+	}
+
+	public void trimToSize() {
+		if (size == time.length) {
+			return;
+		}
+		time = Arrays.copyOf(time, size);
+		open = Arrays.copyOf(open, size);
+		high = Arrays.copyOf(high, size);
+		low = Arrays.copyOf(low, size);
+		close = Arrays.copyOf(close, size);
+		volume = Arrays.copyOf(volume, size);
+	}
+
+	/* ---------------- 읽기 ---------------- */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int marketId() {
+		return marketId;
+	}
+
+	public String market() {
+		return market;
+	}
+
+	public long time(int i) {
+		return time[i];
+	}
+
+	public double open(int i) {
+		return open[i];
+	}
+
+	public double high(int i) {
+		return high[i];
+	}
+
+	public double low(int i) {
+		return low[i];
+	}
+
+	public double close(int i) {
+		return close[i];
+	}
+
+	public double volume(int i) {
+		return volume[i];
+	}
+
+	public LocalDateTime timestamp(int i) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(time[i]), KST);
+	}
+
+	/**
+	 * 컬럼 원본 배열 – 지표 계산용 읽기 전용 접근. 길이는 size() 보다 클 수 있다.
+	 */
+	public double[] closeColumn() {
+		return close;
+	}
+
+	public double[] highColumn() {
+		return high;
+	}
+
+	public double[] lowColumn() {
+		return low;
+	}
+
+	public double[] volumeColumn() {
+		return volume;
+	}
+
+	public long[] timeColumn() {
+		return time;
+	}
+
+	/**
+	 * i 번째 캔들을 MarketData 로 생성
+	 */
+	public MarketData get(int i) {
+		return MarketData.builder()
+			.market(market())
+			.timestamp(timestamp(i))
+			.openPrice(BigDecimal.valueOf(open[i]))
+			.highPrice(BigDecimal.valueOf(high[i]))
+			.lowPrice(BigDecimal.valueOf(low[i]))
+			.closePrice(BigDecimal.valueOf(close[i]))
+			.volume(BigDecimal.valueOf(volume[i]))
+			.build();
+	}
+
+	/**
+	 * 컬럼을 복사하지 않는 List&lt;MarketData&gt; 뷰. 원소는 get 시점에 생성된다.
+	 */
+	public List<MarketData> asMarketDataList() {
+		return new MarketDataView();
+	}
+
+	public static long toEpochMillis(LocalDateTime kst) {
+		return kst.toInstant(KST).toEpochMilli();
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private void grow() {
+		int cap = time.length + (time.length >> 1) + 1;
+		time = Arrays.copyOf(time, cap);
+		open = Arrays.copyOf(open, cap);
+		high = Arrays.copyOf(high, cap);
+		low = Arrays.copyOf(low, cap);
+		close = Arrays.copyOf(close, cap);
+		volume = Arrays.copyOf(volume, cap);
+	}
+
+	private boolean isSorted() {
+		for (int i = 1; i < size; i++) {
+			if (time[i - 1] > time[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isReverseSorted() {
+		for (int i = 1; i < size; i++) {
+			if (time[i - 1] < time[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void reverse() {
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			long t = time[i];
+			time[i] = time[j];
+			time[j] = t;
+			swap(open, i, j);
+			swap(high, i, j);
+			swap(low, i, j);
+			swap(close, i, j);
+			swap(volume, i, j);
+		}
+	}
+
+	private static void swap(double[] a, int i, int j) {
+		double t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	private static long[] permute(long[] src, int[] order) {
+		long[] out = new long[src.length];
+		for (int i = 0; i < order.length; i++) {
+			out[i] = src[order[i]];
+		}
+		return out;
+	}
+
+	private static double[] permute(double[] src, int[] order) {
+		double[] out = new double[src.length];
+		for (int i = 0; i < order.length; i++) {
+			out[i] = src[order[i]];
+		}
+		return out;
+	}
+
+	private final class MarketDataView extends AbstractList<MarketData> implements RandomAccess {
+
+		@Override
+		public MarketData get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException(index);
+			}
+			return CandleSeries.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
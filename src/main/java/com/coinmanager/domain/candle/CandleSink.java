@@ -0,0 +1,11 @@
+package com.coinmanager.domain.candle;
+
+/**
+ * 캔들 한 개를 primitive 값 그대로 받는 소비자 (CandleSeries::append 와 시그니처가 같다)
+ */
+@FunctionalInterface
+public interface CandleSink {
+
+	void accept(long epochMillis, double open, double high, double low, double close, double volume);
+
+}
@@ -0,0 +1,41 @@
+package com.coinmanager.domain.candle;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 마켓 코드(KRW-BTC 등) ↔ int id 인턴 테이블.
+ * 캔들마다 String 을 들고 다니지 않도록 CandleSeries 는 시계열당 id 와 인턴된 이름 하나만 가진다.
+ * 등록은 드물고 조회는 백테스트 루프 안에서도 일어나므로, 이름 표는 등록 때마다 새 배열로 바꿔 끼워 조회에 락이 없다.
+ */
+@UtilityClass
+public class MarketIds {
+
+	private final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+	private final Object LOCK = new Object();
+	private volatile String[] names = new String[0];
+
+	public int idOf(String market) {
+		Integer id = IDS.get(market);
+		if (id != null) {
+			return id;
+		}
+		synchronized (LOCK) {
+			id = IDS.get(market);
+			if (id == null) {
+				String[] next = Arrays.copyOf(names, names.length + 1);
+				id = next.length - 1;
+				next[id] = market;
+				names = next;                       // 이름을 먼저 공개한 뒤 id 를 내준다
+				IDS.put(market, id);
+			}
+			return id;
+		}
+	}
+
+	public String nameOf(int id) {
+		return names[id];
+	}
+}
@@ -27,17 +27,21 @@ public class OrderRequest {
 	@JsonProperty("ord_type")
 	private final OrderType ordType;      // limit | price | market
 
-	@Builder
+	private final String identifier;      // 클라이언트 지정 주문 ID (업비트에서 유일) – 응답 유실 시 조회 키
+
+	@Builder(toBuilder = true)
 	public OrderRequest(String market,
 		OrderSide side,
 		BigDecimal volume,
 		BigDecimal price,
-		OrderType ordType) {
+		OrderType ordType,
+		String identifier) {
 		this.market = market;
 		this.side = side;
 		this.volume = volume;
 		this.price = price;
 		this.ordType = ordType;
+		this.identifier = identifier;
 	}
 
 	public boolean isBuy() {
@@ -0,0 +1,40 @@
+package com.coinmanager.domain.dto;
+
+import com.coinmanager.domain.entity.OrderHistory;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 체결 내역 읽기 전용 프로젝션 – 엔티티를 영속성 컨텍스트에 올리지 않고 스트리밍/페이지 조회한다
+ */
+public record TradeRow(
+	Long id,
+	String uuid,
+	String market,
+	OrderSide side,
+	OrderType orderType,
+	BigDecimal price,
+	BigDecimal volume,
+	BigDecimal fee,
+	String strategy,
+	LocalDateTime executedAt
+) {
+
+	public static TradeRow of(OrderHistory h) {
+		return new TradeRow(h.getId(), h.getUuid(), h.getMarket(), h.getSide(), h.getOrderType(),
+			h.getPrice(), h.getVolume(), h.getFee(), h.getStrategy(), h.getExecutedAt());
+	}
+
+	/**
+	 * 원화 체결 금액
+	 */
+	public BigDecimal notional() {
+		return price.multiply(volume);
+	}
+
+	public BigDecimal feeOrZero() {
+		return fee != null ? fee : BigDecimal.ZERO;
+	}
+}
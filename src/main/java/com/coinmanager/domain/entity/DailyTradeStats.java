@@ -0,0 +1,90 @@
+package com.coinmanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마켓·일자별 체결 집계 – 체결 내역이 저장될 때 같은 트랜잭션에서 누적된다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_trade_stats", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_daily_trade_stats_market_date", columnNames = {"market", "trade_date"})
+})
+public class DailyTradeStats {
+
+	// 체결 내역과 같은 트랜잭션·배치로 들어가므로 OrderHistory 처럼 시퀀스 + pooled (IDENTITY 면 JDBC 배치가 꺼진다)
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_trade_stats_seq")
+	@SequenceGenerator(name = "daily_trade_stats_seq", sequenceName = "daily_trade_stats_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false, length = 10)
+	private String market;
+
+	@Column(nullable = false)
+	private LocalDate tradeDate;
+
+	private int buyCount;
+
+	private int sellCount;
+
+	private int wins;               // 실현손익 > 0 인 매도
+
+	private int losses;             // 실현손익 < 0 인 매도
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal buyVolume = BigDecimal.ZERO;
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal sellVolume = BigDecimal.ZERO;
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal buyNotional = BigDecimal.ZERO;    // 원화 매수 금액
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal sellNotional = BigDecimal.ZERO;   // 원화 매도 금액
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal fees = BigDecimal.ZERO;
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal realizedPnl = BigDecimal.ZERO;    // 평균단가 기준, 수수료 차감
+
+	public DailyTradeStats(String market, LocalDate tradeDate) {
+		this.market = market;
+		this.tradeDate = tradeDate;
+	}
+
+	public void addBuy(BigDecimal volume, BigDecimal notional, BigDecimal fee) {
+		buyCount++;
+		buyVolume = buyVolume.add(volume);
+		buyNotional = buyNotional.add(notional);
+		fees = fees.add(fee);
+	}
+
+	public void addSell(BigDecimal volume, BigDecimal notional, BigDecimal fee, BigDecimal pnl) {
+		sellCount++;
+		sellVolume = sellVolume.add(volume);
+		sellNotional = sellNotional.add(notional);
+		fees = fees.add(fee);
+		realizedPnl = realizedPnl.add(pnl);
+		if (pnl.signum() > 0) {
+			wins++;
+		} else if (pnl.signum() < 0) {
+			losses++;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.coinmanager.domain.entity;
 
+import com.coinmanager.domain.enums.OrderSide;
 import com.coinmanager.domain.enums.OrderType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,7 +9,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,52 +19,71 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "order_histories")
+@Table(name = "order_histories", indexes = {
+	// 마켓·기간 조회와 (executed_at, id) 키셋 페이지네이션이 인덱스만 타고 정렬 없이 끝나도록
+	@Index(name = "idx_order_histories_market_executed_at", columnList = "market, executed_at, id")
+})
 public class OrderHistory {
 
+	// IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다 → 시퀀스 + pooled 옵티마이저 (50개씩 선할당)
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_history_seq")
+	@SequenceGenerator(name = "order_history_seq", sequenceName = "order_history_seq", allocationSize = 50)
 	private Long id;
 
-	@Column(length = 30)
-	private String uuid; // 업비트 주문 UUID
+	@Column(length = 36)
+	private String uuid; // 업비트 주문 UUID (8-4-4-4-12, 36자)
 
 	@Column(nullable = false, length = 10)
 	private String market;
 
+	@Enumerated(EnumType.STRING)
+	@Column(length = 5)
+	private OrderSide side; // 이전 기록은 null
+
 	@Column(nullable = false, precision = 20, scale = 8)
-	private BigDecimal price;
+	private BigDecimal price; // 코인 1개 가격
 
 	@Column(nullable = false, precision = 20, scale = 8)
-	private BigDecimal volume;
+	private BigDecimal volume; // 코인 수량
+
+	@Column(precision = 20, scale = 8)
+	private BigDecimal fee; // 원화 수수료
 
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, length = 10)
 	private OrderType orderType;
 
+	@Column(length = 40)
+	private String strategy; // 주문을 낸 전략 슬롯 이름
+
 	@Column(nullable = false)
-	@CreationTimestamp
-	private LocalDateTime executedAt;
+	private LocalDateTime executedAt;   // 체결 시각 – write-behind 라 INSERT 시각과 다를 수 있음 (없으면 prePersist)
 
 	@Builder
 	public OrderHistory(
 		String uuid,
 		String market,
+		OrderSide side,
 		BigDecimal price,
 		BigDecimal volume,
+		BigDecimal fee,
 		OrderType orderType,
+		String strategy,
 		LocalDateTime executedAt
 	) {
 		this.uuid = uuid;
 		this.market = market;
+		this.side = side;
 		this.price = price;
 		this.volume = volume;
+		this.fee = fee;
 		this.orderType = orderType;
+		this.strategy = strategy;
 		this.executedAt = executedAt;
 	}
 
@@ -0,0 +1,61 @@
+package com.coinmanager.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마켓별 보유 수량과 취득원가 – 실현손익(평균단가법) 계산용 누적 상태
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "position_states")
+public class PositionState {
+
+	private static final int SCALE = 8;
+
+	@Id
+	@Column(length = 10)
+	private String market;
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal quantity = BigDecimal.ZERO;
+
+	@Column(nullable = false, precision = 24, scale = 8)
+	private BigDecimal cost = BigDecimal.ZERO;          // 보유분 취득원가 (매수 수수료 포함)
+
+	public PositionState(String market) {
+		this.market = market;
+	}
+
+	public void buy(BigDecimal volume, BigDecimal notional, BigDecimal fee) {
+		quantity = quantity.add(volume);
+		cost = cost.add(notional).add(fee);
+	}
+
+	/**
+	 * 보유분을 넘는 매도 수량(기록 이전에 산 코인 등)은 원가를 모르므로 손익에서 뺀다
+	 *
+	 * @return 실현손익 (매도 수수료 차감)
+	 */
+	public BigDecimal sell(BigDecimal volume, BigDecimal notional, BigDecimal fee) {
+		if (volume.signum() <= 0 || quantity.signum() <= 0) {
+			return BigDecimal.ZERO;
+		}
+		BigDecimal matched = volume.min(quantity);
+		BigDecimal matchedCost = cost.multiply(matched).divide(quantity, SCALE, RoundingMode.HALF_EVEN);
+		BigDecimal ratio = matched.divide(volume, 16, RoundingMode.HALF_EVEN);
+		BigDecimal proceeds = notional.subtract(fee).multiply(ratio).setScale(SCALE, RoundingMode.HALF_EVEN);
+
+		quantity = quantity.subtract(matched);
+		cost = quantity.signum() == 0 ? BigDecimal.ZERO : cost.subtract(matchedCost);
+		return proceeds.subtract(matchedCost);
+	}
+}
@@ -0,0 +1,15 @@
+package com.coinmanager.domain.repository;
+
+import com.coinmanager.domain.entity.DailyTradeStats;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyTradeStatsRepository extends JpaRepository<DailyTradeStats, Long> {
+
+	Optional<DailyTradeStats> findByMarketAndTradeDate(String market, LocalDate tradeDate);
+
+	List<DailyTradeStats> findByMarketAndTradeDateBetweenOrderByTradeDate(String market, LocalDate from, LocalDate to);
+
+}
@@ -1,14 +1,25 @@
 package com.coinmanager.domain.repository;
 
+import com.coinmanager.domain.dto.TradeRow;
 import com.coinmanager.domain.entity.OrderHistory;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface OrderHistoryRepository extends JpaRepository<OrderHistory, Long> {
 
+	String TRADE_ROW = "select new com.coinmanager.domain.dto.TradeRow("
+		+ "oh.id, oh.uuid, oh.market, oh.side, oh.orderType, oh.price, oh.volume, oh.fee, oh.strategy, oh.executedAt)"
+		+ " from OrderHistory oh";
+
 	@Query("select oh from OrderHistory oh where oh.market = :market and oh.executedAt between :start and :end order by oh.executedAt desc")
 	List<OrderHistory> findByMarketAndDateRange(
 		@Param("market") String market,
@@ -16,4 +27,30 @@ public interface OrderHistoryRepository extends JpaRepository<OrderHistory, Long
 		@Param("end") LocalDateTime end
 	);
 
+	@Query("select oh.uuid from OrderHistory oh where oh.uuid in :uuids")
+	List<String> findExistingUuids(@Param("uuids") Collection<String> uuids);
+
+	/**
+	 * 키셋 페이지 – (executedAt, id) 가 커서보다 큰 것부터 limit 개. 첫 페이지는 (from, 0).
+	 * (market, executed_at, id) 인덱스 범위 스캔이라 OFFSET 과 달리 뒤 페이지도 비용이 같다
+	 */
+	@Query(TRADE_ROW + " where oh.market = :market and oh.executedAt < :to"
+		+ " and (oh.executedAt > :afterTime or (oh.executedAt = :afterTime and oh.id > :afterId))"
+		+ " order by oh.executedAt, oh.id")
+	List<TradeRow> findPageAfter(
+		@Param("market") String market,
+		@Param("to") LocalDateTime to,
+		@Param("afterTime") LocalDateTime afterTime,
+		@Param("afterId") long afterId,
+		Limit limit
+	);
+
+	/**
+	 * 전체 체결 내역을 저장 순서대로 스트리밍 (트랜잭션 안에서, 사용 후 close).
+	 * MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 끊어 읽는다
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query(TRADE_ROW + " order by oh.id")
+	Stream<TradeRow> streamAll();
+
 }
@@ -0,0 +1,8 @@
+package com.coinmanager.domain.repository;
+
+import com.coinmanager.domain.entity.PositionState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PositionStateRepository extends JpaRepository<PositionState, String> {
+
+}
@@ -0,0 +1,87 @@
+package com.coinmanager.feed;
+
+import com.coinmanager.domain.candle.CandleAggregator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마켓 하나의 체결 → intervalMillis 캔들 집계.
+ * 구간이 바뀌는 체결이 오거나, 체결이 없어도 구간 종료 후 grace 가 지나면 마감한다.
+ *
+ * <p>업비트 sequential_id 는 유일하지만 순서를 보장하지 않는다. 그래서 최대값 비교가 아니라
+ * 최근 id 집합으로 중복(재연결 직후 다시 오는 체결)만 거르고, 순서가 뒤바뀐 체결도 거래량·고저가에 반영한다.
+ * 종가는 도착 순이 아니라 체결 시각이 가장 늦은 체결의 가격이다.
+ */
+@Slf4j
+class LiveCandleBuilder {
+
+	private final String market;
+	private final long intervalMillis;
+	private final long graceMillis;
+	private final CandleAggregator aggregator;
+
+	private static final int RECENT_IDS = 4096;      // 재연결 때 다시 받는 체결 수보다 넉넉하게
+
+	private final Set<Long> recentIds = new LinkedHashSet<>();
+	private long closedBucket = Long.MIN_VALUE;      // 마지막으로 마감된 구간
+	private long lastTradeTime = Long.MIN_VALUE;     // 진행 중 구간에서 가장 늦은 체결 시각
+	private double lastPrice;
+
+	LiveCandleBuilder(String market, long intervalMillis, long graceMillis, List<MarketFeedListener> listeners) {
+		this.market = market;
+		this.intervalMillis = intervalMillis;
+		this.graceMillis = graceMillis;
+		this.aggregator = new CandleAggregator(intervalMillis, (t, o, h, l, c, v) -> {
+			closedBucket = t;
+			for (MarketFeedListener listener : listeners) {
+				listener.onCandleClosed(market, intervalMillis, t, o, h, l, c, v);
+			}
+		});
+	}
+
+	synchronized void onTrade(TradeTick tick) {
+		long id = tick.sequentialId();
+		if (id != 0 && recentIds.contains(id)) {
+			return;                                     // 재연결 직후 중복 수신
+		}
+		long bucket = CandleAggregator.bucketOf(tick.epochMillis(), intervalMillis);
+		if (bucket <= closedBucket) {
+			log.debug("[{}] 이미 마감된 구간의 늦은 체결 무시: {}", market, tick);
+			return;
+		}
+		if (id != 0) {
+			remember(id);
+		}
+
+		double close = tick.price();
+		if (bucket == aggregator.currentBucket() && tick.epochMillis() < lastTradeTime) {
+			close = lastPrice;                          // 늦게 도착한 이전 체결 – 종가는 그대로
+		} else {
+			lastTradeTime = tick.epochMillis();
+			lastPrice = tick.price();
+		}
+		aggregator.accept(tick.epochMillis(), tick.price(), tick.price(), tick.price(), close, tick.volume());
+	}
+
+	private void remember(long id) {
+		recentIds.add(id);
+		if (recentIds.size() > RECENT_IDS) {
+			Iterator<Long> eldest = recentIds.iterator();
+			eldest.next();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * 타이머에서 호출 – 구간이 끝났는데 다음 체결이 없으면 그대로 마감
+	 */
+	synchronized void closeIfDue(long nowMillis) {
+		long bucket = aggregator.currentBucket();
+		if (bucket != Long.MIN_VALUE && nowMillis >= bucket + intervalMillis + graceMillis) {
+			aggregator.flush();
+		}
+	}
+}
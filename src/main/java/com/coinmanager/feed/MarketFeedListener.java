@@ -0,0 +1,19 @@
+package com.coinmanager.feed;
+
+/**
+ * 실시간 시세 구독자. 콜백은 피드 수신 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘긴다.
+ */
+public interface MarketFeedListener {
+
+	/**
+	 * 체결마다 (봉 중간 이벤트)
+	 */
+	default void onTrade(TradeTick tick) {
+	}
+
+	/**
+	 * intervalMillis 단위 캔들 마감
+	 */
+	void onCandleClosed(String market, long intervalMillis,
+		long epochMillis, double open, double high, double low, double close, double volume);
+}
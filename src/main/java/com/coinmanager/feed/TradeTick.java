@@ -0,0 +1,10 @@
+package com.coinmanager.feed;
+
+/**
+ * 체결 1건
+ *
+ * @param epochMillis  체결 시각 (trade_timestamp)
+ * @param sequentialId 체결 고유 번호 – 재연결 시 중복 체결 제거에 사용
+ */
+public record TradeTick(String market, long epochMillis, double price, double volume, long sequentialId) {
+}
@@ -0,0 +1,50 @@
+package com.coinmanager.feed;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Upbit WebSocket trade 메시지(DEFAULT 포맷) 스트리밍 파서 – Map 을 만들지 않는다.
+ * trade 가 아닌 메시지({"status":"UP"}, 에러 등)는 null.
+ */
+class UpbitTradeParser {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	TradeTick parse(byte[] buf, int off, int len) throws IOException {
+		try (JsonParser p = FACTORY.createParser(buf, off, len)) {
+			if (p.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			String type = null;
+			String code = null;
+			long time = Long.MIN_VALUE;
+			double price = Double.NaN;
+			double volume = Double.NaN;
+			long seq = 0;
+
+			while (p.nextToken() == JsonToken.FIELD_NAME) {
+				String field = p.currentName();
+				p.nextToken();
+				switch (field) {
+					case "type", "ty" -> type = p.getText();
+					case "code", "cd" -> code = p.getText();
+					case "trade_timestamp", "ttms" -> time = p.getValueAsLong();
+					case "trade_price", "tp" -> price = p.getValueAsDouble();
+					case "trade_volume", "tv" -> volume = p.getValueAsDouble();
+					case "sequential_id", "sid" -> seq = p.getValueAsLong();
+					case "error" -> throw new IOException("Upbit WebSocket 오류: " + new String(buf, off, len, StandardCharsets.UTF_8));
+					default -> p.skipChildren();
+				}
+			}
+
+			if (!"trade".equals(type) || code == null || time == Long.MIN_VALUE || Double.isNaN(price)) {
+				return null;
+			}
+			return new TradeTick(code, time, price, volume, seq);
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package com.coinmanager.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upbit WebSocket 체결(trade) 구독 → 마켓별 1분봉(및 설정 시 N초봉) 실시간 집계.
+ * 연결이 끊기면 지수 백오프로 재연결하고 같은 마켓을 다시 구독한다.
+ * trading.feed=websocket 일 때만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "trading.feed", havingValue = "websocket")
+public class UpbitWebSocketFeed {
+
+	public static final long MINUTE = 60_000L;
+
+	private static final long PING_INTERVAL_SEC = 60;       // 서버는 120초 무응답 시 끊는다
+	private static final long CLOSE_CHECK_MS = 250;
+	private static final long GRACE_MS = 1_500;             // 구간 종료 후 늦게 도착하는 체결 대기
+	private static final long MAX_BACKOFF_MS = 30_000;
+
+	private final URI uri;
+	private final List<String> markets;
+	private final List<MarketFeedListener> listeners;
+	private final long secondCandleMillis;
+
+	private final HttpClient http = HttpClient.newHttpClient();
+	private final UpbitTradeParser parser = new UpbitTradeParser();
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final Map<String, List<LiveCandleBuilder>> builders = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("upbit-ws-timer").daemon().factory());
+
+	private volatile WebSocket socket;
+	private volatile boolean running;
+	private long backoffMs = 1_000;
+
+	public UpbitWebSocketFeed(
+		@Value("${feed.websocket.url:wss://api.upbit.com/websocket/v1}") String url,
+		@Value("${trading.markets:KRW-BTC}") List<String> markets,
+		@Value("${feed.second-candle-seconds:0}") int secondCandleSeconds,
+		List<MarketFeedListener> listeners
+	) {
+		this.uri = URI.create(url);
+		this.markets = markets;
+		this.listeners = listeners;
+		this.secondCandleMillis = secondCandleSeconds * 1000L;
+	}
+
+	@PostConstruct
+	void start() {
+		for (String market : markets) {
+			builders.put(market, secondCandleMillis > 0
+				? List.of(new LiveCandleBuilder(market, MINUTE, GRACE_MS, listeners),
+				new LiveCandleBuilder(market, secondCandleMillis, GRACE_MS, listeners))
+				: List.of(new LiveCandleBuilder(market, MINUTE, GRACE_MS, listeners)));
+		}
+		running = true;
+		timer.scheduleAtFixedRate(this::closeDueCandles, CLOSE_CHECK_MS, CLOSE_CHECK_MS, TimeUnit.MILLISECONDS);
+		timer.scheduleAtFixedRate(this::ping, PING_INTERVAL_SEC, PING_INTERVAL_SEC, TimeUnit.SECONDS);
+		connect();
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		timer.shutdownNow();
+		WebSocket ws = socket;
+		if (ws != null) {
+			ws.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown");
+		}
+	}
+
+	public boolean isConnected() {
+		WebSocket ws = socket;
+		return ws != null && !ws.isInputClosed();
+	}
+
+	/* ---------------- 연결 ---------------- */
+	private void connect() {
+		if (!running) {
+			return;
+		}
+		http.newWebSocketBuilder()
+			.connectTimeout(Duration.ofSeconds(10))
+			.buildAsync(uri, new Listener())
+			.whenComplete((ws, err) -> {
+				if (err != null) {
+					log.warn("WebSocket 연결 실패: {}", err.getMessage());
+					scheduleReconnect();
+					return;
+				}
+				socket = ws;
+				backoffMs = 1_000;
+				subscribe(ws);
+				log.info("WebSocket 연결 완료 → {} ({})", uri, markets);
+			});
+	}
+
+	private synchronized void scheduleReconnect() {
+		if (!running) {
+			return;
+		}
+		long delay = backoffMs;
+		backoffMs = Math.min(MAX_BACKOFF_MS, backoffMs * 2);
+		log.info("WebSocket {} ms 후 재연결", delay);
+		timer.schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void subscribe(WebSocket ws) {
+		try {
+			String request = mapper.writeValueAsString(List.of(
+				Map.of("ticket", UUID.randomUUID().toString()),
+				Map.of("type", "trade", "codes", markets)
+			));
+			ws.sendText(request, true);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void ping() {
+		WebSocket ws = socket;
+		if (ws != null && !ws.isOutputClosed()) {
+			ws.sendPing(ByteBuffer.allocate(0));
+		}
+	}
+
+	private void closeDueCandles() {
+		long now = System.currentTimeMillis();
+		for (List<LiveCandleBuilder> list : builders.values()) {
+			for (LiveCandleBuilder b : list) {
+				try {
+					b.closeIfDue(now);
+				} catch (Exception e) {
+					log.error("캔들 마감 처리 실패", e);
+				}
+			}
+		}
+	}
+
+	private void dispatch(byte[] buf, int len) {
+		try {
+			TradeTick tick = parser.parse(buf, 0, len);
+			if (tick == null) {
+				return;
+			}
+			for (MarketFeedListener listener : listeners) {
+				listener.onTrade(tick);
+			}
+			List<LiveCandleBuilder> list = builders.get(tick.market());
+			if (list != null) {
+				for (LiveCandleBuilder b : list) {
+					b.onTrade(tick);
+				}
+			}
+		} catch (Exception e) {
+			log.error("WebSocket 메시지 처리 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Upbit 는 바이너리 프레임으로 JSON 을 보낸다. 조각난 프레임은 last 까지 모아서 처리.
+	 */
+	private final class Listener implements WebSocket.Listener {
+
+		private final ByteArrayOutputStream partial = new ByteArrayOutputStream(512);
+
+		@Override
+		public CompletionStage<?> onBinary(WebSocket ws, ByteBuffer data, boolean last) {
+			byte[] chunk = new byte[data.remaining()];
+			data.get(chunk);
+			partial.writeBytes(chunk);
+			if (last) {
+				dispatch(partial.toByteArray(), partial.size());
+				partial.reset();
+			}
+			ws.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onText(WebSocket ws, CharSequence data, boolean last) {
+			partial.writeBytes(data.toString().getBytes(StandardCharsets.UTF_8));
+			if (last) {
+				dispatch(partial.toByteArray(), partial.size());
+				partial.reset();
+			}
+			ws.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onClose(WebSocket ws, int statusCode, String reason) {
+			log.warn("WebSocket 종료 ({}, {})", statusCode, reason);
+			socket = null;
+			scheduleReconnect();
+			return null;
+		}
+
+		@Override
+		public void onError(WebSocket ws, Throwable error) {
+			log.warn("WebSocket 오류: {}", error.getMessage());
+			socket = null;
+			scheduleReconnect();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.coinmanager.feed.replay;
+
+import com.coinmanager.backtest.io.CandleFileLoader;
+import com.coinmanager.domain.candle.CandleSeries;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 구독 요청을 받으면 캔들마다 O → H → L → C 순서의 체결 4건(거래량 1/4씩)을 합성해 보낸다.
+ * 시각은 재생 시작 시점의 분 경계로 옮기고, speed 배속으로 흘려보낸다 (60 → 1분봉 하나당 1초).
+ */
+@Slf4j
+@Component
+@Profile("replay")
+public class ReplayTradeHandler extends TextWebSocketHandler {
+
+	private static final long MINUTE = 60_000L;
+
+	private final CandleFileLoader loader;
+	private final Path file;
+	private final double speed;
+	private final Map<String, Thread> players = new ConcurrentHashMap<>();
+
+	public ReplayTradeHandler(
+		CandleFileLoader loader,
+		@Value("${feed.replay.file:data/replay.bin}") String file,
+		@Value("${feed.replay.speed:60}") double speed
+	) {
+		this.loader = loader;
+		this.file = Path.of(file);
+		this.speed = speed;
+	}
+
+	@Override
+	protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+		// 구독 메시지 내용과 무관하게 파일의 마켓을 재생한다
+		players.computeIfAbsent(session.getId(), id -> Thread.ofVirtual()
+			.name("replay-" + id)
+			.start(() -> play(session)));
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+		Thread player = players.remove(session.getId());
+		if (player != null) {
+			player.interrupt();
+		}
+	}
+
+	private void play(WebSocketSession session) {
+		try {
+			CandleSeries series = loader.load(file);
+			if (series.isEmpty()) {
+				return;
+			}
+			long shift = System.currentTimeMillis() / MINUTE * MINUTE - series.time(0);
+			long seq = 0;
+			log.info("재생 시작 → {} ({}개, {}배속)", file, series.size(), speed);
+
+			for (int i = 0; i < series.size() && session.isOpen(); i++) {
+				long t = series.time(i) + shift;
+				long next = i + 1 < series.size() ? series.time(i + 1) + shift : t + MINUTE;
+				long step = Math.max(1, (next - t) / 4);
+				double[] prices = {series.open(i), series.high(i), series.low(i), series.close(i)};
+				double vol = series.volume(i) / 4;
+
+				for (int k = 0; k < prices.length; k++) {
+					send(session, series.market(), t + k * step, prices[k], vol, ++seq);
+				}
+				Thread.sleep((long) ((next - t) / speed));
+			}
+			log.info("재생 종료 → {}", file);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			log.error("재생 실패: {}", e.getMessage(), e);
+		} finally {
+			players.remove(session.getId());
+		}
+	}
+
+	private void send(WebSocketSession session, String market, long time, double price, double volume, long seq)
+		throws IOException {
+		String json = String.format(Locale.ROOT,
+			"{\"type\":\"trade\",\"code\":\"%s\",\"trade_timestamp\":%d,\"trade_price\":%s,"
+				+ "\"trade_volume\":%s,\"sequential_id\":%d,\"stream_type\":\"REALTIME\"}",
+			market, time, price, volume, seq);
+		synchronized (session) {
+			session.sendMessage(new BinaryMessage(json.getBytes(StandardCharsets.UTF_8)));
+		}
+	}
+}
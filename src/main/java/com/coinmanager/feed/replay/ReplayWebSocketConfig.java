@@ -0,0 +1,26 @@
+package com.coinmanager.feed.replay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * replay 프로필 – 저장된 캔들 파일을 Upbit WebSocket 과 같은 경로/포맷으로 재생한다.
+ * feed.websocket.url=ws://localhost:8080/websocket/v1 로 실시간 경로를 과거 데이터로 검증할 때 사용.
+ */
+@Configuration
+@EnableWebSocket
+@Profile("replay")
+@RequiredArgsConstructor
+public class ReplayWebSocketConfig implements WebSocketConfigurer {
+
+	private final ReplayTradeHandler handler;
+
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(handler, "/websocket/v1").setAllowedOrigins("*");
+	}
+}
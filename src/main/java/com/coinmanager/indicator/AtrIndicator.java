@@ -0,0 +1,44 @@
+package com.coinmanager.indicator;
+
+/**
+ * Wilder 방식 ATR
+ */
+public class AtrIndicator implements Indicator {
+
+	private final int period;
+	private double prevClose = Double.NaN;
+	private double trSum;
+	private double atr;
+	private int count;
+
+	public AtrIndicator(int period) {
+		this.period = period;
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		double tr = high - low;
+		if (!Double.isNaN(prevClose)) {
+			tr = Math.max(tr, Math.max(Math.abs(high - prevClose), Math.abs(low - prevClose)));
+		}
+		prevClose = close;
+		count++;
+
+		if (count <= period) {                 // 첫 N개는 단순평균으로 시드
+			trSum += tr;
+			atr = trSum / count;
+			return;
+		}
+		atr = (atr * (period - 1) + tr) / period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return count >= period;
+	}
+
+	@Override
+	public double value() {
+		return atr;
+	}
+}
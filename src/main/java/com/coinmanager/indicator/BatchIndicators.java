@@ -0,0 +1,217 @@
+package com.coinmanager.indicator;
+
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 시계열 전체에 대한 지표 배치 계산 (백테스트·파라미터 탐색용).
+ *
+ * <p>입력은 primitive 컬럼과 유효 길이 n, 출력은 길이 n 배열이며 값이 정의되지 않는 앞부분은 NaN 이다.
+ * 각 위치의 값은 TechIndicatorUtil 의 같은 지표(index 기준)와 같은 정의를 따른다.
+ * 윈도우 합은 보정(Neumaier) 누적합의 차로 O(1) 에 구하고, 원소별 연산은 jdk.incubator.vector 로 처리한다.
+ * 모듈이 없으면(--add-modules 미지정) 같은 연산 순서의 스칼라 코드로 대체되어 결과는 동일하다.
+ */
+@UtilityClass
+public class BatchIndicators {
+
+	private final boolean VECTOR = !Boolean.getBoolean("indicator.batch.scalar")
+		&& ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+	/**
+	 * @param middle 중심선(SMA)
+	 */
+	public record Bands(double[] middle, double[] upper, double[] lower) {
+	}
+
+	public boolean isVectorized() {
+		return VECTOR;
+	}
+
+	/* ---------------- 지표 ---------------- */
+	public double[] sma(double[] x, int n, int period) {
+		checkPeriod(period);
+		double[][] prefix = prefixSum(x, n);
+		double[] out = nanArray(n);
+		windowSum(prefix[0], prefix[1], period, 1.0 / period, out, period - 1, n);
+		return out;
+	}
+
+	/**
+	 * 지수이동평균 – 첫 값은 앞 period 개의 SMA, 이후 α = 2 / (period + 1). 앞 값에 의존하므로 스칼라
+	 */
+	public double[] ema(double[] x, int n, int period) {
+		checkPeriod(period);
+		double[] out = nanArray(n);
+		if (n < period) {
+			return out;
+		}
+		double seed = 0;
+		for (int i = 0; i < period; i++) {
+			seed += x[i];
+		}
+		double alpha = 2.0 / (period + 1);
+		double ema = seed / period;
+		out[period - 1] = ema;
+		for (int i = period; i < n; i++) {
+			ema += alpha * (x[i] - ema);
+			out[i] = ema;
+		}
+		return out;
+	}
+
+	/**
+	 * 모표준편차 – 윈도우마다 평균을 뺀 뒤 제곱합 (E[x²]-E[x]² 상쇄 오차 방지)
+	 */
+	public double[] stdDev(double[] x, int n, int period) {
+		return stdDev(x, n, period, sma(x, n, period));
+	}
+
+	/**
+	 * 볼린저밴드 (중심 ± k × 모표준편차)
+	 */
+	public Bands bollinger(double[] close, int n, int period, double k) {
+		double[] mid = sma(close, n, period);
+		double[] sd = stdDev(close, n, period, mid);
+		double[] upper = nanArray(n);
+		double[] lower = nanArray(n);
+		if (VECTOR) {
+			VectorKernels.bands(mid, sd, k, upper, lower, period - 1, n);
+		} else {
+			ScalarKernels.bands(mid, sd, k, upper, lower, period - 1, n);
+		}
+		return new Bands(mid, upper, lower);
+	}
+
+	/**
+	 * 최근 period 개 등락 단순합 RSI (TechIndicatorUtil.rsi 와 같은 Cutler 방식). index ≥ period 부터 유효
+	 */
+	public double[] rsi(double[] close, int n, int period) {
+		checkPeriod(period);
+		double[] gain = new double[n];
+		double[] loss = new double[n];
+		for (int i = 1; i < n; i++) {
+			double diff = close[i] - close[i - 1];
+			if (diff > 0) {
+				gain[i] = diff;
+			} else {
+				loss[i] = -diff;
+			}
+		}
+		double[] gainSum = new double[n];
+		double[] lossSum = new double[n];
+		double[][] g = prefixSum(gain, n);
+		double[][] l = prefixSum(loss, n);
+		windowSum(g[0], g[1], period, 1, gainSum, period, n);
+		windowSum(l[0], l[1], period, 1, lossSum, period, n);
+
+		double[] out = nanArray(n);
+		if (VECTOR) {
+			VectorKernels.rsi(gainSum, lossSum, out, period, n);
+		} else {
+			ScalarKernels.rsi(gainSum, lossSum, out, period, n);
+		}
+		return out;
+	}
+
+	/**
+	 * 최근 period 개 True Range 평균 (TechIndicatorUtil.atr 컬럼 버전과 같은 정의). index ≥ period 부터 유효
+	 */
+	public double[] atr(double[] high, double[] low, double[] close, int n, int period) {
+		checkPeriod(period);
+		double[] tr = new double[n];
+		for (int i = 1; i < n; i++) {
+			double prevClose = close[i - 1];
+			tr[i] = Math.max(high[i] - low[i],
+				Math.max(Math.abs(high[i] - prevClose), Math.abs(low[i] - prevClose)));
+		}
+		double[][] prefix = prefixSum(tr, n);
+		double[] out = nanArray(n);
+		windowSum(prefix[0], prefix[1], period, 1.0 / period, out, period, n);
+		return out;
+	}
+
+	/**
+	 * 거래량 / 최근 period 개 평균 거래량. 평균이 0 이면 0 (스트리밍 지표와 같음)
+	 */
+	public double[] volumeMultiplier(double[] volume, int n, int period) {
+		double[] avg = sma(volume, n, period);
+		double[] out = nanArray(n);
+		ratio(volume, avg, 0, 0, out, period - 1, n);
+		return out;
+	}
+
+	/**
+	 * 종가 / period 봉 전 종가. index ≥ period 부터 유효
+	 */
+	public double[] momentum(double[] close, int n, int period) {
+		checkPeriod(period);
+		double[] out = nanArray(n);
+		ratio(close, close, period, Double.NaN, out, period, n);
+		return out;
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private double[] stdDev(double[] x, int n, int period, double[] mean) {
+		double[] out = nanArray(n);
+		if (VECTOR) {
+			VectorKernels.stdDev(x, mean, period, out, period - 1, n);
+		} else {
+			ScalarKernels.stdDev(x, mean, period, out, period - 1, n);
+		}
+		return out;
+	}
+
+	/**
+	 * {hi, lo} – 길이 n+1, prefix[i] = x[0..i) 의 합 = hi[i] + lo[i].
+	 * 값이 큰(원화 가격) 긴 시계열에서도 윈도우 합이 누적 오차 없이 나오도록 보정항을 따로 둔다.
+	 */
+	private double[][] prefixSum(double[] x, int n) {
+		double[] hi = new double[n + 1];
+		double[] lo = new double[n + 1];
+		double s = 0;
+		double c = 0;
+		for (int i = 0; i < n; i++) {
+			double v = x[i];
+			double t = s + v;
+			c += Math.abs(s) >= Math.abs(v) ? (s - t) + v : (v - t) + s;
+			s = t;
+			hi[i + 1] = s;
+			lo[i + 1] = c;
+		}
+		return new double[][]{hi, lo};
+	}
+
+	private void windowSum(double[] hi, double[] lo, int period, double scale, double[] out, int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		if (VECTOR) {
+			VectorKernels.windowSum(hi, lo, period, scale, out, from, to);
+		} else {
+			ScalarKernels.windowSum(hi, lo, period, scale, out, from, to);
+		}
+	}
+
+	private void ratio(double[] num, double[] den, int lag, double zero, double[] out, int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		if (VECTOR) {
+			VectorKernels.ratio(num, den, lag, zero, out, from, to);
+		} else {
+			ScalarKernels.ratio(num, den, lag, zero, out, from, to);
+		}
+	}
+
+	private double[] nanArray(int n) {
+		double[] a = new double[n];
+		Arrays.fill(a, Double.NaN);
+		return a;
+	}
+
+	private void checkPeriod(int period) {
+		if (period <= 0) {
+			throw new IllegalArgumentException("period must be positive: " + period);
+		}
+	}
+}
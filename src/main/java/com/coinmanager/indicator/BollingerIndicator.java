@@ -0,0 +1,64 @@
+package com.coinmanager.indicator;
+
+import java.util.List;
+
+/**
+ * 볼린저밴드 (중심 ± k × 표준편차). value() 는 중심선.
+ * 엔진에서 만들면 같은 기간의 StdDev 노드를 공유하고(k 가 달라도 한 번만 계산), 밴드 값은 봉마다 한 번만 계산한다.
+ */
+public class BollingerIndicator implements Indicator {
+
+	private final StdDevIndicator stdDev;
+	private final boolean owned;            // stdDev 를 직접 갱신해야 하는지 (단독 사용)
+	private final double k;
+
+	private double upper = Double.NaN;
+	private double lower = Double.NaN;
+
+	public BollingerIndicator(int period, double k) {
+		this(new StdDevIndicator(period), k, true);
+	}
+
+	BollingerIndicator(StdDevIndicator stdDev, double k) {
+		this(stdDev, k, false);
+	}
+
+	private BollingerIndicator(StdDevIndicator stdDev, double k, boolean owned) {
+		this.stdDev = stdDev;
+		this.k = k;
+		this.owned = owned;
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		if (owned) {
+			stdDev.update(open, high, low, close, volume);
+		}
+		double band = k * stdDev.value();
+		upper = stdDev.mean() + band;
+		lower = stdDev.mean() - band;
+	}
+
+	@Override
+	public boolean isReady() {
+		return stdDev.isReady();
+	}
+
+	@Override
+	public double value() {
+		return stdDev.mean();
+	}
+
+	public double upper() {
+		return upper;
+	}
+
+	public double lower() {
+		return lower;
+	}
+
+	@Override
+	public List<Indicator> dependencies() {
+		return owned ? List.of() : List.of(stdDev);
+	}
+}
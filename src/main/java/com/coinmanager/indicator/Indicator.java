@@ -0,0 +1,29 @@
+package com.coinmanager.indicator;
+
+import java.util.List;
+
+/**
+ * 캔들 하나씩 갱신되는 상태형(streaming) 지표.
+ * update 한 번의 비용은 기간(period)과 무관하게 O(1) 이어야 한다.
+ *
+ * <p>다른 지표의 값을 입력으로 쓰는 지표는 dependencies() 로 선언한다.
+ * IndicatorEngine 은 의존 지표를 먼저 갱신하므로, update 시점에 의존 지표는 이미 이번 봉 값이다.
+ */
+public interface Indicator {
+
+	void update(double open, double high, double low, double close, double volume);
+
+	/**
+	 * 기간만큼 데이터가 쌓여 값이 유효한지 여부
+	 */
+	boolean isReady();
+
+	double value();
+
+	/**
+	 * 이 지표가 입력으로 쓰는 지표 (같은 엔진에 등록된 인스턴스여야 함)
+	 */
+	default List<Indicator> dependencies() {
+		return List.of();
+	}
+}
@@ -0,0 +1,61 @@
+package com.coinmanager.indicator;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 캔들 데이터셋 하나에 대해 BatchIndicators 로 계산한 지표 컬럼 캐시.
+ * 같은 (지표, 기간) 은 처음 요청될 때 한 번만 계산되어 모든 전략·파라미터 조합이 공유한다 (스레드 안전).
+ * 컬럼 인덱스는 series 의 캔들 인덱스와 같다.
+ */
+public class IndicatorColumns {
+
+	private final CandleSeries series;
+	private final Map<String, Object> cache = new ConcurrentHashMap<>();
+
+	public IndicatorColumns(CandleSeries series) {
+		this.series = series;
+	}
+
+	public CandleSeries series() {
+		return series;
+	}
+
+	public double[] sma(int period) {
+		return column("SMA(" + period + ")", () -> BatchIndicators.sma(series.closeColumn(), series.size(), period));
+	}
+
+	public double[] ema(int period) {
+		return column("EMA(" + period + ")", () -> BatchIndicators.ema(series.closeColumn(), series.size(), period));
+	}
+
+	public double[] rsi(int period) {
+		return column("RSI(" + period + ")", () -> BatchIndicators.rsi(series.closeColumn(), series.size(), period));
+	}
+
+	public BatchIndicators.Bands bollinger(int period, double k) {
+		return column("BB(" + period + "," + k + ")",
+			() -> BatchIndicators.bollinger(series.closeColumn(), series.size(), period, k));
+	}
+
+	public double[] atr(int period) {
+		return column("ATR(" + period + ")", () -> BatchIndicators.atr(
+			series.highColumn(), series.lowColumn(), series.closeColumn(), series.size(), period));
+	}
+
+	public double[] volumeMultiplier(int period) {
+		return column("VOLX(" + period + ")",
+			() -> BatchIndicators.volumeMultiplier(series.volumeColumn(), series.size(), period));
+	}
+
+	public double[] momentum(int period) {
+		return column("MOM(" + period + ")", () -> BatchIndicators.momentum(series.closeColumn(), series.size(), period));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T column(String key, Supplier<T> compute) {
+		return (T) cache.computeIfAbsent(key, k -> compute.get());
+	}
+}
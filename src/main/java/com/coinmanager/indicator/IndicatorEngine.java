@@ -0,0 +1,168 @@
+package com.coinmanager.indicator;
+
+import com.coinmanager.domain.dto.MarketData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 마켓 하나에 대한 스트리밍 지표 계산 그래프(DAG).
+ * 지표는 (종류, 파라미터, 입력 시계열) 키로 한 번만 등록되어 여러 전략이 공유하며,
+ * 볼린저 → StdDev, 거래량 계수 → SMA(VOLUME) 처럼 다른 지표를 입력으로 쓰는 지표는 그 노드를 재사용한다.
+ * 새 캔들이 들어오면 위상 순서(의존 지표 먼저)로 노드마다 한 번씩 O(1) 갱신하고, 값은 봉 단위로 보관된다.
+ */
+public class IndicatorEngine {
+
+	private final String market;
+	private final Map<String, Indicator> registry = new LinkedHashMap<>();
+	private Indicator[] indicators = new Indicator[0];
+
+	private long bars;
+	private double close = Double.NaN;
+
+	public IndicatorEngine(String market) {
+		this.market = market;
+	}
+
+	/* ---------------- 지표 등록 ---------------- */
+	public SmaIndicator sma(int period) {
+		return sma(PriceSource.CLOSE, period);
+	}
+
+	public SmaIndicator sma(PriceSource source, int period) {
+		return register("SMA(" + source + "," + period + ")", () -> new SmaIndicator(source, period));
+	}
+
+	public StdDevIndicator stdDev(int period) {
+		return register("STDDEV(" + period + ")", () -> new StdDevIndicator(period));
+	}
+
+	public BollingerIndicator bollinger(int period, double k) {
+		return register("BB(" + period + "," + k + ")", () -> new BollingerIndicator(stdDev(period), k));
+	}
+
+	public RsiIndicator rsi(int period) {
+		return register("RSI(" + period + ")", () -> new RsiIndicator(period, false));
+	}
+
+	public RsiIndicator wilderRsi(int period) {
+		return register("WRSI(" + period + ")", () -> new RsiIndicator(period, true));
+	}
+
+	public AtrIndicator atr(int period) {
+		return register("ATR(" + period + ")", () -> new AtrIndicator(period));
+	}
+
+	public MomentumIndicator momentum(int period) {
+		return register("MOM(" + period + ")", () -> new MomentumIndicator(period));
+	}
+
+	public VolumeMultiplierIndicator volumeMultiplier(int period) {
+		return register("VOLX(" + period + ")", () -> new VolumeMultiplierIndicator(sma(PriceSource.VOLUME, period)));
+	}
+
+	/* ---------------- 갱신 ---------------- */
+	public void update(double open, double high, double low, double close, double volume) {
+		for (Indicator indicator : indicators) {
+			indicator.update(open, high, low, close, volume);
+		}
+		this.close = close;
+		bars++;
+	}
+
+	public void update(MarketData candle) {
+		update(
+			candle.getOpenPrice().doubleValue(),
+			candle.getHighPrice().doubleValue(),
+			candle.getLowPrice().doubleValue(),
+			candle.getClosePrice().doubleValue(),
+			candle.getVolume().doubleValue()
+		);
+	}
+
+	/**
+	 * 등록된 모든 지표가 유효한지
+	 */
+	public boolean isReady() {
+		for (Indicator indicator : indicators) {
+			if (!indicator.isReady()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public String market() {
+		return market;
+	}
+
+	public double close() {
+		return close;
+	}
+
+	public long bars() {
+		return bars;
+	}
+
+	/**
+	 * 등록된 노드 키 (등록 순)
+	 */
+	public List<String> nodes() {
+		return List.copyOf(registry.keySet());
+	}
+
+	/* ---------------- 내부 ---------------- */
+	@SuppressWarnings("unchecked")
+	private <T extends Indicator> T register(String key, Supplier<T> factory) {
+		Indicator existing = registry.get(key);
+		if (existing != null) {
+			return (T) existing;
+		}
+		if (bars > 0) {
+			throw new IllegalStateException("캔들 수신 이후에는 지표를 추가할 수 없음: " + key);
+		}
+		T created = factory.get();     // 의존 노드는 여기서 먼저 등록된다
+		registry.put(key, created);
+		indicators = topologicalOrder();
+		return created;
+	}
+
+	/**
+	 * 의존 지표가 항상 먼저 오도록 정렬 (DFS 후위 순회)
+	 */
+	private Indicator[] topologicalOrder() {
+		Set<Indicator> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+		registered.addAll(registry.values());
+
+		List<Indicator> order = new ArrayList<>(registry.size());
+		Map<Indicator, Boolean> state = new IdentityHashMap<>();      // false: 방문 중, true: 완료
+		for (Indicator indicator : registry.values()) {
+			visit(indicator, registered, state, order);
+		}
+		return order.toArray(new Indicator[0]);
+	}
+
+	private void visit(Indicator node, Set<Indicator> registered, Map<Indicator, Boolean> state, List<Indicator> order) {
+		Boolean done = state.get(node);
+		if (Boolean.TRUE.equals(done)) {
+			return;
+		}
+		if (done != null) {
+			throw new IllegalStateException("지표 의존 관계에 순환이 있음: " + node);
+		}
+		if (!registered.contains(node)) {
+			throw new IllegalStateException("엔진에 등록되지 않은 의존 지표: " + node);
+		}
+		state.put(node, false);
+		for (Indicator dep : node.dependencies()) {
+			visit(dep, registered, state, order);
+		}
+		state.put(node, true);
+		order.add(node);
+	}
+}
@@ -0,0 +1,30 @@
+package com.coinmanager.indicator;
+
+/**
+ * 모멘텀 = 현재 종가 / N봉 전 종가
+ */
+public class MomentumIndicator implements Indicator {
+
+	private final int period;
+	private final RollingWindow closes;
+
+	public MomentumIndicator(int period) {
+		this.period = period;
+		this.closes = new RollingWindow(period + 1);
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		closes.push(close);
+	}
+
+	@Override
+	public boolean isReady() {
+		return closes.isFull();
+	}
+
+	@Override
+	public double value() {
+		return closes.get(0) / closes.get(period);
+	}
+}
@@ -0,0 +1,22 @@
+package com.coinmanager.indicator;
+
+/**
+ * 지표 입력 시계열 (같은 지표·기간이라도 입력이 다르면 다른 노드)
+ */
+public enum PriceSource {
+	OPEN,
+	HIGH,
+	LOW,
+	CLOSE,
+	VOLUME;
+
+	public double pick(double open, double high, double low, double close, double volume) {
+		return switch (this) {
+			case OPEN -> open;
+			case HIGH -> high;
+			case LOW -> low;
+			case CLOSE -> close;
+			case VOLUME -> volume;
+		};
+	}
+}
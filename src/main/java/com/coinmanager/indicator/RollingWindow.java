@@ -0,0 +1,79 @@
+package com.coinmanager.indicator;
+
+/**
+ * 고정 길이 double 링버퍼 + 누적합.
+ * 부동소수 누적 오차를 막기 위해 일정 횟수마다 합계를 다시 계산한다(분할 상환 O(1)).
+ */
+final class RollingWindow {
+
+	private static final int RESYNC_ROUNDS = 64;
+
+	private final double[] buf;
+	private int head;          // 다음에 쓸 위치
+	private int size;
+	private double sum;
+	private long pushes;
+
+	RollingWindow(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		this.buf = new double[capacity];
+	}
+
+	/**
+	 * 새 값을 넣고, 가득 찬 상태였다면 밀려난 값을 반환한다(아니면 NaN).
+	 */
+	double push(double v) {
+		double evicted = Double.NaN;
+		if (size == buf.length) {
+			evicted = buf[head];
+			sum -= evicted;
+		} else {
+			size++;
+		}
+		buf[head] = v;
+		sum += v;
+		head = (head + 1) % buf.length;
+
+		if (++pushes % ((long) buf.length * RESYNC_ROUNDS) == 0) {
+			resync();
+		}
+		return evicted;
+	}
+
+	/**
+	 * ago=0 이 가장 최근 값
+	 */
+	double get(int ago) {
+		int idx = head - 1 - ago;
+		if (idx < 0) {
+			idx += buf.length;
+		}
+		return buf[idx];
+	}
+
+	boolean isFull() {
+		return size == buf.length;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int capacity() {
+		return buf.length;
+	}
+
+	double sum() {
+		return sum;
+	}
+
+	private void resync() {
+		double s = 0;
+		for (int i = 0; i < size; i++) {
+			s += buf[i];
+		}
+		sum = s;
+	}
+}
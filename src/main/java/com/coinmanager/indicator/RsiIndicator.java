@@ -0,0 +1,63 @@
+package com.coinmanager.indicator;
+
+/**
+ * RSI.
+ * wilder=false 면 TechIndicatorUtil.rsi 와 같은 최근 N개 등락 단순합(Cutler) 방식,
+ * wilder=true 면 Wilder 지수평활 방식.
+ */
+public class RsiIndicator implements Indicator {
+
+	private final int period;
+	private final boolean wilder;
+	private final RollingWindow gains;
+	private final RollingWindow losses;
+
+	private double prevClose = Double.NaN;
+	private double avgGain;
+	private double avgLoss;
+	private int diffs;
+
+	public RsiIndicator(int period, boolean wilder) {
+		this.period = period;
+		this.wilder = wilder;
+		this.gains = new RollingWindow(period);
+		this.losses = new RollingWindow(period);
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		if (Double.isNaN(prevClose)) {
+			prevClose = close;
+			return;
+		}
+		double diff = close - prevClose;
+		prevClose = close;
+
+		double gain = diff > 0 ? diff : 0;
+		double loss = diff > 0 ? 0 : -diff;
+		diffs++;
+
+		if (!wilder || diffs <= period) {      // Wilder 도 첫 N개는 단순평균으로 시드
+			gains.push(gain);
+			losses.push(loss);
+			avgGain = gains.sum() / period;
+			avgLoss = losses.sum() / period;
+			return;
+		}
+		avgGain = (avgGain * (period - 1) + gain) / period;
+		avgLoss = (avgLoss * (period - 1) + loss) / period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return diffs >= period;
+	}
+
+	@Override
+	public double value() {
+		if (avgLoss == 0) {
+			return 100;
+		}
+		return 100 - 100 / (1 + avgGain / avgLoss);
+	}
+}
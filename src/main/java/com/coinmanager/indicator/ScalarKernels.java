@@ -0,0 +1,66 @@
+package com.coinmanager.indicator;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * BatchIndicators 의 구간 연산 – 스칼라 버전. VectorKernels 와 연산 순서가 같아 결과가 비트 단위로 같다.
+ * 모든 메서드는 out[from, to) 만 채운다.
+ */
+@UtilityClass
+class ScalarKernels {
+
+	/**
+	 * out[i] = (prefix[i+1] - prefix[i+1-period]) × scale, prefix = hi + lo (보정합)
+	 */
+	void windowSum(double[] hi, double[] lo, int period, double scale, double[] out, int from, int to) {
+		for (int i = from; i < to; i++) {
+			out[i] = ((hi[i + 1] - hi[i + 1 - period]) + (lo[i + 1] - lo[i + 1 - period])) * scale;
+		}
+	}
+
+	/**
+	 * out[i] = √(Σ(x[i-k] - mean[i])² / period), k ∈ [0, period)
+	 */
+	void stdDev(double[] x, double[] mean, int period, double[] out, int from, int to) {
+		for (int i = from; i < to; i++) {
+			double m = mean[i];
+			double acc = 0;
+			for (int k = 0; k < period; k++) {
+				double d = x[i - k] - m;
+				acc = d * d + acc;
+			}
+			out[i] = Math.sqrt(acc / period);
+		}
+	}
+
+	/**
+	 * upper = mid + k·sd, lower = mid - k·sd
+	 */
+	void bands(double[] mid, double[] sd, double k, double[] upper, double[] lower, int from, int to) {
+		for (int i = from; i < to; i++) {
+			double band = sd[i] * k;
+			upper[i] = mid[i] + band;
+			lower[i] = mid[i] - band;
+		}
+	}
+
+	/**
+	 * out[i] = num[i] / den[i - lag], 분모가 0 이면 zero
+	 */
+	void ratio(double[] num, double[] den, int lag, double zero, double[] out, int from, int to) {
+		for (int i = from; i < to; i++) {
+			double d = den[i - lag];
+			out[i] = d == 0 ? zero : num[i] / d;
+		}
+	}
+
+	/**
+	 * Cutler RSI – 손실 합이 0 이면 100
+	 */
+	void rsi(double[] gain, double[] loss, double[] out, int from, int to) {
+		for (int i = from; i < to; i++) {
+			double l = loss[i];
+			out[i] = l == 0 ? 100 : 100 - 100 / (1 + gain[i] / l);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.coinmanager.indicator;
+
+/**
+ * 단순이동평균 – 누적합 방식. 기본 입력은 종가
+ */
+public class SmaIndicator implements Indicator {
+
+	private final PriceSource source;
+	private final RollingWindow window;
+	private double value = Double.NaN;
+
+	public SmaIndicator(int period) {
+		this(PriceSource.CLOSE, period);
+	}
+
+	public SmaIndicator(PriceSource source, int period) {
+		this.source = source;
+		this.window = new RollingWindow(period);
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		window.push(source.pick(open, high, low, close, volume));
+		value = window.sum() / window.size();
+	}
+
+	@Override
+	public boolean isReady() {
+		return window.isFull();
+	}
+
+	@Override
+	public double value() {
+		return value;
+	}
+}
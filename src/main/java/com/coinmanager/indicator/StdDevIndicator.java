@@ -0,0 +1,48 @@
+package com.coinmanager.indicator;
+
+/**
+ * 종가 모표준편차 – 슬라이딩 윈도우 Welford 방식
+ */
+public class StdDevIndicator implements Indicator {
+
+	private final RollingWindow window;
+	private double mean;
+	private double m2;        // 편차 제곱합
+
+	public StdDevIndicator(int period) {
+		this.window = new RollingWindow(period);
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		double evicted = window.push(close);
+
+		if (Double.isNaN(evicted)) {           // 윈도우가 차는 중 → 일반 Welford
+			double delta = close - mean;
+			mean += delta / window.size();
+			m2 += delta * (close - mean);
+		} else {                               // 가득 참 → 하나 빼고 하나 넣기
+			double oldMean = mean;
+			mean += (close - evicted) / window.size();
+			m2 += (close - evicted) * (close - mean + evicted - oldMean);
+		}
+
+		if (m2 < 0) {                          // 부동소수 오차 보정
+			m2 = 0;
+		}
+	}
+
+	@Override
+	public boolean isReady() {
+		return window.isFull();
+	}
+
+	@Override
+	public double value() {
+		return Math.sqrt(m2 / window.size());
+	}
+
+	public double mean() {
+		return mean;
+	}
+}
@@ -0,0 +1,77 @@
+package com.coinmanager.indicator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import lombok.experimental.UtilityClass;
+
+/**
+ * BatchIndicators 의 구간 연산 – jdk.incubator.vector 버전. 남는 꼬리는 ScalarKernels 로 넘긴다.
+ * 모듈이 없는 JVM 에서는 이 클래스를 로드하지 않는다 (BatchIndicators.isVectorized()).
+ */
+@UtilityClass
+class VectorKernels {
+
+	private final VectorSpecies<Double> S = DoubleVector.SPECIES_PREFERRED;
+
+	void windowSum(double[] hi, double[] lo, int period, double scale, double[] out, int from, int to) {
+		int i = from;
+		for (int bound = from + S.loopBound(to - from); i < bound; i += S.length()) {
+			DoubleVector h = DoubleVector.fromArray(S, hi, i + 1).sub(DoubleVector.fromArray(S, hi, i + 1 - period));
+			DoubleVector l = DoubleVector.fromArray(S, lo, i + 1).sub(DoubleVector.fromArray(S, lo, i + 1 - period));
+			h.add(l).mul(scale).intoArray(out, i);
+		}
+		ScalarKernels.windowSum(hi, lo, period, scale, out, i, to);
+	}
+
+	/**
+	 * 레인 하나가 출력 위치 하나를 맡고, 윈도우(k)를 따라 누적한다
+	 */
+	void stdDev(double[] x, double[] mean, int period, double[] out, int from, int to) {
+		int i = from;
+		for (int bound = from + S.loopBound(to - from); i < bound; i += S.length()) {
+			DoubleVector m = DoubleVector.fromArray(S, mean, i);
+			DoubleVector acc = DoubleVector.zero(S);
+			for (int k = 0; k < period; k++) {
+				DoubleVector d = DoubleVector.fromArray(S, x, i - k).sub(m);
+				acc = d.mul(d).add(acc);
+			}
+			acc.div(period).lanewise(VectorOperators.SQRT).intoArray(out, i);
+		}
+		ScalarKernels.stdDev(x, mean, period, out, i, to);
+	}
+
+	void bands(double[] mid, double[] sd, double k, double[] upper, double[] lower, int from, int to) {
+		int i = from;
+		for (int bound = from + S.loopBound(to - from); i < bound; i += S.length()) {
+			DoubleVector m = DoubleVector.fromArray(S, mid, i);
+			DoubleVector band = DoubleVector.fromArray(S, sd, i).mul(k);
+			m.add(band).intoArray(upper, i);
+			m.sub(band).intoArray(lower, i);
+		}
+		ScalarKernels.bands(mid, sd, k, upper, lower, i, to);
+	}
+
+	void ratio(double[] num, double[] den, int lag, double zero, double[] out, int from, int to) {
+		int i = from;
+		for (int bound = from + S.loopBound(to - from); i < bound; i += S.length()) {
+			DoubleVector d = DoubleVector.fromArray(S, den, i - lag);
+			VectorMask<Double> isZero = d.eq(0);
+			DoubleVector.fromArray(S, num, i).div(d).blend(zero, isZero).intoArray(out, i);
+		}
+		ScalarKernels.ratio(num, den, lag, zero, out, i, to);
+	}
+
+	void rsi(double[] gain, double[] loss, double[] out, int from, int to) {
+		int i = from;
+		for (int bound = from + S.loopBound(to - from); i < bound; i += S.length()) {
+			DoubleVector l = DoubleVector.fromArray(S, loss, i);
+			DoubleVector rs = DoubleVector.fromArray(S, gain, i).div(l);
+			DoubleVector.broadcast(S, 100).sub(DoubleVector.broadcast(S, 100).div(rs.add(1)))
+				.blend(100, l.eq(0))
+				.intoArray(out, i);
+		}
+		ScalarKernels.rsi(gain, loss, out, i, to);
+	}
+}
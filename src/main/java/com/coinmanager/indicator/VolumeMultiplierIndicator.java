@@ -0,0 +1,50 @@
+package com.coinmanager.indicator;
+
+import java.util.List;
+
+/**
+ * 최신 캔들 거래량 / 최근 N봉 평균 거래량. 평균은 SMA(VOLUME, N) 노드를 쓴다
+ */
+public class VolumeMultiplierIndicator implements Indicator {
+
+	private final SmaIndicator average;
+	private final boolean owned;
+	private double value = Double.NaN;
+
+	public VolumeMultiplierIndicator(int period) {
+		this(new SmaIndicator(PriceSource.VOLUME, period), true);
+	}
+
+	VolumeMultiplierIndicator(SmaIndicator average) {
+		this(average, false);
+	}
+
+	private VolumeMultiplierIndicator(SmaIndicator average, boolean owned) {
+		this.average = average;
+		this.owned = owned;
+	}
+
+	@Override
+	public void update(double open, double high, double low, double close, double volume) {
+		if (owned) {
+			average.update(open, high, low, close, volume);
+		}
+		double avg = average.value();
+		value = avg == 0 ? 0 : volume / avg;
+	}
+
+	@Override
+	public boolean isReady() {
+		return average.isReady();
+	}
+
+	@Override
+	public double value() {
+		return value;
+	}
+
+	@Override
+	public List<Indicator> dependencies() {
+		return owned ? List.of() : List.of(average);
+	}
+}
@@ -0,0 +1,454 @@
+package com.coinmanager.journal;
+
+import com.coinmanager.journal.JournalEvent.BalanceSnapshot;
+import com.coinmanager.journal.JournalEvent.CandleReceived;
+import com.coinmanager.journal.JournalEvent.OrderSent;
+import com.coinmanager.strategy.StrategyRuntime;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실거래 루프의 append-only 이벤트 저널 (캔들, 신호, 주문 전송/접수/실패, 슬롯 상태, 잔고).
+ *
+ * <p>세그먼트 파일을 통째로 메모리 매핑해 두고 레코드를 그 위에 이어 쓴다. 레코드 형식은
+ * [int 본문 길이][byte 종류][long seq][long 기록 시각][본문 JSON][int CRC32C] 이며, 길이 0 이 끝이다.
+ *
+ * <p>fsync 는 그룹 커밋이다. 플러셔 스레드가 flush-interval 마다 그동안 쌓인 구간을 한 번에 force 하고,
+ * {@link #appendDurable} 은 자기 레코드가 force 될 때까지만 기다린다 (주문 전송 전 write-ahead 용).
+ * 일반 append 는 기다리지 않으며 장애 시 최대 flush-interval 만큼 잃을 수 있다.
+ * force 나 세그먼트 교체가 실패하면 저널은 실패 상태가 되고, 이후 appendDurable 은 기다리지 않고 예외를 던진다
+ * (디스크 반영을 보장할 수 없으면 주문을 보내지 않는다).
+ *
+ * <p>기동 시 세그먼트를 순서대로 재생해 {@link JournalState} 를 만들고, 깨진 꼬리(CRC 불일치)는 버린다.
+ * 세그먼트가 차면(그리고 기동 직후) 새 세그먼트 맨 앞에 현재 상태를 체크포인트로 쓰고 이전 세그먼트를 지우므로
+ * 재생량은 기록 기간과 무관하게 세그먼트 하나 이하다.
+ */
+@Slf4j
+@Component
+public class EventJournal {
+
+	private static final int HEADER = 4 + 1 + 8 + 8;
+	private static final int TRAILER = 4;
+	private static final String PREFIX = "journal-";
+	private static final String SUFFIX = ".log";
+
+	private final boolean enabled;
+	private final Path dir;
+	private final int segmentBytes;
+	private final long flushIntervalMs;
+	private final ObjectMapper mapper = new ObjectMapper()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	private final JournalState state = new JournalState(StrategyRuntime.DEFAULT_WINDOW);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition durable = lock.newCondition();
+	private Segment current;
+	private long nextSeq = 1;
+	private long durableSeq;              // 여기까지 force 완료
+
+	private volatile boolean running;
+	private volatile Throwable failure;   // 설정되면 더 이상 디스크 반영을 보장하지 못함
+	private Thread flusher;
+
+	public EventJournal(
+		@Value("${journal.enabled:true}") boolean enabled,
+		@Value("${journal.dir:data/journal}") String dir,
+		@Value("${journal.segment-size-mb:64}") int segmentSizeMb,
+		@Value("${journal.flush-interval-ms:5}") long flushIntervalMs
+	) {
+		this.enabled = enabled;
+		this.dir = Path.of(dir);
+		this.segmentBytes = segmentSizeMb * 1024 * 1024;
+		this.flushIntervalMs = flushIntervalMs;
+	}
+
+	/**
+	 * 아무것도 기록하지 않는 저널 (벤치마크 등 스프링 밖에서 서비스를 직접 만들 때)
+	 */
+	public static EventJournal disabled() {
+		return new EventJournal(false, "data/journal", 1, 0);
+	}
+
+	/* ---------------- 기동 / 종료 ---------------- */
+
+	@PostConstruct
+	void open() throws IOException {
+		if (!enabled) {
+			return;
+		}
+		Files.createDirectories(dir);
+		long started = System.nanoTime();
+
+		List<Path> segments = segments();
+		long records = 0;
+		for (Path p : segments) {
+			records += replay(p);
+		}
+		long last = segments.isEmpty() ? 0 : index(segments.get(segments.size() - 1));
+
+		lock.lock();
+		try {
+			rotate(last + 1);                          // 재생한 상태를 새 세그먼트에 체크포인트 → 이전 세그먼트 삭제
+		} finally {
+			lock.unlock();
+		}
+		log.info("저널 복구 -> 세그먼트 {}개, 레코드 {}개, 미확인 주문 {}건, {} ms",
+			segments.size(), records, state.inFlight().size(), (System.nanoTime() - started) / 1_000_000);
+
+		running = true;
+		flusher = Thread.ofPlatform().name("journal-flusher").daemon().start(this::flushLoop);
+	}
+
+	@PreDestroy
+	void close() throws InterruptedException {
+		if (!enabled || flusher == null) {
+			return;
+		}
+		running = false;
+		flusher.interrupt();
+		flusher.join();
+		lock.lock();
+		try {
+			current.buf.force();
+			durableSeq = nextSeq - 1;
+			durable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/* ---------------- 쓰기 ---------------- */
+
+	/**
+	 * 기록하고 바로 돌아온다 (다음 그룹 커밋 때 디스크 반영)
+	 *
+	 * @return seq (비활성화면 0)
+	 */
+	public long append(JournalEvent event) {
+		if (!enabled) {
+			return 0;
+		}
+		byte[] body = encode(event);
+		lock.lock();
+		try {
+			return write(event, body);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 기록하고 디스크 반영(fsync)까지 기다린다. 동시에 기다리는 기록들은 force 한 번으로 함께 반영된다
+	 */
+	public long appendDurable(JournalEvent event) {
+		if (!enabled) {
+			return 0;
+		}
+		byte[] body = encode(event);
+		lock.lock();
+		try {
+			checkHealthy();
+			long seq = write(event, body);
+			while (durableSeq < seq && running) {
+				checkHealthy();
+				durable.awaitUninterruptibly();
+			}
+			return seq;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/* ---------------- 복구된 상태 ---------------- */
+
+	/**
+	 * 마켓의 최근 마감 캔들 (오래된 순, 최대 StrategyRuntime.DEFAULT_WINDOW 개)
+	 */
+	public List<CandleReceived> recentCandles(String market) {
+		return read(() -> state.candles(market));
+	}
+
+	/**
+	 * 마켓의 전략 슬롯별 보유 수량 추정치
+	 */
+	public Map<String, Double> positions(String market) {
+		return read(() -> state.positions(market));
+	}
+
+	/**
+	 * 전송 기록은 있지만 접수/실패 기록이 없는 주문
+	 */
+	public List<OrderSent> inFlightOrders() {
+		return read(state::inFlight);
+	}
+
+	public Optional<BalanceSnapshot> lastBalance() {
+		return Optional.ofNullable(read(state::balance));
+	}
+
+	/**
+	 * force/교체 실패 이후에는 true – 주문 전 write-ahead 를 할 수 없는 상태
+	 */
+	public boolean isFailed() {
+		return failure != null;
+	}
+
+	private <T> T read(Supplier<T> reader) {
+		lock.lock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/* ---------------- 내부 ---------------- */
+
+	private byte[] encode(JournalEvent event) {
+		try {
+			return mapper.writeValueAsBytes(event);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 락 안에서 호출
+	 */
+	private long write(JournalEvent event, byte[] body) {
+		int size = HEADER + body.length + TRAILER;
+		if (size > segmentBytes / 2) {
+			throw new IllegalArgumentException("저널 레코드가 너무 큼: " + size + " bytes");
+		}
+		if (current.position + size + 4 > segmentBytes) {   // 끝 표시(길이 0)용 4바이트는 남겨 둔다
+			try {
+				rotate(current.index + 1);
+			} catch (RuntimeException e) {
+				fail(e);
+				throw e;
+			}
+		}
+		long seq = nextSeq++;
+		current.put(event.type(), seq, System.currentTimeMillis(), body);
+		state.apply(event);
+		return seq;
+	}
+
+	/**
+	 * 새 세그먼트를 열고 현재 상태를 체크포인트로 기록·force 한 뒤 이전 세그먼트를 지운다. 락 안에서 호출
+	 */
+	private void rotate(long index) {
+		try {
+			if (current != null) {
+				current.buf.force();
+			}
+			Segment next = Segment.create(dir.resolve(String.format("%s%012d%s", PREFIX, index, SUFFIX)), index, segmentBytes);
+			for (JournalEvent e : state.checkpoint()) {
+				next.put(e.type(), nextSeq++, System.currentTimeMillis(), encode(e));
+			}
+			next.buf.force();
+			current = next;
+			durableSeq = nextSeq - 1;
+			durable.signalAll();
+
+			for (Path p : segments()) {
+				if (index(p) < index) {
+					Files.delete(p);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("저널 세그먼트 교체 실패", e);
+		}
+	}
+
+	/**
+	 * 그룹 커밋 – flush-interval 마다 [마지막 force 위치, 현재 위치) 를 force.
+	 * force 하는 동안에는 락을 놓아 기록이 막히지 않는다
+	 */
+	private void flushLoop() {
+		while (running && failure == null) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(flushIntervalMs);
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			Segment seg;
+			int from;
+			int to;
+			long upTo;
+			lock.lock();
+			try {
+				if (durableSeq == nextSeq - 1) {
+					continue;
+				}
+				seg = current;
+				from = seg.forced;
+				to = seg.position;
+				upTo = nextSeq - 1;
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				seg.buf.force(from, to - from);
+			} catch (RuntimeException | Error e) {
+				fail(e);
+				return;
+			}
+
+			lock.lock();
+			try {
+				seg.forced = Math.max(seg.forced, to);
+				if (current == seg) {                       // 그사이 교체됐으면 rotate 가 이미 반영
+					durableSeq = Math.max(durableSeq, upTo);
+					durable.signalAll();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 실패 상태로 바꾸고 디스크 반영을 기다리는 쪽을 모두 깨운다
+	 */
+	private void fail(Throwable e) {
+		log.error("저널 디스크 반영 실패 → 이후 durable 기록 불가: {}", e.getMessage(), e);
+		lock.lock();
+		try {
+			if (failure == null) {
+				failure = e;
+			}
+			durable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 락 안에서 호출
+	 */
+	private void checkHealthy() {
+		if (failure != null) {
+			throw new IllegalStateException("저널이 실패 상태 – 디스크 반영을 보장할 수 없음", failure);
+		}
+	}
+
+	/**
+	 * 세그먼트 하나를 재생한다. 깨진 레코드를 만나면 그 뒤는 버린다
+	 *
+	 * @return 적용한 레코드 수
+	 */
+	private long replay(Path file) throws IOException {
+		MappedByteBuffer buf;
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+		}
+		long count = 0;
+		int pos = 0;
+		while (pos + HEADER + TRAILER <= buf.limit()) {
+			int len = buf.getInt(pos);
+			if (len == 0) {
+				break;
+			}
+			JournalEventType type = JournalEventType.of(buf.get(pos + 4));
+			// 길이 필드가 깨져 있으면 pos + len 이 int 범위를 넘을 수 있다 → 남은 크기와 비교
+			if (len < 0 || type == null || len > buf.limit() - pos - HEADER - TRAILER
+				|| buf.getInt(pos + HEADER + len) != crc(buf, pos + 4, HEADER - 4 + len)) {
+				log.warn("저널 {} 의 {} 위치부터 손상 → 이후 레코드 무시", file.getFileName(), pos);
+				break;
+			}
+			byte[] body = new byte[len];
+			buf.get(pos + HEADER, body);
+			try {
+				state.apply(mapper.readValue(body, type.eventClass()));
+			} catch (IOException e) {
+				log.warn("저널 레코드 해석 실패 → 건너뜀 ({}): {}", type, e.getMessage());
+			}
+			nextSeq = Math.max(nextSeq, buf.getLong(pos + 5) + 1);
+			pos += HEADER + len + TRAILER;
+			count++;
+		}
+		return count;
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files
+				.filter(p -> p.getFileName().toString().startsWith(PREFIX) && p.getFileName().toString().endsWith(SUFFIX))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private static long index(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+	}
+
+	private static int crc(MappedByteBuffer buf, int from, int length) {
+		CRC32C crc = new CRC32C();
+		crc.update(buf.slice(from, length));
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * 매핑된 세그먼트 파일 하나 (기록은 락 안에서만)
+	 */
+	private static final class Segment {
+
+		private final long index;
+		private final MappedByteBuffer buf;
+		private int position;
+		private int forced;
+
+		private Segment(long index, MappedByteBuffer buf) {
+			this.index = index;
+			this.buf = buf;
+		}
+
+		static Segment create(Path file, long index, int size) throws IOException {
+			try (FileChannel ch = FileChannel.open(file,
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				return new Segment(index, ch.map(FileChannel.MapMode.READ_WRITE, 0, size));
+			}
+		}
+
+		/**
+		 * 길이 필드는 맨 마지막에 쓴다 – 쓰다 만 레코드는 길이 0(끝) 으로 보인다
+		 */
+		void put(JournalEventType type, long seq, long time, byte[] body) {
+			int p = position;
+			buf.put(p + 4, type.code());
+			buf.putLong(p + 5, seq);
+			buf.putLong(p + 13, time);
+			buf.put(p + HEADER, body);
+			buf.putInt(p + HEADER + body.length, crc(buf, p + 4, HEADER - 4 + body.length));
+			buf.putInt(p, body.length);
+			position = p + HEADER + body.length + TRAILER;
+		}
+	}
+}
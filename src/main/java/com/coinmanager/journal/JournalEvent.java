@@ -0,0 +1,143 @@
+package com.coinmanager.journal;
+
+import com.coinmanager.domain.account.AccountSnapshot;
+import com.coinmanager.domain.dto.OrderRequest;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 실거래 루프 저널 이벤트. 레코드 본문은 JSON 으로 기록된다.
+ */
+public sealed interface JournalEvent {
+
+	JournalEventType type();
+
+	/**
+	 * 마감 캔들 반영
+	 */
+	record CandleReceived(
+		String market,
+		long time,
+		double open,
+		double high,
+		double low,
+		double close,
+		double volume
+	) implements JournalEvent {
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.CANDLE;
+		}
+	}
+
+	/**
+	 * 전략 신호 (자금 비율 적용 후) – 기록용
+	 */
+	record SignalGenerated(
+		String market,
+		String strategy,
+		OrderSide side,
+		OrderType ordType,
+		BigDecimal price,
+		BigDecimal volume
+	) implements JournalEvent {
+
+		public static SignalGenerated of(String strategy, OrderRequest o) {
+			return new SignalGenerated(o.getMarket(), strategy, o.getSide(), o.getOrdType(), o.getPrice(), o.getVolume());
+		}
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.SIGNAL;
+		}
+	}
+
+	/**
+	 * 주문 전송 직전 (write-ahead). identifier 는 업비트 주문 identifier – 재시작 후 조회 키
+	 */
+	record OrderSent(
+		String identifier,
+		String market,
+		String strategy,
+		OrderSide side,
+		OrderType ordType,
+		BigDecimal price,
+		BigDecimal volume
+	) implements JournalEvent {
+
+		public static OrderSent of(String strategy, OrderRequest o) {
+			return new OrderSent(o.getIdentifier(), o.getMarket(), strategy, o.getSide(), o.getOrdType(),
+				o.getPrice(), o.getVolume());
+		}
+
+		public OrderRequest toRequest() {
+			return OrderRequest.builder()
+				.market(market)
+				.side(side)
+				.ordType(ordType)
+				.price(price)
+				.volume(volume)
+				.identifier(identifier)
+				.build();
+		}
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.ORDER_SENT;
+		}
+	}
+
+	/**
+	 * 거래소 접수 확인
+	 */
+	record OrderAcked(String identifier, String uuid) implements JournalEvent {
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.ORDER_ACKED;
+		}
+	}
+
+	/**
+	 * 거래소에 도달하지 않은(거절된) 주문
+	 */
+	record OrderFailed(String identifier, String reason) implements JournalEvent {
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.ORDER_FAILED;
+		}
+	}
+
+	/**
+	 * 전략 슬롯의 보유 수량 추정치 (주문 반영 후)
+	 */
+	record StrategyState(String market, String strategy, double position) implements JournalEvent {
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.STRATEGY_STATE;
+		}
+	}
+
+	/**
+	 * 계좌 잔고 (통화 → 주문 가능 수량)
+	 */
+	record BalanceSnapshot(long fetchedAt, Map<String, BigDecimal> balances) implements JournalEvent {
+
+		public static BalanceSnapshot of(AccountSnapshot s) {
+			Map<String, BigDecimal> balances = new TreeMap<>();
+			s.balances().forEach((currency, b) -> balances.put(currency, b.balance()));
+			return new BalanceSnapshot(s.fetchedAt().toEpochMilli(), balances);
+		}
+
+		@Override
+		public JournalEventType type() {
+			return JournalEventType.BALANCE;
+		}
+	}
+}
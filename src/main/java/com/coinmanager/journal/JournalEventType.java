@@ -0,0 +1,54 @@
+package com.coinmanager.journal;
+
+import com.coinmanager.journal.JournalEvent.BalanceSnapshot;
+import com.coinmanager.journal.JournalEvent.CandleReceived;
+import com.coinmanager.journal.JournalEvent.OrderAcked;
+import com.coinmanager.journal.JournalEvent.OrderFailed;
+import com.coinmanager.journal.JournalEvent.OrderSent;
+import com.coinmanager.journal.JournalEvent.SignalGenerated;
+import com.coinmanager.journal.JournalEvent.StrategyState;
+
+/**
+ * 저널 레코드 종류 – code 는 파일에 기록되므로 바꾸지 않는다
+ */
+public enum JournalEventType {
+
+	CANDLE(1, CandleReceived.class),
+	SIGNAL(2, SignalGenerated.class),
+	ORDER_SENT(3, OrderSent.class),
+	ORDER_ACKED(4, OrderAcked.class),
+	ORDER_FAILED(5, OrderFailed.class),
+	STRATEGY_STATE(6, StrategyState.class),
+	BALANCE(7, BalanceSnapshot.class);
+
+	private static final JournalEventType[] BY_CODE = new JournalEventType[8];
+
+	static {
+		for (JournalEventType t : values()) {
+			BY_CODE[t.code] = t;
+		}
+	}
+
+	private final byte code;
+	private final Class<? extends JournalEvent> eventClass;
+
+	JournalEventType(int code, Class<? extends JournalEvent> eventClass) {
+		this.code = (byte) code;
+		this.eventClass = eventClass;
+	}
+
+	public byte code() {
+		return code;
+	}
+
+	public Class<? extends JournalEvent> eventClass() {
+		return eventClass;
+	}
+
+	/**
+	 * @return 모르는 code 면 null
+	 */
+	public static JournalEventType of(byte code) {
+		return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+	}
+}
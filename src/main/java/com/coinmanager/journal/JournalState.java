@@ -0,0 +1,87 @@
+package com.coinmanager.journal;
+
+import com.coinmanager.journal.JournalEvent.BalanceSnapshot;
+import com.coinmanager.journal.JournalEvent.CandleReceived;
+import com.coinmanager.journal.JournalEvent.OrderAcked;
+import com.coinmanager.journal.JournalEvent.OrderFailed;
+import com.coinmanager.journal.JournalEvent.OrderSent;
+import com.coinmanager.journal.JournalEvent.SignalGenerated;
+import com.coinmanager.journal.JournalEvent.StrategyState;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널을 처음부터 적용한 결과 – 마켓별 최근 캔들, 슬롯별 보유 추정치, 미확인 주문, 마지막 잔고.
+ * 이벤트는 재적용해도 결과가 같아서(캔들은 시각으로, 나머지는 키로 덮어씀) 체크포인트가 겹쳐도 된다.
+ * EventJournal 의 락 안에서만 사용한다.
+ */
+class JournalState {
+
+	private final int candleWindow;
+	private final Map<String, ArrayDeque<CandleReceived>> candles = new HashMap<>();
+	private final Map<String, Map<String, Double>> positions = new HashMap<>();
+	private final Map<String, OrderSent> inFlight = new LinkedHashMap<>();
+	private BalanceSnapshot balance;
+
+	JournalState(int candleWindow) {
+		this.candleWindow = candleWindow;
+	}
+
+	void apply(JournalEvent event) {
+		switch (event) {
+			case CandleReceived c -> {
+				ArrayDeque<CandleReceived> q = candles.computeIfAbsent(c.market(), m -> new ArrayDeque<>(candleWindow));
+				if (q.isEmpty() || c.time() > q.peekLast().time()) {
+					if (q.size() == candleWindow) {
+						q.pollFirst();
+					}
+					q.addLast(c);
+				}
+			}
+			case StrategyState s -> positions.computeIfAbsent(s.market(), m -> new HashMap<>()).put(s.strategy(), s.position());
+			case OrderSent o -> inFlight.put(o.identifier(), o);
+			case OrderAcked a -> inFlight.remove(a.identifier());
+			case OrderFailed f -> inFlight.remove(f.identifier());
+			case BalanceSnapshot b -> balance = b;
+			case SignalGenerated ignored -> {
+				// 기록용 – 상태 없음
+			}
+		}
+	}
+
+	/**
+	 * 지금 상태를 다시 만드는 최소 이벤트 목록 – 새 세그먼트 맨 앞에 기록된다
+	 */
+	List<JournalEvent> checkpoint() {
+		List<JournalEvent> events = new ArrayList<>();
+		candles.values().forEach(events::addAll);
+		positions.forEach((market, bySlot) ->
+			bySlot.forEach((strategy, qty) -> events.add(new StrategyState(market, strategy, qty))));
+		events.addAll(inFlight.values());
+		if (balance != null) {
+			events.add(balance);
+		}
+		return events;
+	}
+
+	List<CandleReceived> candles(String market) {
+		ArrayDeque<CandleReceived> q = candles.get(market);
+		return q == null ? List.of() : List.copyOf(q);
+	}
+
+	Map<String, Double> positions(String market) {
+		return Map.copyOf(positions.getOrDefault(market, Map.of()));
+	}
+
+	List<OrderSent> inFlight() {
+		return List.copyOf(inFlight.values());
+	}
+
+	BalanceSnapshot balance() {
+		return balance;
+	}
+}
@@ -1,41 +1,170 @@
 package com.coinmanager.jwt;
 
-import io.jsonwebtoken.JwtBuilder;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.Jwts.SIG;
-import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.UUID;
-import javax.crypto.SecretKey;
-import org.apache.commons.codec.digest.DigestUtils;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * Upbit 인증 토큰(HS256 JWT) 생성.
+ * 헤더·access_key 부분과 서명 키는 시작 시 한 번만 만들고, 요청마다 payload 와 서명만 계산한다.
+ *
+ * <p>요청은 대부분 가상 스레드(요청마다 새 스레드)에서 오므로 ThreadLocal 캐시는 매번 비어 있다.
+ * 대신 키까지 초기화한 Mac·MessageDigest 원본을 하나씩 두고 호출마다 clone 한다
+ * (getInstance 의 provider 탐색과 HMAC 키 패딩을 건너뛴다). 원본은 clone 외에는 건드리지 않는다.
+ */
+@Slf4j
 @Component
 public class JwtUtil {
 
-	@Value("${upbit.access-key}")
-	private String accessKey;
+	private static final String HMAC_ALG = "HmacSHA256";
+	private static final int MIN_KEY_BYTES = 32;    // HS256 최소 키 길이 (256 bit)
 
-	@Value("${upbit.secret-key}")
-	private String secretKey;
+	private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+	private static final HexFormat HEX = HexFormat.of();
+
+	// {"typ":"JWT","alg":"HS256"} + "."
+	private static final byte[] HEADER_DOT = (B64.encodeToString(
+		"{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + ".").getBytes(StandardCharsets.US_ASCII);
+
+	private static final MessageDigest SHA512;
+
+	static {
+		try {
+			SHA512 = MessageDigest.getInstance("SHA-512");
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private final String payloadPrefix;       // {"access_key":"...","nonce":"
+	private final SecretKeySpec key;           // 키가 없거나 짧으면 null
+	private final String keyError;
+	private final Mac mac;                     // 초기화된 원본 – 호출마다 clone (키가 없으면 null)
+
+	public JwtUtil(
+		@Value("${upbit.access-key}") String accessKey,
+		@Value("${upbit.secret-key}") String secretKey
+	) {
+		this.payloadPrefix = "{\"access_key\":\"" + jsonEscape(accessKey) + "\",\"nonce\":\"";
+
+		byte[] keyBytes = secretKey == null ? new byte[0] : secretKey.getBytes(StandardCharsets.UTF_8);
+		if (keyBytes.length < MIN_KEY_BYTES) {
+			// 기동은 막지 않고, 인증이 필요한 호출 시점에 실패시킨다
+			this.keyError = keyBytes.length == 0
+				? "upbit.secret-key 미설정"
+				: "upbit.secret-key 는 " + MIN_KEY_BYTES + " byte 이상이어야 합니다";
+			this.key = null;
+			this.mac = null;
+			log.warn("{} – 인증이 필요한 API 호출은 실패합니다", keyError);
+		} else {
+			this.keyError = null;
+			this.key = new SecretKeySpec(keyBytes, HMAC_ALG);
+			this.mac = newMac(key);
+		}
+	}
 
 	public String createToken(String queryString) {
-		JwtBuilder builder = Jwts.builder()
-			.header().type("JWT")
-			.and()
-			.claim("access_key", accessKey)
-			.claim("nonce", UUID.randomUUID().toString());
+		if (key == null) {
+			throw new IllegalStateException(keyError);
+		}
+
+		StringBuilder payload = new StringBuilder(256)
+			.append(payloadPrefix)
+			.append(nonce())
+			.append('"');
 
 		if (StringUtils.hasText(queryString)) {
-			String queryHash = DigestUtils.sha512Hex(queryString);
-			builder.claim("query_hash", queryHash)
-				.claim("query_string_alg", "SHA512");
+			byte[] hash = sha512().digest(queryString.getBytes(StandardCharsets.UTF_8));
+			payload.append(",\"query_hash\":\"").append(HEX.formatHex(hash))
+				.append("\",\"query_string_alg\":\"SHA512\"");
 		}
+		payload.append('}');
 
-		SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+		byte[] body = B64.encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+		byte[] signingInput = new byte[HEADER_DOT.length + body.length];
+		System.arraycopy(HEADER_DOT, 0, signingInput, 0, HEADER_DOT.length);
+		System.arraycopy(body, 0, signingInput, HEADER_DOT.length, body.length);
+
+		byte[] signature = mac().doFinal(signingInput);
+
+		return new StringBuilder(signingInput.length + 44)
+			.append(new String(signingInput, StandardCharsets.US_ASCII))
+			.append('.')
+			.append(B64.encodeToString(signature))
+			.toString();
+	}
 
-		return builder.signWith(key, SIG.HS256).compact();
+	/* ---------------- 내부 ---------------- */
+
+	private Mac mac() {
+		try {
+			return (Mac) mac.clone();
+		} catch (CloneNotSupportedException e) {
+			return newMac(key);                 // clone 을 지원하지 않는 provider
+		}
+	}
+
+	private static MessageDigest sha512() {
+		try {
+			return (MessageDigest) SHA512.clone();
+		} catch (CloneNotSupportedException e) {
+			try {
+				return MessageDigest.getInstance("SHA-512");
+			} catch (GeneralSecurityException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+	private static Mac newMac(SecretKeySpec key) {
+		try {
+			Mac m = Mac.getInstance(HMAC_ALG);
+			m.init(key);
+			return m;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 요청마다 유일하기만 하면 되므로 SecureRandom 대신 ThreadLocalRandom 으로 v4 형식 UUID 생성
+	 */
+	private static String nonce() {
+		ThreadLocalRandom r = ThreadLocalRandom.current();
+		long msb = (r.nextLong() & ~0xF000L) | 0x4000L;                         // version 4
+		long lsb = (r.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;   // IETF variant
+		return new UUID(msb, lsb).toString();
+	}
+
+	private static String jsonEscape(String s) {
+		if (s == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				default -> {
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+				}
+			}
+		}
+		return sb.toString();
 	}
 }
@@ -0,0 +1,62 @@
+package com.coinmanager.metrics;
+
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.service.OrderHistoryWriter;
+import com.coinmanager.service.ratelimit.RateLimitGroup;
+import com.coinmanager.service.ratelimit.RateLimitStats;
+import com.coinmanager.service.ratelimit.UpbitRateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.management.ManagementFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스크레이프 시점에 읽는 상태 지표 – 요청 제한 여유, 체결 내역 저장 대기, 저널 상태, JVM 할당량
+ */
+@Component
+@RequiredArgsConstructor
+public class TradingMeterBinder implements MeterBinder {
+
+	private final UpbitRateLimiter rateLimiter;
+	private final OrderHistoryWriter historyWriter;
+	private final EventJournal journal;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (RateLimitGroup g : RateLimitGroup.values()) {
+			String group = g.name();
+			Gauge.builder("upbit.ratelimit.server.remaining", rateLimiter, r -> r.stats(g).serverRemaining())
+				.tag("group", group)
+				.description("마지막 응답 Remaining-Req 의 초당 남은 요청 수 (모르면 -1)")
+				.register(registry);
+			Gauge.builder("upbit.ratelimit.rate", rateLimiter, r -> r.stats(g).ratePerSec())
+				.tag("group", group)
+				.register(registry);
+			Gauge.builder("upbit.ratelimit.queued", rateLimiter, r -> r.stats(g).queued())
+				.tag("group", group)
+				.register(registry);
+			FunctionCounter.builder("upbit.ratelimit.rejections", rateLimiter, r -> r.stats(g).rejections())
+				.tag("group", group)
+				.register(registry);
+		}
+
+		Gauge.builder("order.history.backlog", historyWriter, OrderHistoryWriter::backlog)
+			.description("DB 에 아직 반영되지 않은 체결 내역 수")
+			.register(registry);
+
+		Gauge.builder("journal.failed", journal, j -> j.isFailed() ? 1 : 0)
+			.description("저널 force/세그먼트 교체 실패 여부 – 1 이면 주문 전송이 막혀 있음")
+			.register(registry);
+
+		// 모든 스레드가 지금까지 할당한 바이트 – rate() 가 곧 할당률 (jvm.gc.memory.allocated 보다 정확)
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+			&& threads.isThreadAllocatedMemorySupported()) {
+			FunctionCounter.builder("jvm.threads.allocated", threads, com.sun.management.ThreadMXBean::getTotalThreadAllocatedBytes)
+				.baseUnit("bytes")
+				.register(registry);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.coinmanager.metrics;
+
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.service.ratelimit.RateLimitGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매매 루프 계측 – 미터는 태그 조합별로 한 번만 만들고 캐시해 두어 핫패스에서는 record 만 한다.
+ *
+ * <p>타이머는 퍼센타일 히스토그램(Prometheus histogram_quantile 용 버킷, 최소~최대 기대값 범위로 제한)과
+ * 최근 시간 창의 p50/p99 를 함께 낸다. 값은 모두 System.nanoTime 차이로 넘긴다.
+ */
+@Component
+public class TradingMetrics {
+
+	public static final String UPBIT_REQUEST = "upbit.request";
+	public static final String RATE_LIMIT_WAIT = "upbit.ratelimit.wait";
+	public static final String STRATEGY_EVALUATE = "strategy.evaluate";
+	public static final String TICK = "trading.tick";
+	public static final String MARKET_TICK = "trading.market.tick";
+
+	private static final long TICK_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+	private final MeterRegistry registry;
+	private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+	private final AtomicLong lastTickNanos = new AtomicLong();
+
+	public TradingMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		// 마지막 틱이 1분 주기의 몇 % 를 썼는지 (1 이상이면 다음 틱과 겹침)
+		registry.gauge("trading.tick.utilization", lastTickNanos, v -> (double) v.get() / TICK_PERIOD_NANOS);
+	}
+
+	/* ---------------- 타이머 ---------------- */
+
+	/**
+	 * Upbit HTTP 호출 1회 (요청 제한 대기 제외)
+	 *
+	 * @param outcome success | rejected(429) | client_error | server_error | io_error
+	 */
+	public void upbitRequest(String endpoint, RateLimitGroup group, String outcome, long nanos) {
+		timers.computeIfAbsent(new Key(UPBIT_REQUEST, endpoint, group.name(), outcome), k ->
+				timer(UPBIT_REQUEST, Duration.ofMillis(1), Duration.ofSeconds(10),
+					"endpoint", endpoint, "group", group.name(), "outcome", outcome))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 클라이언트 측 요청 제한기에서 토큰을 기다린 시간
+	 */
+	public void rateLimitWait(RateLimitGroup group, long nanos) {
+		timers.computeIfAbsent(new Key(RATE_LIMIT_WAIT, group.name(), null, null), k ->
+				timer(RATE_LIMIT_WAIT, Duration.ofNanos(100_000), Duration.ofSeconds(10), "group", group.name()))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 전략 슬롯 하나의 신호 판단 (generateSignal / 스트리밍 평가)
+	 */
+	public void strategyEvaluated(String market, String strategy, long nanos) {
+		timers.computeIfAbsent(new Key(STRATEGY_EVALUATE, market, strategy, null), k ->
+				timer(STRATEGY_EVALUATE, Duration.ofNanos(1_000), Duration.ofSeconds(1),
+					"market", market, "strategy", strategy))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 스케줄러 틱 전체 (모든 마켓 완료 또는 제한시간까지)
+	 */
+	public void tick(long nanos) {
+		lastTickNanos.set(nanos);
+		timers.computeIfAbsent(new Key(TICK, null, null, null), k ->
+				timer(TICK, Duration.ofMillis(1), Duration.ofSeconds(120)))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 마켓 하나의 파이프라인 1회 (캔들 반영 → 판단 → 주문). 폴링·WebSocket 모두
+	 */
+	public void marketTick(String market, long nanos) {
+		timers.computeIfAbsent(new Key(MARKET_TICK, market, null, null), k ->
+				timer(MARKET_TICK, Duration.ofMillis(1), Duration.ofSeconds(120), "market", market))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/* ---------------- 카운터 ---------------- */
+
+	public void signal(String market, String strategy, OrderSide side) {
+		count("trading.signals", "market", market, "strategy", strategy, "side", side.name());
+	}
+
+	/**
+	 * @param outcome acked | rejected | unknown(응답 유실 – 저널에서 확인 대기)
+	 */
+	public void order(String market, String strategy, String outcome) {
+		count("trading.orders", "market", market, "strategy", strategy, "outcome", outcome);
+	}
+
+	/**
+	 * @param stage tick | live | order | resolve
+	 */
+	public void error(String stage) {
+		count("trading.errors", "stage", stage);
+	}
+
+	/* ---------------- 내부 ---------------- */
+
+	private Timer timer(String name, Duration min, Duration max, String... tags) {
+		return Timer.builder(name)
+			.tags(tags)
+			.publishPercentileHistogram()
+			.publishPercentiles(0.5, 0.99)
+			.minimumExpectedValue(min)
+			.maximumExpectedValue(max)
+			.register(registry);
+	}
+
+	private void count(String name, String k1, String v1, String k2, String v2, String k3, String v3) {
+		counters.computeIfAbsent(new Key(name, v1, v2, v3), k -> Counter.builder(name)
+				.tags(k1, v1, k2, v2, k3, v3)
+				.register(registry))
+			.increment();
+	}
+
+	private void count(String name, String k1, String v1) {
+		counters.computeIfAbsent(new Key(name, v1, null, null), k -> Counter.builder(name)
+				.tags(k1, v1)
+				.register(registry))
+			.increment();
+	}
+
+	private record Key(String name, String a, String b, String c) {
+	}
+}
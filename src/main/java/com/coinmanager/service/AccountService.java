@@ -1,22 +1,111 @@
 package com.coinmanager.service;
 
+import com.coinmanager.domain.account.AccountSnapshot;
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.journal.JournalEvent.BalanceSnapshot;
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * 계좌 조회 – /v1/accounts 결과를 짧은 TTL 동안 캐시한다.
+ * 동시에 여러 요청이 와도 실제 조회는 한 번만 나간다(single-flight).
+ */
 @Service
 @RequiredArgsConstructor
 public class AccountService {
 
 	private final UpbitApiClient apiClient;
+	private final EventJournal journal;
+
+	@Value("${upbit.account.ttl-ms:2000}")
+	private long ttlMs;
+
+	private volatile Cached cached;
+	private final AtomicReference<CompletableFuture<AccountSnapshot>> loading = new AtomicReference<>();
+	private final AtomicLong generation = new AtomicLong();   // invalidate() 마다 증가
 
 	public BigDecimal getTotalAssetKrw() {
-		return apiClient.getTotalAssetKrw();          // 실제 API 호출
+		return snapshot().totalAssetKrw();            // 실제 API 호출은 캐시 만료 시에만
 	}
 
 	public BigDecimal getCoinBalance(String market) { // KRW-BTC → BTC
 		String coin = market.split("-")[1];
-		return apiClient.getCoinBalance(coin);
+		return snapshot().balance(coin);
+	}
+
+	public CompletableFuture<BigDecimal> getTotalAssetKrwAsync() {
+		return snapshotAsync().thenApply(AccountSnapshot::totalAssetKrw);
+	}
+
+	public CompletableFuture<BigDecimal> getCoinBalanceAsync(String market) {
+		String coin = market.split("-")[1];
+		return snapshotAsync().thenApply(s -> s.balance(coin));
+	}
+
+	/**
+	 * 최신 스냅샷 (만료됐으면 조회)
+	 */
+	public AccountSnapshot snapshot() {
+		try {
+			return snapshotAsync().join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw e;
+		}
 	}
 
+	public CompletableFuture<AccountSnapshot> snapshotAsync() {
+		Cached c = cached;
+		if (c != null && System.nanoTime() < c.expiresAt()) {
+			return CompletableFuture.completedFuture(c.snapshot());
+		}
+		return load();
+	}
+
+	/**
+	 * 주문 직후 호출 – 다음 조회는 반드시 새로 가져온다
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		cached = null;
+		loading.set(null);       // 주문 전에 시작된 조회 결과는 공유하지 않음
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private CompletableFuture<AccountSnapshot> load() {
+		CompletableFuture<AccountSnapshot> mine = new CompletableFuture<>();
+		CompletableFuture<AccountSnapshot> running = loading.compareAndExchange(null, mine);
+		if (running != null) {
+			return running;
+		}
+
+		long gen = generation.get();
+		apiClient.getAccountsAsync().whenComplete((snap, err) -> {
+			if (err == null && gen == generation.get()) {
+				cached = new Cached(snap, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+			}
+			if (err == null) {
+				journal.append(BalanceSnapshot.of(snap));
+			}
+			loading.compareAndSet(mine, null);
+			if (err != null) {
+				mine.completeExceptionally(err instanceof CompletionException && err.getCause() != null ? err.getCause() : err);
+			} else {
+				mine.complete(snap);
+			}
+		});
+		return mine;
+	}
+
+	private record Cached(AccountSnapshot snapshot, long expiresAt) {
+	}
 }
@@ -1,52 +1,363 @@
 package com.coinmanager.service;
 
+import com.coinmanager.domain.candle.CandleRingBuffer;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.OrderRequest;
 import com.coinmanager.domain.dto.OrderResponse;
 import com.coinmanager.domain.entity.OrderHistory;
-import com.coinmanager.domain.repository.OrderHistoryRepository;
-import com.coinmanager.strategy.MultiFactorStrategy;
-import jakarta.transaction.Transactional;
+import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.feed.MarketFeedListener;
+import com.coinmanager.feed.UpbitWebSocketFeed;
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.journal.JournalEvent.CandleReceived;
+import com.coinmanager.journal.JournalEvent.OrderAcked;
+import com.coinmanager.journal.JournalEvent.OrderFailed;
+import com.coinmanager.journal.JournalEvent.OrderSent;
+import com.coinmanager.journal.JournalEvent.SignalGenerated;
+import com.coinmanager.journal.JournalEvent.StrategyState;
+import com.coinmanager.metrics.TradingMetrics;
+import com.coinmanager.strategy.MarketContext;
+import com.coinmanager.strategy.StrategyRegistry;
+import com.coinmanager.strategy.StrategyRuntime;
+import com.coinmanager.strategy.StrategySignal;
+import com.coinmanager.warehouse.CandleWarehouse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class AutoTradingService {
+public class AutoTradingService implements MarketFeedListener {
 
-	private static final String MARKET_CODE = "KRW-BTC";
 	private static final int CANDLE_UNIT = 1;   // 1-분봉
-	private static final int CANDLE_COUNT = 120; // 최근 120개(≈2시간)
+	private static final int CANDLE_COUNT = 120; // 최근 120개(≈2시간) – 워밍업용
 
-	private final MultiFactorStrategy strategy;
+	private final StrategyRegistry registry;
 	private final UpbitApiClient api;
-	private final OrderHistoryRepository repo;
+	private final AccountService accountService;
+	private final CandleWarehouse warehouse;
+	private final OrderHistoryWriter historyWriter;
+	private final EventJournal journal;
+	private final TradingMetrics metrics;
+
+	@Value("${trading.markets:KRW-BTC}")
+	private List<String> markets;
+
+	@Value("${trading.tick-timeout-ms:50000}")
+	private long tickTimeoutMs;
+
+	@Value("${trading.fee-rate:0.0005}")
+	private BigDecimal feeRate;           // 업비트 원화마켓 수수료 0.05%
+
+	@Value("${trading.feed:polling}")
+	private String feed;                  // polling | websocket
+
+	// 마켓별 파이프라인은 각자 가상 스레드에서 독립 실행 (느린 마켓이 다른 마켓을 막지 않음)
+	private final Map<String, MarketSession> sessions = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
 	/* 1분마다 실행 */
 	@Scheduled(fixedRate = 60_000, initialDelay = 10_000)
-	@Transactional
 	public void trade() {
+		if (isLiveFeed()) {
+			return;                                     // 캔들 마감 이벤트(onCandleClosed)로 동작
+		}
+		long started = System.nanoTime();
+
+		List<CompletableFuture<Void>> running = new ArrayList<>(markets.size());
+		for (String market : markets) {
+			MarketSession session = sessions.computeIfAbsent(market, MarketSession::new);
+			if (!session.busy.compareAndSet(false, true)) {
+				log.warn("[{}] 이전 틱이 아직 진행 중 → 이번 틱 건너뜀", market);
+				continue;
+			}
+			running.add(CompletableFuture.runAsync(session::trade, executor)
+				.whenComplete((v, e) -> session.busy.set(false)));
+		}
+
+		try {
+			CompletableFuture.allOf(running.toArray(CompletableFuture[]::new))
+				.get(tickTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			long pending = running.stream().filter(f -> !f.isDone()).count();
+			log.warn("틱 제한시간({} ms) 초과 – 미완료 마켓 {}개는 백그라운드에서 계속 진행", tickTimeoutMs, pending);
+		} catch (ExecutionException e) {
+			log.error("틱 처리 중 예외", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		long elapsed = System.nanoTime() - started;
+		metrics.tick(elapsed);
+		log.debug("틱 완료 -> markets={}, {} ms", running.size(), elapsed / 1_000_000);
+	}
+
+	/**
+	 * WebSocket 피드의 1분봉 마감 → 해당 마켓 파이프라인에 순서대로 넣는다.
+	 * 피드 스레드를 막지 않도록 실제 처리는 가상 스레드에서 한다.
+	 */
+	@Override
+	public void onCandleClosed(String market, long intervalMillis,
+		long epochMillis, double open, double high, double low, double close, double volume) {
+		if (!isLiveFeed() || intervalMillis != UpbitWebSocketFeed.MINUTE || !markets.contains(market)) {
+			return;
+		}
+		MarketSession session = sessions.computeIfAbsent(market, MarketSession::new);
+		session.enqueue(() -> session.onLiveCandle(epochMillis, open, high, low, close, volume));
+	}
+
+	/**
+	 * 마켓의 최근 마감 캔들 뷰 (복사 없음, 락 없음). 아직 워밍업 전이면 empty
+	 */
+	public Optional<CandleRingBuffer.Snapshot> recentCandles(String market) {
+		MarketSession session = sessions.get(market);
+		StrategyRuntime runtime = session == null ? null : session.runtime;
+		return runtime == null ? Optional.empty() : Optional.of(runtime.context().candles().snapshot());
+	}
+
+	private boolean isLiveFeed() {
+		return "websocket".equalsIgnoreCase(feed);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
 
-		// 1) 시세 데이터 수집
-		var candles = api.getMarketData(MARKET_CODE, CANDLE_UNIT, CANDLE_COUNT, null);
+	/* ================== 마켓별 상태 ================== */
 
-		// 2) 매매 판단
-		strategy.generateSignal(candles).ifPresent(req -> {
+	/**
+	 * 마켓 하나의 공유 컨텍스트(지표·최근 캔들)와 그 위에서 도는 전략 슬롯들의 매매 파이프라인.
+	 * 폴링 모드는 busy, WebSocket 모드는 tail 체인으로 한 번에 한 스레드만 쓴다.
+	 */
+	private final class MarketSession {
 
-			// 3) 주문 전송
-			OrderResponse res = api.createOrder(req);
+		private final String market;
+		private final AtomicBoolean busy = new AtomicBoolean();
+		private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
 
-			// 4) 체결 내역 저장
-			repo.save(OrderHistory.builder()
+		private volatile StrategyRuntime runtime;     // 워밍업 전에는 null, 읽기는 recentCandles 에서도
+
+		private MarketSession(String market) {
+			this.market = market;
+		}
+
+		private void trade() {
+			long started = System.nanoTime();
+			try {
+				// 1) 시세 데이터 수집 – 새로 마감된 캔들만 컨텍스트에 반영
+				if (feedClosedCandles()) {
+					evaluateAndOrder();
+				}
+			} catch (Exception e) {
+				metrics.error("tick");
+				log.error("[{}] 매매 처리 실패: {}", market, e.getMessage(), e);
+			} finally {
+				metrics.marketTick(market, System.nanoTime() - started);
+			}
+		}
+
+		private synchronized void enqueue(Runnable task) {
+			tail = tail.thenRunAsync(task, executor);
+		}
+
+		/**
+		 * 실시간 1분봉 반영. 워밍업 전이거나 사이에 빠진 봉이 있으면 창고로 먼저 메운다.
+		 */
+		private void onLiveCandle(long time, double open, double high, double low, double close, double volume) {
+			long started = System.nanoTime();
+			try {
+				boolean filled = false;
+				if (runtime == null || time > runtime.context().lastTime() + UpbitWebSocketFeed.MINUTE) {
+					filled = feedClosedCandles();       // 창고 동기화에 방금 마감된 봉까지 들어 있을 수 있다
+				}
+				// 창고에서 이미 반영된 봉이면 update 는 false – 메운 봉이 있었으면 그래도 판단한다
+				boolean fed = update(runtime, time, open, high, low, close, volume);
+				if (fed || filled) {
+					evaluateAndOrder();
+				}
+			} catch (Exception e) {
+				metrics.error("live");
+				log.error("[{}] 실시간 매매 처리 실패: {}", market, e.getMessage(), e);
+			} finally {
+				metrics.marketTick(market, System.nanoTime() - started);
+			}
+		}
+
+		private void evaluateAndOrder() {
+			resolveInFlight();
+
+			// 2) 매매 판단 – 슬롯별 신호 (자금 비율 적용 완료)
+			for (StrategySignal signal : runtime.evaluate()) {
+				journal.append(SignalGenerated.of(signal.strategy(), signal.order()));
+				metrics.signal(market, signal.strategy(), signal.order().getSide());
+				try {
+					order(signal);
+				} catch (Exception e) {
+					metrics.error("order");
+					log.error("[{}] {} 주문 실패: {}", market, signal.strategy(), e.getMessage(), e);
+				}
+			}
+		}
+
+		private void order(StrategySignal signal) {
+			OrderRequest req = signal.order().toBuilder()
+				.identifier(UUID.randomUUID().toString())
+				.build();
+
+			// 3) 주문 전송 – 전송 기록이 디스크에 반영된 뒤에 보낸다 (응답을 못 받아도 identifier 로 확인 가능)
+			journal.appendDurable(OrderSent.of(signal.strategy(), req));
+			OrderResponse res;
+			try {
+				res = api.createOrder(req);
+			} catch (HttpClientErrorException e) {
+				journal.append(new OrderFailed(req.getIdentifier(), e.getStatusCode().toString()));   // 거래소가 거절
+				metrics.order(market, signal.strategy(), "rejected");
+				throw e;
+			} catch (RuntimeException e) {
+				// 그 밖의 예외(시간 초과 등)는 접수 여부를 모르므로 미확인으로 남겨 다음 판단 전에 확인한다
+				metrics.order(market, signal.strategy(), "unknown");
+				throw e;
+			} finally {
+				accountService.invalidate();      // 잔고가 바뀌었으니 다음 판단은 새로 조회
+			}
+			onAcked(new StrategySignal(signal.strategy(), req), res);
+		}
+
+		private void onAcked(StrategySignal signal, OrderResponse res) {
+			metrics.order(market, signal.strategy(), "acked");
+			journal.append(new OrderAcked(signal.order().getIdentifier(), res.getUuid()));
+			runtime.onOrderPlaced(signal);
+			journal.append(new StrategyState(market, signal.strategy(), runtime.position(signal.strategy())));
+
+			// 4) 체결 내역 저장 – write-behind, DB 를 기다리지 않음
+			historyWriter.submit(history(signal, res));
+
+			log.info("[{}] {} 주문 체결 완료 -> uuid={}", market, signal.strategy(), res.getUuid());
+		}
+
+		/**
+		 * 전송 기록만 있고 결과를 모르는 주문(재시작 전 응답 유실 등)을 identifier 로 조회해
+		 * 접수됐으면 반영하고, 거래소에 없으면 실패로 닫는다. 없으면 API 호출도 없다
+		 */
+		private void resolveInFlight() {
+			for (OrderSent sent : journal.inFlightOrders()) {
+				if (!sent.market().equals(market)) {
+					continue;
+				}
+				try {
+					Optional<OrderResponse> found = api.findOrder(sent.identifier());
+					if (found.isPresent()) {
+						onAcked(new StrategySignal(sent.strategy(), sent.toRequest()), found.get());
+					} else {
+						journal.append(new OrderFailed(sent.identifier(), "not found"));
+						log.warn("[{}] 미확인 주문 {} → 거래소에 없음, 실패 처리", market, sent.identifier());
+					}
+				} catch (Exception e) {
+					metrics.error("resolve");
+					log.warn("[{}] 미확인 주문 {} 조회 실패 – 다음에 재시도: {}", market, sent.identifier(), e.getMessage());
+				}
+			}
+		}
+
+		/**
+		 * 체결 내역 – 가격은 코인 1개 가격, 수량은 코인 수량.
+		 * 시장가 주문은 체결가를 모르므로 직전 종가로 추정한다 (시장가 매수는 주문 금액 / 종가)
+		 */
+		private OrderHistory history(StrategySignal signal, OrderResponse res) {
+			OrderRequest req = signal.order();
+			BigDecimal price = req.getOrdType() == OrderType.LIMIT && req.getPrice() != null
+				? req.getPrice()
+				: BigDecimal.valueOf(runtime.context().engine().close());
+			BigDecimal volume = req.getVolume() != null
+				? req.getVolume()
+				: req.getPrice().divide(price, 8, RoundingMode.DOWN);
+
+			return OrderHistory.builder()
 				.market(req.getMarket())
-				.price(req.getPrice() != null ? req.getPrice() : res.getPrice())
-				.volume(req.isBuy() ? req.getPrice() : req.getVolume())
+				.side(req.getSide())
+				.price(price)
+				.volume(volume)
+				.fee(price.multiply(volume).multiply(feeRate).setScale(8, RoundingMode.HALF_UP))
 				.orderType(req.getOrdType())
+				.strategy(signal.strategy())
 				.uuid(res.getUuid())
-				.build());
+				.executedAt(LocalDateTime.now())
+				.build();
+		}
+
+		/**
+		 * 최초 1회는 전략 슬롯을 컨텍스트에 바인딩하고 워밍업한다. 저널에 최근 CANDLE_COUNT 개가 있으면
+		 * 그것과 슬롯 보유 추정치를 되살리고 이후 빈 구간만 창고에서 채우며, 없으면 창고의 최근 CANDLE_COUNT 개를 쓴다.
+		 * 이후에는 창고에 새로 쌓인(마지막 반영 이후) 마감 캔들만 O(1) 로 갱신한다.
+		 * 창고가 빠진 꼬리를 모두 채우므로 틱을 건너뛰어도 재워밍업이 필요 없다.
+		 *
+		 * @return 새 캔들이 반영되었는지 여부 (저널에서 되살린 캔들은 제외)
+		 */
+		private boolean feedClosedCandles() throws IOException {
+			StrategyRuntime rt = runtime;
+			CandleSeries closed;
+			if (rt == null) {
+				rt = new StrategyRuntime(new MarketContext(market, CANDLE_COUNT), registry.slotsFor(market),
+					(strategy, nanos) -> metrics.strategyEvaluated(market, strategy, nanos));
+				rt.restorePositions(journal.positions(market));
+				List<CandleReceived> journaled = journal.recentCandles(market);
+				if (journaled.size() >= CANDLE_COUNT) {
+					for (CandleReceived c : journaled) {
+						rt.context().update(c.time(), c.open(), c.high(), c.low(), c.close(), c.volume());
+					}
+					warehouse.sync(market, CANDLE_UNIT);
+					closed = warehouse.since(market, CANDLE_UNIT, rt.context().lastTime());
+					log.info("[{}] 저널에서 복구 -> 캔들 {}개, 이후 {}개", market, journaled.size(), closed.size());
+				} else {
+					warehouse.ensure(market, CANDLE_UNIT, CANDLE_COUNT);
+					closed = warehouse.latest(market, CANDLE_UNIT, CANDLE_COUNT);
+				}
+			} else {
+				warehouse.sync(market, CANDLE_UNIT);
+				closed = warehouse.since(market, CANDLE_UNIT, rt.context().lastTime());
+			}
+
+			boolean fed = false;
+			for (int i = 0; i < closed.size(); i++) {
+				fed |= update(rt, closed.time(i),
+					closed.open(i), closed.high(i), closed.low(i), closed.close(i), closed.volume(i));
+			}
+			runtime = rt;
+			return fed;
+		}
 
-			log.info("주문 체결 완료 -> uuid={}", res.getUuid());
-		});
+		/**
+		 * 컨텍스트 반영 + 저널 기록
+		 */
+		private boolean update(StrategyRuntime rt, long time, double open, double high, double low, double close, double volume) {
+			if (!rt.context().update(time, open, high, low, close, volume)) {
+				return false;
+			}
+			journal.append(new CandleReceived(market, time, open, high, low, close, volume));
+			return true;
+		}
 	}
 }
@@ -0,0 +1,418 @@
+package com.coinmanager.service;
+
+import com.coinmanager.analytics.service.TradeAnalyticsService;
+import com.coinmanager.domain.entity.OrderHistory;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.domain.repository.OrderHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLDataException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 체결 내역 write-behind 저장.
+ *
+ * <p>submit 은 레코드를 로컬 스풀 파일(JSON Lines)에 덧붙이고(fsync) 메모리 큐에 넣은 뒤 바로 돌아온다.
+ * 백그라운드 스레드가 큐를 batch-size 단위로 모아 트랜잭션 하나(JDBC 배치)로 저장하며, 일별 집계도 함께 누적된다.
+ * 스풀은 큐와 같은 순서의 로그이며, DB 반영이 끝난 앞부분만큼 committed 가 전진하고 모두 반영되면 비운다.
+ *
+ * <p>큐가 가득 차면(DB 장애 등) 이후 레코드는 스풀에만 쌓고, 큐를 비운 뒤 스풀에서 이어서 읽어 저장한다.
+ * 기동 시 스풀이 남아 있으면 같은 경로로 복구하며, 이미 저장된 uuid 는 건너뛴다.
+ *
+ * <p>제약 위반처럼 재시도해도 실패할 레코드는 dead-letter 파일로 옮기고 다음 레코드로 넘어간다.
+ */
+@Slf4j
+@Component
+public class OrderHistoryWriter {
+
+	private static final long MIN_BACKOFF_MS = 1_000;
+	private static final long MAX_BACKOFF_MS = 30_000;
+	private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+	private final OrderHistoryRepository repo;
+	private final TradeAnalyticsService analytics;
+	private final int batchSize;
+	private final long flushIntervalMs;
+	private final Path spoolFile;
+	private final Path deadLetterFile;
+	private final BlockingQueue<Pending> queue;
+	private final ObjectMapper mapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private final Object spoolLock = new Object();
+	private FileChannel spool;
+	private long spooled;           // 스풀 파일의 레코드 수
+	private long committed;         // 스풀 앞에서부터 DB 반영이 끝난 레코드 수
+	private long committedBytes;    // committed 레코드가 차지하는 스풀 바이트 수 (복구 시작 위치)
+	private boolean spilled;        // 큐에 못 넣고 스풀에만 있는 레코드가 있음 → 스풀에서 이어 읽기
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public OrderHistoryWriter(
+		OrderHistoryRepository repo,
+		TradeAnalyticsService analytics,
+		@Value("${order-history.batch-size:50}") int batchSize,
+		@Value("${order-history.queue-capacity:10000}") int queueCapacity,
+		@Value("${order-history.flush-interval-ms:500}") long flushIntervalMs,
+		@Value("${order-history.spool:data/spool/order-history.jsonl}") String spoolFile,
+		@Value("${order-history.dead-letter:data/spool/order-history.dead.jsonl}") String deadLetterFile
+	) {
+		this.repo = repo;
+		this.analytics = analytics;
+		this.batchSize = batchSize;
+		this.flushIntervalMs = flushIntervalMs;
+		this.spoolFile = Path.of(spoolFile);
+		this.deadLetterFile = Path.of(deadLetterFile);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	/**
+	 * 스풀 한 줄 = 체결 내역 하나 (executedAt 은 DB 반영 시각이 아니라 submit 시각)
+	 */
+	record Spooled(
+		String uuid,
+		String market,
+		OrderSide side,
+		BigDecimal price,
+		BigDecimal volume,
+		BigDecimal fee,
+		OrderType orderType,
+		String strategy,
+		LocalDateTime executedAt
+	) {
+
+		static Spooled of(OrderHistory h) {
+			return new Spooled(h.getUuid(), h.getMarket(), h.getSide(), h.getPrice(), h.getVolume(), h.getFee(),
+				h.getOrderType(), h.getStrategy(), h.getExecutedAt() != null ? h.getExecutedAt() : LocalDateTime.now());
+		}
+
+		OrderHistory toEntity() {
+			return OrderHistory.builder()
+				.uuid(uuid)
+				.market(market)
+				.side(side)
+				.price(price)
+				.volume(volume)
+				.fee(fee)
+				.orderType(orderType)
+				.strategy(strategy)
+				.executedAt(executedAt)
+				.build();
+		}
+	}
+
+	/**
+	 * @param spoolBytes 스풀에 쓴 바이트 수 – 0 이면 스풀 기록 실패 (committed 계산에서 뺀다)
+	 */
+	private record Pending(Spooled record, int spoolBytes) {
+
+		boolean inSpool() {
+			return spoolBytes > 0;
+		}
+	}
+
+	@PostConstruct
+	void start() throws IOException {
+		Files.createDirectories(spoolFile.toAbsolutePath().getParent());
+		spool = FileChannel.open(spoolFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		try (var lines = Files.lines(spoolFile, StandardCharsets.UTF_8)) {
+			spooled = lines.count();
+		}
+		spilled = spooled > 0;
+		if (spilled) {
+			log.info("체결 내역 스풀 {}건 → 복구 예정", spooled);
+		}
+
+		running = true;
+		worker = Thread.ofPlatform().name("order-history-writer").daemon().start(this::run);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException, IOException {
+		running = false;
+		worker.join(SHUTDOWN_WAIT_MS);
+		if (worker.isAlive()) {
+			worker.interrupt();              // 남은 레코드는 스풀에 있으므로 다음 기동 때 저장된다
+			worker.join();
+		}
+		synchronized (spoolLock) {
+			spool.close();
+		}
+	}
+
+	/**
+	 * 체결 내역 저장 요청 – DB 를 기다리지 않는다
+	 */
+	public void submit(OrderHistory history) {
+		Spooled rec = Spooled.of(history);
+		synchronized (spoolLock) {
+			int bytes = append(rec);
+			if (!spilled && queue.offer(new Pending(rec, bytes))) {
+				return;
+			}
+			if (bytes > 0) {
+				spilled = true;
+				log.warn("체결 내역 큐 가득 참 → 스풀에만 기록 (uuid={})", rec.uuid());
+			} else {
+				log.error("체결 내역 유실: {}", rec);
+			}
+		}
+	}
+
+	/**
+	 * 아직 DB 에 반영되지 않은 레코드 수 (스풀 기준, 스풀 기록에 실패한 것은 큐 기준)
+	 */
+	public long backlog() {
+		synchronized (spoolLock) {
+			return Math.max(spooled - committed, queue.size());
+		}
+	}
+
+	/* ---------------- 백그라운드 ---------------- */
+	private void run() {
+		List<Pending> batch = new ArrayList<>(batchSize);
+		long backoff = MIN_BACKOFF_MS;
+		while (running || !queue.isEmpty() || !batch.isEmpty()) {
+			try {
+				if (batch.isEmpty()) {
+					if (queue.isEmpty() && isSpilled()) {       // 큐에 남은 것(스풀 앞부분)부터 먼저
+						recoverSpool();
+						continue;
+					}
+					Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+					batch.add(first);
+					queue.drainTo(batch, batchSize - 1);
+				}
+				store(batch, false);
+				backoff = MIN_BACKOFF_MS;
+
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.warn("체결 내역 저장 실패 ({}건 대기) – {} ms 후 재시도: {}", backlog(), backoff, e.getMessage());
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				backoff = Math.min(MAX_BACKOFF_MS, backoff * 2);
+			}
+		}
+	}
+
+	private boolean isSpilled() {
+		synchronized (spoolLock) {
+			return spilled;
+		}
+	}
+
+	/**
+	 * 스풀의 [committed, 현재 끝) 을 batch-size 씩 저장한다. 그동안 새 레코드는 계속 스풀에만 쌓이고,
+	 * 따라잡으면 스풀을 비우고 큐 경로로 돌아간다.
+	 * 읽기는 committed 레코드의 바이트 위치에서 바로 시작한다 – 실패 후 다시 들어와도 앞부분을 다시 읽지 않는다.
+	 */
+	private void recoverSpool() throws IOException {
+		long from;
+		long to;
+		long offset;
+		synchronized (spoolLock) {
+			from = committed;
+			to = spooled;
+			offset = committedBytes;
+		}
+
+		List<Pending> chunk = new ArrayList<>(batchSize);
+		try (FileChannel in = FileChannel.open(spoolFile, StandardOpenOption.READ);
+			 BufferedReader reader = new BufferedReader(Channels.newReader(in.position(offset), StandardCharsets.UTF_8))) {
+			for (long i = from; i < to; i++) {
+				String line = reader.readLine();
+				if (line == null) {
+					break;
+				}
+				int bytes = line.getBytes(StandardCharsets.UTF_8).length + 1;
+				try {
+					chunk.add(new Pending(mapper.readValue(line, Spooled.class), bytes));
+				} catch (IOException e) {
+					store(chunk, true);                  // committed 는 앞에서부터만 전진한다
+					deadLetter(line, "스풀 레코드 해석 실패: " + e.getMessage());
+					markCommitted(1, bytes);
+					continue;
+				}
+				if (chunk.size() == batchSize) {
+					store(chunk, true);
+				}
+			}
+			store(chunk, true);
+		}
+
+		synchronized (spoolLock) {
+			if (committed >= spooled) {
+				truncate();
+				spilled = false;
+				log.info("체결 내역 스풀 복구 완료");
+			}
+		}
+	}
+
+	/**
+	 * pending 을 앞에서부터 저장하고, 저장(또는 dead-letter 이동)된 만큼 목록에서 지우며 committed 를 올린다.
+	 * 일시적 오류(DB 연결·타임아웃 등)는 그대로 던져 남은 것만 재시도한다.
+	 * 레코드 자체가 원인인 오류(제약 위반, 컬럼 크기 초과 등)는 재시도해도 같으므로 구간을 반씩 줄여 다시 저장하고,
+	 * 한 건까지 좁혀지면 그 레코드만 dead-letter 파일로 옮긴다 – 한 건 때문에 이후 체결이 모두 막히지 않는다.
+	 *
+	 * @param dedupe 이미 저장된 uuid 를 건너뛸지 (스풀 복구)
+	 */
+	private void store(List<Pending> pending, boolean dedupe) throws IOException {
+		int size = pending.size();
+		while (!pending.isEmpty()) {
+			List<Pending> part = pending.subList(0, Math.min(size, pending.size()));
+			try {
+				save(part, dedupe);
+			} catch (RuntimeException e) {
+				if (!isPoison(e)) {
+					throw e;
+				}
+				if (part.size() > 1) {
+					size = (part.size() + 1) / 2;
+					continue;
+				}
+				deadLetter(mapper.writeValueAsString(part.getFirst().record()), e.getMessage());
+			}
+			markCommitted(part);
+			part.clear();
+			size = pending.size();
+		}
+	}
+
+	/**
+	 * 트랜잭션 하나로 저장. 크래시 직전에 커밋은 됐지만 스풀을 비우지 못한 레코드는 dedupe 로 uuid 를 걸러낸다
+	 */
+	private void save(List<Pending> part, boolean dedupe) {
+		Set<String> existing = Set.of();
+		if (dedupe) {
+			Set<String> uuids = new HashSet<>();
+			part.stream().map(p -> p.record().uuid()).filter(Objects::nonNull).forEach(uuids::add);
+			existing = uuids.isEmpty() ? Set.of() : new HashSet<>(repo.findExistingUuids(uuids));
+		}
+
+		Set<String> skip = existing;
+		List<OrderHistory> fresh = part.stream()
+			.map(Pending::record)
+			.filter(r -> r.uuid() == null || !skip.contains(r.uuid()))
+			.map(Spooled::toEntity)
+			.toList();
+		if (!fresh.isEmpty()) {
+			analytics.record(fresh);
+		}
+	}
+
+	/**
+	 * 다시 시도해도 같은 결과가 나는 레코드 오류인지
+	 */
+	private static boolean isPoison(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof DataIntegrityViolationException
+				|| t instanceof TypeMismatchDataAccessException
+				|| t instanceof SQLIntegrityConstraintViolationException
+				|| t instanceof SQLDataException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/* ---------------- 스풀 ---------------- */
+
+	/**
+	 * @return 스풀에 쓴 바이트 수 (실패하면 0)
+	 */
+	private int append(Spooled rec) {
+		try {
+			byte[] line = (mapper.writeValueAsString(rec) + "\n").getBytes(StandardCharsets.UTF_8);
+			ByteBuffer buf = ByteBuffer.wrap(line);
+			while (buf.hasRemaining()) {
+				spool.write(buf);
+			}
+			spool.force(false);
+			spooled++;
+			return line.length;
+		} catch (IOException e) {
+			log.error("체결 내역 스풀 기록 실패: {}", e.getMessage());
+			return 0;
+		}
+	}
+
+	private void markCommitted(List<Pending> part) throws IOException {
+		long n = 0;
+		long bytes = 0;
+		for (Pending p : part) {
+			if (p.inSpool()) {
+				n++;
+				bytes += p.spoolBytes();
+			}
+		}
+		markCommitted(n, bytes);
+	}
+
+	private void markCommitted(long n, long bytes) throws IOException {
+		synchronized (spoolLock) {
+			committed += n;
+			committedBytes += bytes;
+			if (committed >= spooled && !spilled) {
+				truncate();
+			}
+		}
+	}
+
+	private void truncate() throws IOException {
+		spool.truncate(0);
+		spooled = 0;
+		committed = 0;
+		committedBytes = 0;
+	}
+
+	/**
+	 * 저장할 수 없는 레코드를 한 줄씩 따로 남긴다 – 원인을 고친 뒤 스풀 파일에 붙여 넣으면 다시 저장된다
+	 */
+	private void deadLetter(String line, String reason) throws IOException {
+		Files.createDirectories(deadLetterFile.toAbsolutePath().getParent());
+		Files.writeString(deadLetterFile, line + "\n", StandardCharsets.UTF_8,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		log.error("체결 내역 저장 불가 → {} 로 이동 ({}): {}", deadLetterFile, reason, line);
+	}
+}
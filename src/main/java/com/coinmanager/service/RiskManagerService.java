@@ -2,6 +2,7 @@ package com.coinmanager.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
@@ -19,7 +20,17 @@ public class RiskManagerService {
 	 * 시장가 매수를 위한 KRW 투입 금액 반환
 	 */
 	public BigDecimal krwPositionSize() {
-		BigDecimal totalAsset = accountService.getTotalAssetKrw();
+		return sizeOf(accountService.getTotalAssetKrw());
+	}
+
+	/**
+	 * krwPositionSize 비동기 버전 – 한도 조회 등과 동시에 보낼 때 사용
+	 */
+	public CompletableFuture<BigDecimal> krwPositionSizeAsync() {
+		return accountService.getTotalAssetKrwAsync().thenApply(this::sizeOf);
+	}
+
+	private BigDecimal sizeOf(BigDecimal totalAsset) {
 		return totalAsset.multiply(DEFAULT_RISK)
 			.setScale(0, RoundingMode.DOWN);
 	}
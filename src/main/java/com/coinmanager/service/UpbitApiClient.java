@@ -1,18 +1,33 @@
 package com.coinmanager.service;
 
+import com.coinmanager.domain.account.AccountSnapshot;
 import com.coinmanager.domain.dto.MarketData;
 import com.coinmanager.domain.dto.OrderRequest;
 import com.coinmanager.domain.dto.OrderResponse;
 import com.coinmanager.domain.dto.PriceLimitInfo;
 import com.coinmanager.jwt.JwtUtil;
+import com.coinmanager.metrics.TradingMetrics;
+import com.coinmanager.service.ratelimit.PrioritySemaphore;
+import com.coinmanager.service.ratelimit.RateLimitGroup;
+import com.coinmanager.service.ratelimit.RequestPriority;
+import com.coinmanager.service.ratelimit.UpbitRateLimiter;
 import com.coinmanager.util.UpbitCandleMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +38,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
@@ -31,34 +48,70 @@ import org.springframework.web.client.RestTemplate;
 public class UpbitApiClient {
 
 	private static final String BASE = "https://api.upbit.com/v1/";
+	private static final int MAX_RETRY_ON_429 = 2;
 
 	private final RestTemplate restTemplate;
 	private final JwtUtil jwtUtil;
+	private final UpbitRateLimiter rateLimiter;
+	private final TradingMetrics metrics;
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
+	private static final ParameterizedTypeReference<List<Map<String, Object>>> LIST_OF_MAPS =
+		new ParameterizedTypeReference<>() {
+		};
+
 	@Value("${upbit.access-key}")
 	private String accessKey;
 
+	@Value("${upbit.max-in-flight:10}")
+	private int maxInFlight;
+
+	// 전체 마켓 합산 동시 요청 수 상한 – 자리가 나면 우선순위가 높은 요청부터
+	private PrioritySemaphore inFlight;
+
+	// *Async 메서드용 – 요청마다 가상 스레드 (실제 동시성은 세마포어·요청 제한기가 조절)
+	private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@PostConstruct
+	void initLimits() {
+		inFlight = new PrioritySemaphore(maxInFlight);
+	}
+
+	@PreDestroy
+	void shutdownAsync() {
+		asyncExecutor.shutdownNow();
+	}
+
 	/**
 	 * 분봉 캔들 -> MarketData 변환
 	 */
 	public List<MarketData> getMarketData(String market, int minuteUnit, int count, @Nullable String to) {
+		return getMarketData(market, minuteUnit, count, to, RequestPriority.MARKET_DATA);
+	}
 
-		// ex) https://api.upbit.com/v1/candles/minutes/1?market=KRW-BTC&count=120
+	/**
+	 * 분봉 캔들 – 요청 우선순위 지정 (과거 데이터 수집은 BACKFILL)
+	 */
+	public List<MarketData> getMarketData(
+		String market, int minuteUnit, int count, @Nullable String to, RequestPriority priority) {
+
+		// ex) https://api.upbit.com/v1/candles/minutes/1?market=KRW-BTC&count=120&to=2024-01-01T09%3A00%3A00%2B09%3A00
 		String url = BASE + "candles/minutes/" + minuteUnit +
 			"?market=" + market + "&count=" + count;
+		if (to != null && !to.isBlank()) {
+			// to 는 exclusive, 오프셋이 없으면 UTC 로 해석된다. '+' 가 공백으로 바뀌지 않도록 직접 인코딩
+			url += "&to=" + URLEncoder.encode(to, StandardCharsets.UTF_8);
+		}
 
 		ResponseEntity<List<Map<String, Object>>> response =
-			restTemplate.exchange(
+			exchange(
+				RateLimitGroup.QUOTATION, priority,
 				url,
 				HttpMethod.GET,
-				new HttpEntity<>(createHeaders(null)),
-				new ParameterizedTypeReference<>() {
-				}
+				() -> new HttpEntity<>(createHeaders(null)),
+				LIST_OF_MAPS
 			);
 
-		DateTimeFormatter fmt = DateTimeFormatter.ISO_DATE_TIME;
-
 		return Objects.requireNonNull(response.getBody()).stream()
 			.map(m -> UpbitCandleMapper.toMarketData(m, market))
 			.toList();
@@ -69,16 +122,17 @@ public class UpbitApiClient {
 	 */
 	public OrderResponse createOrder(OrderRequest request) {
 		String queryString = buildQuery(request);
-		String jwt = jwtUtil.createToken(queryString);
-
-		HttpHeaders headers = createHeaders(jwt);
-		headers.setContentType(MediaType.APPLICATION_JSON);
 
 		ResponseEntity<OrderResponse> res =
-			restTemplate.exchange(
+			exchange(
+				RateLimitGroup.ORDER, RequestPriority.ORDER,
 				BASE + "orders",
 				HttpMethod.POST,
-				new HttpEntity<>(request, headers),
+				() -> {
+					HttpHeaders headers = createHeaders(jwtUtil.createToken(queryString));
+					headers.setContentType(MediaType.APPLICATION_JSON);
+					return new HttpEntity<>(request, headers);
+				},
 				OrderResponse.class
 			);
 
@@ -86,48 +140,57 @@ public class UpbitApiClient {
 	}
 
 	/**
-	 * 계좌/잔고
+	 * identifier 로 주문 조회 – 전송 후 응답을 못 받은 주문이 거래소에 접수됐는지 확인용
+	 *
+	 * @return 거래소에 없는 주문이면 empty
 	 */
-	public BigDecimal getTotalAssetKrw() {
-		String jwt = jwtUtil.createToken(null);
+	public Optional<OrderResponse> findOrder(String identifier) {
+		String queryString = "identifier=" + URLEncoder.encode(identifier, StandardCharsets.UTF_8);
+
+		try {
+			ResponseEntity<OrderResponse> res =
+				exchange(
+					RateLimitGroup.EXCHANGE, RequestPriority.ORDER,
+					BASE + "order?" + queryString,
+					HttpMethod.GET,
+					() -> new HttpEntity<>(createHeaders(jwtUtil.createToken(queryString))),
+					OrderResponse.class
+				);
+			return Optional.ofNullable(res.getBody());
+		} catch (HttpClientErrorException.NotFound e) {
+			return Optional.empty();
+		}
+	}
 
+	/**
+	 * 계좌/잔고 – 한 번의 조회로 전체 통화 잔고
+	 */
+	public AccountSnapshot getAccounts() {
 		ResponseEntity<List<Map<String, Object>>> response =
-			restTemplate.exchange(
+			exchange(
+				RateLimitGroup.EXCHANGE, RequestPriority.ACCOUNT,
 				BASE + "accounts", HttpMethod.GET,
-				new HttpEntity<>(createHeaders(jwt)),
-				new ParameterizedTypeReference<>() {
-				}
+				() -> new HttpEntity<>(createHeaders(jwtUtil.createToken(null))),
+				LIST_OF_MAPS
 			);
 
-		return Objects.requireNonNull(response.getBody())
+		return AccountSnapshot.of(Objects.requireNonNull(response.getBody())
 			.stream()
-			.map(m ->
-				new BigDecimal((String) m.get("balance"))
-					.multiply(
-						new BigDecimal((String) m.get("avg_buy_price")
-						)
-					)
-			)
-			.reduce(BigDecimal.ZERO, BigDecimal::add);
+			.map(m -> new AccountSnapshot.Balance(
+				(String) m.get("currency"),
+				decimal(m.get("balance")),
+				decimal(m.get("locked")),
+				decimal(m.get("avg_buy_price"))
+			))
+			.toList());
 	}
 
-	public BigDecimal getCoinBalance(String coin) {
-		String jwt = jwtUtil.createToken(null);
-
-		ResponseEntity<List<Map<String, Object>>> response =
-			restTemplate.exchange(BASE + "accounts", HttpMethod.GET,
-				new HttpEntity<>(createHeaders(jwt)),
-				new ParameterizedTypeReference<>() {
-				}
-			);
+	public BigDecimal getTotalAssetKrw() {
+		return getAccounts().totalAssetKrw();
+	}
 
-		return Objects.requireNonNull(response.getBody())
-			.stream()
-			.filter(m -> coin.equals(m.get("currency")))
-			.map(m ->
-				new BigDecimal((String) m.get("balance")))
-			.findFirst()
-			.orElse(BigDecimal.ZERO);
+	public BigDecimal getCoinBalance(String coin) {
+		return getAccounts().balance(coin);
 	}
 
 
@@ -136,22 +199,119 @@ public class UpbitApiClient {
 	 */
 	public PriceLimitInfo getPriceLimit(String market) {
 		String queryString = "market=" + market;
-		String jwt = jwtUtil.createToken(queryString);
-
-		HttpHeaders headers = createHeaders(jwt);
 
 		ResponseEntity<PriceLimitInfo> response =
-			restTemplate.exchange(
+			exchange(
+				RateLimitGroup.EXCHANGE, RequestPriority.ACCOUNT,
 				BASE + "orders/chance?" + queryString,
 				HttpMethod.GET,
-				new HttpEntity<>(headers),
+				() -> new HttpEntity<>(createHeaders(jwtUtil.createToken(queryString))),
 				PriceLimitInfo.class
 			);
 
 		return response.getBody();
 	}
 
+	/* ================== 비동기 ================== */
+	/*
+	 * 동기 메서드를 가상 스레드에서 실행 – 서로 독립인 조회를 동시에 보내고 thenCombine 등으로 합친다.
+	 * 하위 클래스(스텁)가 동기 메서드를 재정의하면 그대로 따라간다.
+	 */
+	public CompletableFuture<List<MarketData>> getMarketDataAsync(
+		String market, int minuteUnit, int count, @Nullable String to) {
+		return CompletableFuture.supplyAsync(() -> getMarketData(market, minuteUnit, count, to), asyncExecutor);
+	}
+
+	public CompletableFuture<OrderResponse> createOrderAsync(OrderRequest request) {
+		return CompletableFuture.supplyAsync(() -> createOrder(request), asyncExecutor);
+	}
+
+	public CompletableFuture<AccountSnapshot> getAccountsAsync() {
+		return CompletableFuture.supplyAsync(this::getAccounts, asyncExecutor);
+	}
+
+	public CompletableFuture<BigDecimal> getTotalAssetKrwAsync() {
+		return CompletableFuture.supplyAsync(this::getTotalAssetKrw, asyncExecutor);
+	}
+
+	public CompletableFuture<BigDecimal> getCoinBalanceAsync(String coin) {
+		return CompletableFuture.supplyAsync(() -> getCoinBalance(coin), asyncExecutor);
+	}
+
+	public CompletableFuture<PriceLimitInfo> getPriceLimitAsync(String market) {
+		return CompletableFuture.supplyAsync(() -> getPriceLimit(market), asyncExecutor);
+	}
+
 	/* ================== 내부 유틸 ================== */
+	// url 은 이미 인코딩된 문자열 → URI 템플릿으로 다시 인코딩되지 않도록 URI 로 넘긴다
+	// entity 는 시도마다 새로 만든다 – JWT nonce 는 한 번만 쓸 수 있어 429 재시도에 같은 토큰을 보내면 거절된다
+	private <T> ResponseEntity<T> exchange(
+		RateLimitGroup group, RequestPriority priority,
+		String url, HttpMethod method, Supplier<HttpEntity<?>> entity, Class<T> type) {
+		return limited(group, priority, endpoint(url),
+			() -> restTemplate.exchange(URI.create(url), method, entity.get(), type));
+	}
+
+	private <T> ResponseEntity<T> exchange(
+		RateLimitGroup group, RequestPriority priority,
+		String url, HttpMethod method, Supplier<HttpEntity<?>> entity, ParameterizedTypeReference<T> type) {
+		return limited(group, priority, endpoint(url),
+			() -> restTemplate.exchange(URI.create(url), method, entity.get(), type));
+	}
+
+	/**
+	 * 요청 제한(그룹 토큰) → 동시 요청 수 제한(전체 자리) 순서로 통과시킨 뒤 호출. 두 대기열 모두 우선순위 순이다.
+	 * 429 를 받으면 해당 그룹을 잠시 멈추고 재시도하며, call 은 시도마다 다시 호출된다(새 JWT).
+	 */
+	private <T> ResponseEntity<T> limited(
+		RateLimitGroup group, RequestPriority priority, String endpoint, Supplier<ResponseEntity<T>> call) {
+		for (int attempt = 0; ; attempt++) {
+			rateLimiter.acquire(group, priority);
+			acquire(priority);
+			long started = System.nanoTime();
+			String outcome = "io_error";
+			try {
+				ResponseEntity<T> res = call.get();
+				outcome = "success";
+				rateLimiter.onResponse(group, res.getHeaders().getFirst(UpbitRateLimiter.REMAINING_REQ_HEADER));
+				return res;
+			} catch (HttpClientErrorException.TooManyRequests e) {
+				outcome = "rejected";
+				rateLimiter.onRejected(group);
+				if (attempt >= MAX_RETRY_ON_429) {
+					throw e;
+				}
+			} catch (HttpStatusCodeException e) {
+				outcome = e.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+				throw e;
+			} finally {
+				inFlight.release();
+				metrics.upbitRequest(endpoint, group, outcome, System.nanoTime() - started);
+			}
+		}
+	}
+
+	/**
+	 * 지표 태그용 엔드포인트 이름 – BASE 뒤 경로 (쿼리 제외). 예) candles/minutes/1, orders/chance
+	 */
+	private static String endpoint(String url) {
+		int q = url.indexOf('?');
+		return url.substring(BASE.length(), q < 0 ? url.length() : q);
+	}
+
+	private void acquire(RequestPriority priority) {
+		try {
+			inFlight.acquire(priority);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Upbit 요청 대기 중 인터럽트", e);
+		}
+	}
+
+	private static BigDecimal decimal(Object v) {
+		return v == null ? BigDecimal.ZERO : new BigDecimal(v.toString());
+	}
+
 	private HttpHeaders createHeaders(String jwt) {
 		HttpHeaders headers = new HttpHeaders();
 		headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -178,6 +338,10 @@ public class UpbitApiClient {
 
 		sb.append("&ord_type=").append(request.getOrdType());
 
+		if (request.getIdentifier() != null) {
+			sb.append("&identifier=").append(request.getIdentifier());
+		}
+
 		return sb.toString();
 	}
 }
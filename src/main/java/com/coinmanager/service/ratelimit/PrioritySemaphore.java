@@ -0,0 +1,60 @@
+package com.coinmanager.service.ratelimit;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 대기열을 가진 세마포어 – 전체 그룹 합산 동시 요청 수 제한용.
+ * 빈 자리는 대기열 맨 앞(우선순위 → 도착 순)에게 가므로, 자리가 모자랄 때 주문이 백필·캔들 조회보다 먼저 나간다.
+ * 이미 나간 요청을 끊지는 않는다.
+ */
+public class PrioritySemaphore {
+
+	private static final Comparator<Waiter> ORDER =
+		Comparator.comparing((Waiter w) -> w.priority).thenComparingLong(w -> w.seq);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(ORDER);
+	private long seq;
+	private int permits;
+
+	public PrioritySemaphore(int permits) {
+		this.permits = permits;
+	}
+
+	public void acquire(RequestPriority priority) throws InterruptedException {
+		lock.lock();
+		Waiter me = new Waiter(priority, seq++);
+		waiters.add(me);
+		try {
+			while (waiters.peek() != me || permits == 0) {
+				changed.await();
+			}
+			permits--;
+			waiters.poll();
+			changed.signalAll();                  // 자리가 남았으면 다음 순번도 진행
+		} catch (InterruptedException e) {
+			waiters.remove(me);
+			changed.signalAll();
+			throw e;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void release() {
+		lock.lock();
+		try {
+			permits++;
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private record Waiter(RequestPriority priority, long seq) {
+	}
+}
@@ -0,0 +1,26 @@
+package com.coinmanager.service.ratelimit;
+
+/**
+ * Upbit 요청 수 제한 그룹. Remaining-Req 헤더의 group 값과 매핑된다.
+ */
+public enum RateLimitGroup {
+
+	QUOTATION,   // 시세 조회 (candles 등, 초당 10회)
+	EXCHANGE,    // 계좌·주문 가능 정보 (default, 초당 30회)
+	ORDER;       // 주문 생성 (order, 초당 8회)
+
+	/**
+	 * Remaining-Req 의 group 이름 → 그룹
+	 */
+	public static RateLimitGroup fromHeaderGroup(String group, RateLimitGroup fallback) {
+		if (group == null) {
+			return fallback;
+		}
+		return switch (group) {
+			case "order" -> ORDER;
+			case "default" -> EXCHANGE;
+			case "candles", "ticker", "trades", "orderbook", "market", "crix-trades" -> QUOTATION;
+			default -> fallback;
+		};
+	}
+}
@@ -0,0 +1,18 @@
+package com.coinmanager.service.ratelimit;
+
+/**
+ * 그룹별 요청 제한 현황
+ *
+ * @param serverRemaining 마지막 응답의 Remaining-Req sec 값 (모르면 -1)
+ */
+public record RateLimitStats(
+	RateLimitGroup group,
+	double ratePerSec,
+	long acquired,
+	double avgWaitMs,
+	double maxWaitMs,
+	long rejections,
+	int queued,
+	int serverRemaining
+) {
+}
@@ -0,0 +1,14 @@
+package com.coinmanager.service.ratelimit;
+
+/**
+ * 요청 대기 순서 (ordinal 이 작을수록 먼저).
+ * 같은 그룹의 토큰 대기열(TokenBucket)과 전체 동시 요청 자리 대기열(PrioritySemaphore)에 적용된다.
+ * 그룹마다 한도가 따로라서 다른 그룹의 토큰을 앞질러 가져가지는 않는다.
+ */
+public enum RequestPriority {
+
+	ORDER,        // 주문
+	ACCOUNT,      // 잔고·주문 가능 정보
+	MARKET_DATA,  // 실시간 매매용 캔들
+	BACKFILL      // 과거 데이터 수집
+}
@@ -0,0 +1,163 @@
+package com.coinmanager.service.ratelimit;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 대기열을 가진 토큰 버킷.
+ * 대기열의 맨 앞(우선순위 → 도착 순) 요청만 토큰을 가져갈 수 있어, 같은 우선순위 안에서는 FIFO 로 공정하다.
+ */
+class TokenBucket {
+
+	private static final Comparator<Waiter> ORDER =
+		Comparator.comparing((Waiter w) -> w.priority).thenComparingLong(w -> w.seq);
+
+	private final RateLimitGroup group;
+	private final double ratePerSec;
+	private final double capacity;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(ORDER);
+	private long seq;
+
+	private double tokens;
+	private long lastRefill = System.nanoTime();
+	private long pausedUntil;             // nanoTime – 서버가 남은 요청이 없다고 알려온 경우
+
+	// 지표
+	private final AtomicLong acquired = new AtomicLong();
+	private final AtomicLong waitNanos = new AtomicLong();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong rejections = new AtomicLong();
+	private volatile int serverRemaining = -1;
+
+	TokenBucket(RateLimitGroup group, double ratePerSec) {
+		this.group = group;
+		this.ratePerSec = ratePerSec;
+		this.capacity = ratePerSec;       // 최대 1초치 버스트
+		this.tokens = capacity;
+	}
+
+	/**
+	 * 토큰 하나를 얻을 때까지 대기
+	 *
+	 * @return 대기한 시간 (ns)
+	 */
+	long acquire(RequestPriority priority) throws InterruptedException {
+		long started = System.nanoTime();
+		lock.lock();
+		Waiter me = new Waiter(priority, seq++);
+		waiters.add(me);
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				refill(now);
+				if (waiters.peek() == me) {
+					if (now >= pausedUntil && tokens >= 1) {
+						tokens -= 1;
+						waiters.poll();
+						changed.signalAll();          // 다음 순번 깨우기
+						break;
+					}
+					changed.awaitNanos(Math.max(nanosUntilToken(now), pausedUntil - now));
+				} else {
+					changed.await();
+				}
+			}
+		} catch (InterruptedException e) {
+			waiters.remove(me);
+			changed.signalAll();
+			throw e;
+		} finally {
+			lock.unlock();
+		}
+
+		long waited = System.nanoTime() - started;
+		acquired.incrementAndGet();
+		waitNanos.addAndGet(waited);
+		maxWaitNanos.accumulateAndGet(waited, Math::max);
+		return waited;
+	}
+
+	/**
+	 * Remaining-Req 의 sec 값 반영 – 서버 기준 남은 횟수보다 많은 토큰은 버린다
+	 */
+	void onServerRemaining(int remainingThisSecond) {
+		serverRemaining = remainingThisSecond;
+		lock.lock();
+		try {
+			tokens = Math.min(tokens, remainingThisSecond);
+			if (remainingThisSecond <= 0) {
+				pauseLocked(TimeUnit.SECONDS.toNanos(1));
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 429 응답 – 1초간 멈추고 토큰을 비운다
+	 */
+	void onRejected() {
+		rejections.incrementAndGet();
+		lock.lock();
+		try {
+			tokens = 0;
+			pauseLocked(TimeUnit.SECONDS.toNanos(1));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	RateLimitStats stats() {
+		long n = acquired.get();
+		return new RateLimitStats(
+			group,
+			ratePerSec,
+			n,
+			n == 0 ? 0 : waitNanos.get() / n / 1_000_000.0,
+			maxWaitNanos.get() / 1_000_000.0,
+			rejections.get(),
+			queued(),
+			serverRemaining
+		);
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private int queued() {
+		lock.lock();
+		try {
+			return waiters.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void refill(long now) {
+		double add = (now - lastRefill) / 1e9 * ratePerSec;
+		if (add > 0) {
+			tokens = Math.min(capacity, tokens + add);
+			lastRefill = now;
+		}
+	}
+
+	private long nanosUntilToken(long now) {
+		if (tokens >= 1) {
+			return 0;
+		}
+		return (long) Math.ceil((1 - tokens) / ratePerSec * 1e9);
+	}
+
+	private void pauseLocked(long nanos) {
+		pausedUntil = Math.max(pausedUntil, System.nanoTime() + nanos);
+		changed.signalAll();
+	}
+
+	private record Waiter(RequestPriority priority, long seq) {
+	}
+}
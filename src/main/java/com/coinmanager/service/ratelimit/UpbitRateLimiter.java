@@ -0,0 +1,101 @@
+package com.coinmanager.service.ratelimit;
+
+import com.coinmanager.metrics.TradingMetrics;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upbit 클라이언트 측 요청 제한기.
+ * 그룹별 토큰 버킷으로 요청 속도를 맞추고, 응답의 Remaining-Req 헤더와 429 응답으로 속도를 보정한다.
+ */
+@Slf4j
+@Component
+public class UpbitRateLimiter {
+
+	public static final String REMAINING_REQ_HEADER = "Remaining-Req";
+
+	private static final long SLOW_WAIT_NANOS = 1_000_000_000L;
+
+	private final Map<RateLimitGroup, TokenBucket> buckets = new EnumMap<>(RateLimitGroup.class);
+	private final TradingMetrics metrics;
+
+	public UpbitRateLimiter(
+		TradingMetrics metrics,
+		@Value("${upbit.rate-limit.quotation-per-sec:10}") double quotationPerSec,
+		@Value("${upbit.rate-limit.exchange-per-sec:30}") double exchangePerSec,
+		@Value("${upbit.rate-limit.order-per-sec:8}") double orderPerSec
+	) {
+		this.metrics = metrics;
+		buckets.put(RateLimitGroup.QUOTATION, new TokenBucket(RateLimitGroup.QUOTATION, quotationPerSec));
+		buckets.put(RateLimitGroup.EXCHANGE, new TokenBucket(RateLimitGroup.EXCHANGE, exchangePerSec));
+		buckets.put(RateLimitGroup.ORDER, new TokenBucket(RateLimitGroup.ORDER, orderPerSec));
+	}
+
+	/**
+	 * 요청 전 호출 – 토큰을 얻을 때까지 우선순위 순서로 대기
+	 */
+	public void acquire(RateLimitGroup group, RequestPriority priority) {
+		try {
+			long waited = buckets.get(group).acquire(priority);
+			metrics.rateLimitWait(group, waited);
+			if (waited > SLOW_WAIT_NANOS) {
+				log.debug("요청 제한 대기 {} ms ({} / {})", waited / 1_000_000, group, priority);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Upbit 요청 제한 대기 중 인터럽트", e);
+		}
+	}
+
+	/**
+	 * 응답 헤더 반영. 예) "group=default; min=1799; sec=29"
+	 */
+	public void onResponse(RateLimitGroup requested, String remainingReq) {
+		if (remainingReq == null) {
+			return;
+		}
+		String group = null;
+		int sec = -1;
+		for (String part : remainingReq.split(";")) {
+			String[] kv = part.trim().split("=", 2);
+			if (kv.length != 2) {
+				continue;
+			}
+			if ("group".equals(kv[0])) {
+				group = kv[1];
+			} else if ("sec".equals(kv[0])) {
+				try {
+					sec = Integer.parseInt(kv[1]);
+				} catch (NumberFormatException ignored) {
+					// 형식이 바뀌어도 요청 자체는 계속
+				}
+			}
+		}
+		if (sec >= 0) {
+			buckets.get(RateLimitGroup.fromHeaderGroup(group, requested)).onServerRemaining(sec);
+		}
+	}
+
+	/**
+	 * HTTP 429 수신
+	 */
+	public void onRejected(RateLimitGroup group) {
+		log.warn("Upbit 요청 거절(429) → {} 그룹 1초 정지", group);
+		buckets.get(group).onRejected();
+	}
+
+	public RateLimitStats stats(RateLimitGroup group) {
+		return buckets.get(group).stats();
+	}
+
+	public List<RateLimitStats> stats() {
+		return Arrays.stream(RateLimitGroup.values())
+			.map(g -> buckets.get(g).stats())
+			.toList();
+	}
+}
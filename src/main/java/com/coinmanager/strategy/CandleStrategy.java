@@ -0,0 +1,20 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.OrderRequest;
+import java.util.Optional;
+
+/**
+ * 캔들 푸시형 전략 – 엔진이 봉 하나가 마감될 때마다 onCandle 을 호출한다.
+ * 모든 봉에 대해 빠짐없이 시간순으로 호출되므로, 워밍업은 전략이 스스로 판단한다(Optional.empty()).
+ */
+@FunctionalInterface
+public interface CandleStrategy {
+
+	/**
+	 * @param series 캔들 시계열 (index 이하의 캔들만 확정된 값)
+	 * @param index  방금 마감된 캔들 위치
+	 */
+	Optional<OrderRequest> onCandle(CandleSeries series, int index);
+
+}
@@ -0,0 +1,13 @@
+package com.coinmanager.strategy;
+
+/**
+ * 슬롯별 신호 판단 소요 시간 수신 (지표 기록용)
+ */
+@FunctionalInterface
+public interface EvaluationObserver {
+
+	EvaluationObserver NONE = (strategy, nanos) -> {
+	};
+
+	void onEvaluated(String strategy, long nanos);
+}
@@ -0,0 +1,53 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.candle.CandleRingBuffer;
+import com.coinmanager.indicator.IndicatorEngine;
+
+/**
+ * 마켓 하나를 구독하는 모든 전략이 공유하는 상태 – 지표 엔진과 최근 캔들 링버퍼.
+ * 캔들 한 개당 지표는 전략 수와 무관하게 한 번만 갱신된다. 쓰기는 마켓 파이프라인 한 스레드만 한다.
+ */
+public class MarketContext {
+
+	private final String market;
+	private final IndicatorEngine engine;
+	private final CandleRingBuffer candles;
+
+	public MarketContext(String market, int window) {
+		this.market = market;
+		this.engine = new IndicatorEngine(market);
+		this.candles = new CandleRingBuffer(market, window);
+	}
+
+	/**
+	 * 마감 캔들 반영. 이미 반영된 시각 이하면 무시한다
+	 *
+	 * @return 반영 여부
+	 */
+	public boolean update(long epochMillis, double open, double high, double low, double close, double volume) {
+		if (!candles.append(epochMillis, open, high, low, close, volume)) {
+			return false;
+		}
+		engine.update(open, high, low, close, volume);
+		return true;
+	}
+
+	public String market() {
+		return market;
+	}
+
+	public IndicatorEngine engine() {
+		return engine;
+	}
+
+	public CandleRingBuffer candles() {
+		return candles;
+	}
+
+	/**
+	 * 마지막으로 반영된 캔들 시각 (없으면 Long.MIN_VALUE)
+	 */
+	public long lastTime() {
+		return candles.lastTime();
+	}
+}
@@ -0,0 +1,75 @@
+package com.coinmanager.strategy;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * MultiFactorStrategy 파라미터 (application.properties 의 strategy.multi-factor.* 로 덮어쓰기 가능)
+ */
+@ConfigurationProperties("strategy.multi-factor")
+public record MultiFactorParams(
+	@DefaultValue("9") int maShort,
+	@DefaultValue("26") int maLong,
+	@DefaultValue("14") int rsiPeriod,
+	@DefaultValue("20") int bbPeriod,
+	@DefaultValue("20") int volPeriod,
+	@DefaultValue("10") int momentumPeriod,
+	@DefaultValue("40") double rsiBuyMax,
+	@DefaultValue("70") double rsiSellMin,
+	@DefaultValue("1.05") double volMultiMin,
+	@DefaultValue("1.0025") double momentumThreshold
+) {
+
+	public static MultiFactorParams defaults() {
+		return new MultiFactorParams(9, 26, 14, 20, 20, 10, 40, 70, 1.05, 1.0025);
+	}
+
+	/**
+	 * 일부 값만 바꾼 사본. 키는 프로퍼티 이름과 같다 (ma-short, rsi-buy-max …)
+	 *
+	 * @throws IllegalArgumentException 알 수 없는 키 또는 숫자가 아닌 값
+	 */
+	public MultiFactorParams withOverrides(Map<String, String> overrides) {
+		int maShort = this.maShort;
+		int maLong = this.maLong;
+		int rsiPeriod = this.rsiPeriod;
+		int bbPeriod = this.bbPeriod;
+		int volPeriod = this.volPeriod;
+		int momentumPeriod = this.momentumPeriod;
+		double rsiBuyMax = this.rsiBuyMax;
+		double rsiSellMin = this.rsiSellMin;
+		double volMultiMin = this.volMultiMin;
+		double momentumThreshold = this.momentumThreshold;
+
+		for (Map.Entry<String, String> e : overrides.entrySet()) {
+			String v = e.getValue().trim();
+			switch (e.getKey()) {
+				case "ma-short" -> maShort = Integer.parseInt(v);
+				case "ma-long" -> maLong = Integer.parseInt(v);
+				case "rsi-period" -> rsiPeriod = Integer.parseInt(v);
+				case "bb-period" -> bbPeriod = Integer.parseInt(v);
+				case "vol-period" -> volPeriod = Integer.parseInt(v);
+				case "momentum-period" -> momentumPeriod = Integer.parseInt(v);
+				case "rsi-buy-max" -> rsiBuyMax = Double.parseDouble(v);
+				case "rsi-sell-min" -> rsiSellMin = Double.parseDouble(v);
+				case "vol-multi-min" -> volMultiMin = Double.parseDouble(v);
+				case "momentum-threshold" -> momentumThreshold = Double.parseDouble(v);
+				default -> throw new IllegalArgumentException("알 수 없는 multi-factor 파라미터: " + e.getKey());
+			}
+		}
+		return new MultiFactorParams(maShort, maLong, rsiPeriod, bbPeriod, volPeriod, momentumPeriod,
+			rsiBuyMax, rsiSellMin, volMultiMin, momentumThreshold);
+	}
+
+	/**
+	 * 지표 계산에 필요한 최소 캔들 수
+	 */
+	public int maxPeriod() {
+		return Math.max(
+			Math.max(
+				Math.max(maLong, bbPeriod), volPeriod),
+			Math.max(momentumPeriod, rsiPeriod) + 1  // 모멘텀·RSI 는 +1 필요
+		);
+	}
+}
@@ -5,13 +5,24 @@ import com.coinmanager.domain.dto.OrderRequest;
 import com.coinmanager.domain.dto.PriceLimitInfo;
 import com.coinmanager.domain.enums.OrderSide;
 import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.indicator.BatchIndicators;
+import com.coinmanager.indicator.BollingerIndicator;
+import com.coinmanager.indicator.IndicatorColumns;
+import com.coinmanager.indicator.IndicatorEngine;
+import com.coinmanager.indicator.MomentumIndicator;
+import com.coinmanager.indicator.RsiIndicator;
+import com.coinmanager.indicator.SmaIndicator;
+import com.coinmanager.indicator.VolumeMultiplierIndicator;
 import com.coinmanager.service.AccountService;
 import com.coinmanager.service.RiskManagerService;
 import com.coinmanager.service.UpbitApiClient;
 import com.coinmanager.util.TechIndicatorUtil;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,18 +32,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MultiFactorStrategy implements TradingStrategy {
 
+	public static final String NAME = "multi-factor";
+
 	// ▼▼▼ 파라미터 설정부 ▼▼▼
-	private static final int MA_S = 9;
-	private static final int MA_L = 26;
-	private static final int RSI_P = 14;
-	private static final int BB_P = 20;
-	private static final int VOL_P = 20;
-	private static final int MOMENTUM_PERIOD = 10;
-
-	private static final BigDecimal RSI_BUY_MAX = new BigDecimal("40");
-	private static final BigDecimal RSI_SELL_MIN = new BigDecimal("70");
-	private static final BigDecimal VOL_MULTI_MIN = new BigDecimal("1.05");
-	private static final BigDecimal MOMENTUM_THRESHOLD = new BigDecimal("1.0025");
+	private final MultiFactorParams params;
 
 	// ▼▼▼ 의존성 주입부 ▼▼▼
 	private final AccountService accountService;
@@ -43,7 +46,7 @@ public class MultiFactorStrategy implements TradingStrategy {
 	@Override
 	public Optional<OrderRequest> generateSignal(List<MarketData> candles) {
 		// 1. 데이터 유효성 검증
-		int maxPeriod = calculateMaxPeriod();
+		int maxPeriod = params.maxPeriod();
 		if (candles.size() < maxPeriod) {
 			log.warn("데이터 부족: 필요={}, 현재={}", maxPeriod, candles.size());
 			return Optional.empty();
@@ -56,12 +59,12 @@ public class MultiFactorStrategy implements TradingStrategy {
 		}
 
 		// 2. 기술 지표 계산 (모멘텀 추가)
-		BigDecimal maS = TechIndicatorUtil.sma(candles, MA_S);
-		BigDecimal maL = TechIndicatorUtil.sma(candles, MA_L);
-		BigDecimal rsi = TechIndicatorUtil.rsi(candles, RSI_P);
-		BigDecimal[] bb = TechIndicatorUtil.bollinger(candles, BB_P);
-		BigDecimal volX = TechIndicatorUtil.volumeMultiplier(candles, VOL_P);
-		BigDecimal momentum = TechIndicatorUtil.momentum(candles, MOMENTUM_PERIOD);
+		BigDecimal maS = TechIndicatorUtil.sma(candles, params.maShort());
+		BigDecimal maL = TechIndicatorUtil.sma(candles, params.maLong());
+		BigDecimal rsi = TechIndicatorUtil.rsi(candles, params.rsiPeriod());
+		BigDecimal[] bb = TechIndicatorUtil.bollinger(candles, params.bbPeriod());
+		BigDecimal volX = TechIndicatorUtil.volumeMultiplier(candles, params.volPeriod());
+		BigDecimal momentum = TechIndicatorUtil.momentum(candles, params.momentumPeriod());
 
 		// 3. 지표 null 체크 (모멘텀 추가)
 		if (maS == null || maL == null || rsi == null ||
@@ -71,19 +74,132 @@ public class MultiFactorStrategy implements TradingStrategy {
 			return Optional.empty();
 		}
 
-		BigDecimal price = latest.getClosePrice();
+		return decide(
+			latest.getMarket(),
+			latest.getClosePrice().doubleValue(),
+			maS.doubleValue(), maL.doubleValue(), rsi.doubleValue(),
+			bb[0].doubleValue(), bb[1].doubleValue(),
+			volX.doubleValue(), momentum.doubleValue()
+		);
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	/**
+	 * 공유 컨텍스트의 지표 엔진에 바인딩 – 같은 마켓의 다른 전략과 지표를 공유한다
+	 */
+	@Override
+	public SignalEvaluator bind(MarketContext context) {
+		return bind(context.engine());
+	}
+
+	/**
+	 * 스트리밍 엔진에 전략을 바인딩한다. 필요한 지표는 엔진에 등록(공유)되며,
+	 * 이후 엔진에 캔들을 넣을 때마다 evaluate() 로 신호를 얻는다.
+	 */
+	public SignalEvaluator bind(IndicatorEngine engine) {
+		SmaIndicator maS = engine.sma(params.maShort());
+		SmaIndicator maL = engine.sma(params.maLong());
+		RsiIndicator rsi = engine.rsi(params.rsiPeriod());
+		BollingerIndicator bb = engine.bollinger(params.bbPeriod(), 2);
+		VolumeMultiplierIndicator volX = engine.volumeMultiplier(params.volPeriod());
+		MomentumIndicator momentum = engine.momentum(params.momentumPeriod());
+
+		return () -> {
+			if (!(maS.isReady() && maL.isReady() && rsi.isReady() &&
+				bb.isReady() && volX.isReady() && momentum.isReady())) {
+				log.debug("지표 워밍업 중: market={}, bars={}", engine.market(), engine.bars());
+				return Optional.empty();
+			}
+			return decide(
+				engine.market(), engine.close(),
+				maS.value(), maL.value(), rsi.value(),
+				bb.upper(), bb.lower(),
+				volX.value(), momentum.value()
+			);
+		};
+	}
+
+	/**
+	 * 같은 의존성에 다른 파라미터를 가진 전략 인스턴스 (파라미터 탐색용)
+	 */
+	public MultiFactorStrategy withParams(MultiFactorParams other) {
+		return new MultiFactorStrategy(other, accountService, riskManager, apiClient);
+	}
+
+	/**
+	 * 현재 파라미터에서 주어진 키만 바꾼 변형 (실거래 슬롯용)
+	 */
+	@Override
+	public TradingStrategy withParams(Map<String, String> overrides) {
+		return overrides.isEmpty() ? this : withParams(params.withOverrides(overrides));
+	}
+
+	/**
+	 * 마켓 전용 지표 엔진을 가진 캔들 푸시형 전략 인스턴스 (백테스트용)
+	 */
+	@Override
+	public CandleStrategy streaming(String market) {
+		IndicatorEngine engine = new IndicatorEngine(market);
+		SignalEvaluator evaluator = bind(engine);
+		return (series, i) -> {
+			engine.update(series.open(i), series.high(i), series.low(i), series.close(i), series.volume(i));
+			return evaluator.evaluate();
+		};
+	}
+
+	/**
+	 * 데이터셋 전체에 대해 미리 계산된 지표 컬럼을 읽기만 하는 캔들 푸시형 전략 (파라미터 탐색용).
+	 * 같은 기간의 컬럼은 조합끼리 공유되므로 조합 하나의 백테스트는 단순 스캔이 된다.
+	 */
+	public CandleStrategy precomputed(IndicatorColumns columns) {
+		double[] maS = columns.sma(params.maShort());
+		double[] maL = columns.sma(params.maLong());
+		double[] rsi = columns.rsi(params.rsiPeriod());
+		BatchIndicators.Bands bb = columns.bollinger(params.bbPeriod(), 2);
+		double[] volX = columns.volumeMultiplier(params.volPeriod());
+		double[] momentum = columns.momentum(params.momentumPeriod());
+		String market = columns.series().market();
 
+		return (series, i) -> {
+			if (series != columns.series()) {
+				throw new IllegalArgumentException("지표 컬럼과 다른 시계열: " + series.market());
+			}
+			if (Double.isNaN(maS[i]) || Double.isNaN(maL[i]) || Double.isNaN(rsi[i]) ||
+				Double.isNaN(bb.upper()[i]) || Double.isNaN(volX[i]) || Double.isNaN(momentum[i])) {
+				return Optional.empty();
+			}
+			return decide(
+				market, series.close(i),
+				maS[i], maL[i], rsi[i],
+				bb.upper()[i], bb.lower()[i],
+				volX[i], momentum[i]
+			);
+		};
+	}
+
+	// ▼▼▼ 내부 메서드 ▼▼▼
+	// 지표값 → 매수/매도 판단
+	private Optional<OrderRequest> decide(
+		String market, double price,
+		double maS, double maL, double rsi,
+		double bbUpper, double bbLower,
+		double volX, double momentum
+	) {
 		// 4. 조건 진단 및 로깅 (모멘텀 추가)
-		logConditionDiagnostics(maS, maL, rsi, volX, bb, price, momentum);
+		logConditionDiagnostics(maS, maL, rsi, volX, bbUpper, bbLower, price, momentum);
 
 		// 5. 매수/매도 로직 실행
 		try {
-			if (isBuyCondition(maS, maL, rsi, volX, price, bb, momentum)) {
-				return createBuyOrder(latest);
+			if (isBuyCondition(maS, maL, rsi, volX, price, bbLower, momentum)) {
+				return createBuyOrder(market);
 			}
 
-			if (isSellCondition(maS, maL, rsi, price, bb)) {
-				return createSellOrder(latest);
+			if (isSellCondition(maS, maL, rsi, price, bbUpper)) {
+				return createSellOrder(market);
 			}
 		} catch (Exception e) {
 			log.error("주문 생성 실패: {}", e.getMessage());
@@ -92,26 +208,20 @@ public class MultiFactorStrategy implements TradingStrategy {
 		return Optional.empty();
 	}
 
-	// ▼▼▼ 내부 메서드 ▼▼▼
-	// 최대 주기 계산
-	private int calculateMaxPeriod() {
-		return Math.max(
-			Math.max(
-				Math.max(MA_L, BB_P), VOL_P),
-			MOMENTUM_PERIOD + 1  // 모멘텀을 위해 +1 필요
-		);
-	}
-
 	// 조건 진단 로그 (모멘텀 정보 추가)
 	private void logConditionDiagnostics(
-		BigDecimal maS,
-		BigDecimal maL,
-		BigDecimal rsi,
-		BigDecimal volX,
-		BigDecimal[] bb,
-		BigDecimal price,
-		BigDecimal momentum
+		double maS,
+		double maL,
+		double rsi,
+		double volX,
+		double bbUpper,
+		double bbLower,
+		double price,
+		double momentum
 	) {
+		if (!log.isDebugEnabled()) {
+			return;
+		}
 		log.debug("""
 				[조건 진단]
 				이동평균: 단기({}) / 장기({}) → {}
@@ -120,44 +230,44 @@ public class MultiFactorStrategy implements TradingStrategy {
 				모멘텀({}봉): {} → {}
 				볼린저: 현재가={} / 하단={} / 상단={}
 				""",
-			maS, maL, maS.compareTo(maL) > 0 ? "골든크로스" : "데드크로스",
-			rsi, RSI_BUY_MAX, RSI_SELL_MIN,
-			volX, VOL_MULTI_MIN,
-			MOMENTUM_PERIOD, momentum,
-			momentum.compareTo(MOMENTUM_THRESHOLD) > 0 ? "상승" : "하락",
-			price, bb[1], bb[0]
+			maS, maL, maS > maL ? "골든크로스" : "데드크로스",
+			rsi, params.rsiBuyMax(), params.rsiSellMin(),
+			volX, params.volMultiMin(),
+			params.momentumPeriod(), momentum,
+			momentum > params.momentumThreshold() ? "상승" : "하락",
+			price, bbLower, bbUpper
 		);
 	}
 
 	// 매수 조건
 	private boolean isBuyCondition(
-		BigDecimal maS, BigDecimal maL, BigDecimal rsi,
-		BigDecimal volX, BigDecimal price, BigDecimal[] bb,
-		BigDecimal momentum
+		double maS, double maL, double rsi,
+		double volX, double price, double bbLower,
+		double momentum
 	) {
-		boolean bullCross = maS.compareTo(maL) > 0;
-		boolean rsiOk = rsi.compareTo(RSI_BUY_MAX) <= 0;
-		boolean volOk = volX.compareTo(VOL_MULTI_MIN) >= 0;
-		boolean priceNearLowerBB = price.compareTo(bb[1]) <= 0;
-		boolean momentumUp = momentum.compareTo(MOMENTUM_THRESHOLD) > 0; // 신규 조건
+		boolean bullCross = maS > maL;
+		boolean rsiOk = rsi <= params.rsiBuyMax();
+		boolean volOk = volX >= params.volMultiMin();
+		boolean priceNearLowerBB = price <= bbLower;
+		boolean momentumUp = momentum > params.momentumThreshold(); // 신규 조건
 
 		return bullCross && rsiOk && volOk && priceNearLowerBB && momentumUp;
 	}
 
 	private boolean isSellCondition(
-		BigDecimal maS,
-		BigDecimal maL,
-		BigDecimal rsi,
-		BigDecimal price,
-		BigDecimal[] bb
+		double maS,
+		double maL,
+		double rsi,
+		double price,
+		double bbUpper
 	) {
 		// 1. 기본 조건
-		boolean bearCross = maS.compareTo(maL) < 0;
-		boolean rsiHigh = rsi.compareTo(RSI_SELL_MIN) > 0;
+		boolean bearCross = maS < maL;
+		boolean rsiHigh = rsi > params.rsiSellMin();
 
 		// 2. 볼린저 밴드 조건 강화
-		boolean priceNearUpperBB = price.compareTo(bb[0]) >= 0;
-		boolean rsiAbove60 = rsi.compareTo(new BigDecimal("60")) > 0;
+		boolean priceNearUpperBB = price >= bbUpper;
+		boolean rsiAbove60 = rsi > 60;
 		boolean bbSellSignal = priceNearUpperBB && rsiAbove60;
 
 		// 3. 최종 판단: 데드크로스 또는 RSI 과매수 또는 (볼린저 상단 + RSI 60 이상)
@@ -165,14 +275,20 @@ public class MultiFactorStrategy implements TradingStrategy {
 	}
 
 	// 매수 주문 생성
-	private Optional<OrderRequest> createBuyOrder(MarketData latest) {
-		BigDecimal krwSize = riskManager.krwPositionSize();
-		if (krwSize.signum() == 0) {
-			return Optional.empty();
-		}
+	private Optional<OrderRequest> createBuyOrder(String market) {
+		// 잔고는 대개 캐시에서 바로 나온다 – 살 돈이 있을 때만 주문 한도(orders/chance)를 조회
+		CompletableFuture<BigDecimal> sizeF = riskManager.krwPositionSizeAsync();
+		CompletableFuture<PriceLimitInfo> limitF = sizeF.thenCompose(size -> size.signum() == 0
+			? CompletableFuture.completedFuture(null)
+			: apiClient.getPriceLimitAsync(market));
 
 		try {
-			PriceLimitInfo limit = apiClient.getPriceLimit(latest.getMarket());
+			PriceLimitInfo limit = limitF.join();
+			BigDecimal krwSize = sizeF.join();
+			if (krwSize.signum() == 0) {
+				return Optional.empty();
+			}
+
 			if (limit == null || limit.getBidLimit() == null) {
 				log.warn("유효하지 않은 bid_limit");
 				return Optional.empty();
@@ -183,27 +299,33 @@ public class MultiFactorStrategy implements TradingStrategy {
 			}
 
 			return Optional.of(OrderRequest.builder()
-				.market(latest.getMarket())
+				.market(market)
 				.side(OrderSide.BID)
 				.price(krwSize)
 				.ordType(OrderType.PRICE)
 				.build());
 
 		} catch (Exception e) {
-			log.error("매수 주문 생성 실패: {}", e.getMessage());
+			log.error("매수 주문 생성 실패: {}", causeOf(e).getMessage());
 			return Optional.empty();
 		}
 	}
 
 	// 매도 주문 생성
-	private Optional<OrderRequest> createSellOrder(MarketData latest) {
-		BigDecimal qty = accountService.getCoinBalance(latest.getMarket());
-		if (qty.compareTo(BigDecimal.ZERO) <= 0) {
-			return Optional.empty();
-		}
+	private Optional<OrderRequest> createSellOrder(String market) {
+		// 보유 수량이 있을 때만 주문 한도를 조회
+		CompletableFuture<BigDecimal> qtyF = accountService.getCoinBalanceAsync(market);
+		CompletableFuture<PriceLimitInfo> limitF = qtyF.thenCompose(qty -> qty.signum() <= 0
+			? CompletableFuture.completedFuture(null)
+			: apiClient.getPriceLimitAsync(market));
 
 		try {
-			PriceLimitInfo limit = apiClient.getPriceLimit(latest.getMarket());
+			PriceLimitInfo limit = limitF.join();
+			BigDecimal qty = qtyF.join();
+			if (qty.signum() <= 0) {
+				return Optional.empty();
+			}
+
 			if (limit == null || limit.getAskLimit() == null) {
 				log.warn("유효하지 않은 ask_limit");
 				return Optional.empty();
@@ -214,15 +336,19 @@ public class MultiFactorStrategy implements TradingStrategy {
 			}
 
 			return Optional.of(OrderRequest.builder()
-				.market(latest.getMarket())
+				.market(market)
 				.side(OrderSide.ASK)
 				.volume(qty)
 				.ordType(OrderType.MARKET)
 				.build());
 
 		} catch (Exception e) {
-			log.error("매도 주문 생성 실패: {}", e.getMessage());
+			log.error("매도 주문 생성 실패: {}", causeOf(e).getMessage());
 			return Optional.empty();
 		}
 	}
-}
\ No newline at end of file
+
+	private static Throwable causeOf(Throwable e) {
+		return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+	}
+}
@@ -0,0 +1,14 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.dto.OrderRequest;
+import java.util.Optional;
+
+/**
+ * IndicatorEngine 에 바인딩된 전략 – 엔진이 갱신된 뒤 호출해 현재 봉의 매매 신호를 얻는다.
+ */
+@FunctionalInterface
+public interface SignalEvaluator {
+
+	Optional<OrderRequest> evaluate();
+
+}
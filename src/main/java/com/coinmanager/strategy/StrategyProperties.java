@@ -0,0 +1,48 @@
+package com.coinmanager.strategy;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 실거래에 돌릴 전략 목록 (trading.strategies[n].*). 비어 있으면 multi-factor 하나를 전체 자금으로 돌린다.
+ *
+ * <pre>
+ * trading.strategies[0].name=multi-factor
+ * trading.strategies[0].allocation=0.5
+ * trading.strategies[0].markets=KRW-BTC,KRW-ETH   (생략 시 trading.markets 전체)
+ *
+ * # 같은 전략의 파라미터 변형 – 슬롯 이름은 따로, 등록 전략은 strategy 로
+ * trading.strategies[1].name=multi-factor-fast
+ * trading.strategies[1].strategy=multi-factor
+ * trading.strategies[1].params.ma-short=5
+ * trading.strategies[1].allocation=0.5
+ * </pre>
+ *
+ * 슬롯 이름은 포지션·주문 기록의 키라서, 같은 마켓에 적용되는 슬롯끼리는 겹칠 수 없다.
+ */
+@ConfigurationProperties("trading")
+public record StrategyProperties(
+	List<Slot> strategies
+) {
+
+	/**
+	 * @param name       슬롯 이름 (포지션·주문 기록 키)
+	 * @param strategy   등록된 전략 이름 – 생략하면 name 과 같다
+	 * @param allocation 전략 몫의 자금 비율 – 매수 금액에 곱한다. 마켓별 합계는 1 이하
+	 * @param params     전략 기본 파라미터 중 바꿀 값 (strategy.multi-factor.* 와 같은 키)
+	 */
+	public record Slot(
+		String name,
+		String strategy,
+		@DefaultValue("1.0") double allocation,
+		List<String> markets,
+		Map<String, String> params
+	) {
+
+		public String strategyName() {
+			return strategy == null || strategy.isBlank() ? name : strategy;
+		}
+	}
+}
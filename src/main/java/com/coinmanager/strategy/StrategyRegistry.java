@@ -0,0 +1,80 @@
+package com.coinmanager.strategy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * TradingStrategy 빈을 name() 으로 모아두고, trading.strategies 설정대로 실거래 슬롯을 만든다.
+ * 슬롯은 등록 전략을 그대로 쓰거나 params 로 일부 값을 바꾼 변형을 쓴다.
+ */
+@Slf4j
+@Component
+public class StrategyRegistry {
+
+	private final Map<String, TradingStrategy> byName = new LinkedHashMap<>();
+	private final List<StrategySlot> slots = new ArrayList<>();
+
+	public StrategyRegistry(List<TradingStrategy> strategies, StrategyProperties properties) {
+		for (TradingStrategy strategy : strategies) {
+			TradingStrategy prev = byName.putIfAbsent(strategy.name(), strategy);
+			if (prev != null) {
+				throw new IllegalStateException("전략 이름 중복: " + strategy.name());
+			}
+		}
+
+		List<StrategyProperties.Slot> configured = properties.strategies();
+		if (configured == null || configured.isEmpty()) {
+			configured = List.of(new StrategyProperties.Slot(MultiFactorStrategy.NAME, null, 1.0, List.of(), Map.of()));
+		}
+		for (StrategyProperties.Slot s : configured) {
+			if (s.allocation() <= 0 || s.allocation() > 1) {
+				throw new IllegalStateException("allocation 은 (0, 1] 범위: " + s.name() + "=" + s.allocation());
+			}
+			StrategySlot slot = new StrategySlot(s.name(), variant(s), s.allocation(),
+				s.markets() == null ? List.of() : List.copyOf(s.markets()));
+
+			// 슬롯 이름은 포지션·주문 기록 키 – 같은 마켓에서 겹치면 서로의 포지션을 덮어쓴다
+			for (StrategySlot other : slots) {
+				if (other.name().equals(slot.name()) && other.overlaps(slot)) {
+					throw new IllegalStateException("슬롯 이름 중복: " + slot.name() + " " + other.markets() + " / " + slot.markets()
+						+ " – 파라미터 변형은 다른 name 과 strategy=" + s.strategyName() + " 로 등록");
+				}
+			}
+			slots.add(slot);
+		}
+		log.info("전략 슬롯 → {}", slots.stream().map(s -> s.name() + "(" + s.allocation() + ")").toList());
+	}
+
+	public TradingStrategy get(String name) {
+		TradingStrategy strategy = byName.get(name);
+		if (strategy == null) {
+			throw new IllegalArgumentException("등록되지 않은 전략: " + name + " (사용 가능: " + byName.keySet() + ")");
+		}
+		return strategy;
+	}
+
+	private TradingStrategy variant(StrategyProperties.Slot s) {
+		TradingStrategy base = get(s.strategyName());
+		try {
+			return base.withParams(s.params() == null ? Map.of() : s.params());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("슬롯 " + s.name() + " 파라미터 오류: " + e.getMessage(), e);
+		}
+	}
+
+	public List<String> names() {
+		return List.copyOf(byName.keySet());
+	}
+
+	public List<StrategySlot> slots() {
+		return List.copyOf(slots);
+	}
+
+	public List<StrategySlot> slotsFor(String market) {
+		return slots.stream().filter(s -> s.appliesTo(market)).toList();
+	}
+}
@@ -0,0 +1,166 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.dto.OrderRequest;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마켓 하나에서 여러 전략 슬롯을 같은 MarketContext 위에 돌린다.
+ * 캔들마다 컨텍스트(지표·링버퍼)를 한 번 갱신하고, 각 슬롯의 신호에 자금 비율을 적용한다.
+ *
+ * <p>슬롯이 둘 이상이면 매도 수량을 그 슬롯이 산 수량(주문 시점 종가 기준 추정)으로 제한해
+ * 한 전략의 매도가 다른 전략의 보유분을 팔지 않게 한다. 슬롯이 하나면 신호를 그대로 쓴다.
+ * 한 스레드(마켓 파이프라인)에서만 사용한다.
+ */
+@Slf4j
+public class StrategyRuntime {
+
+	public static final int DEFAULT_WINDOW = 120;
+
+	private static final double QTY_SCALE = 1e8;
+
+	private final MarketContext context;
+	private final List<Binding> bindings = new ArrayList<>();
+	private final EvaluationObserver observer;
+
+	public StrategyRuntime(MarketContext context, List<StrategySlot> slots) {
+		this(context, slots, EvaluationObserver.NONE);
+	}
+
+	public StrategyRuntime(MarketContext context, List<StrategySlot> slots, EvaluationObserver observer) {
+		double total = slots.stream().mapToDouble(StrategySlot::allocation).sum();
+		if (total > 1 + 1e-9) {
+			throw new IllegalStateException("[" + context.market() + "] 전략 allocation 합계가 1 초과: " + total);
+		}
+		this.context = context;
+		this.observer = observer;
+		for (StrategySlot slot : slots) {
+			bindings.add(new Binding(slot, slot.strategy().bind(context)));    // 지표 등록은 첫 캔들 전에
+		}
+	}
+
+	public MarketContext context() {
+		return context;
+	}
+
+	/**
+	 * 컨텍스트가 갱신된 뒤 호출 – 슬롯별 신호. 한 전략의 예외는 다른 전략에 영향을 주지 않는다
+	 */
+	public List<StrategySignal> evaluate() {
+		List<StrategySignal> signals = new ArrayList<>(1);
+		for (Binding b : bindings) {
+			long started = System.nanoTime();
+			try {
+				b.evaluator.evaluate()
+					.flatMap(b::allocate)
+					.ifPresent(order -> signals.add(new StrategySignal(b.slot.name(), order)));
+			} catch (Exception e) {
+				log.error("[{}] 전략 {} 평가 실패: {}", context.market(), b.slot.name(), e.getMessage(), e);
+			} finally {
+				observer.onEvaluated(b.slot.name(), System.nanoTime() - started);
+			}
+		}
+		return signals;
+	}
+
+	/**
+	 * 주문이 접수된 뒤 호출 – 슬롯별 보유 수량 추정치 갱신
+	 */
+	public void onOrderPlaced(StrategySignal signal) {
+		for (Binding b : bindings) {
+			if (b.slot.name().equals(signal.strategy())) {
+				b.onOrderPlaced(signal.order(), context.engine().close());
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 슬롯 이름 → 보유 수량 추정치 (저널 기록용)
+	 */
+	public double position(String strategy) {
+		for (Binding b : bindings) {
+			if (b.slot.name().equals(strategy)) {
+				return b.position;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * 재시작 시 저널에서 복구한 슬롯별 보유 수량 추정치를 되돌린다 (없는 슬롯은 무시)
+	 */
+	public void restorePositions(Map<String, Double> positions) {
+		for (Binding b : bindings) {
+			Double qty = positions.get(b.slot.name());
+			if (qty != null) {
+				b.position = qty;
+			}
+		}
+	}
+
+	private final class Binding {
+
+		private final StrategySlot slot;
+		private final SignalEvaluator evaluator;
+		private double position;          // 이 슬롯이 산 코인 수량 (추정)
+
+		private Binding(StrategySlot slot, SignalEvaluator evaluator) {
+			this.slot = slot;
+			this.evaluator = evaluator;
+		}
+
+		private Optional<OrderRequest> allocate(OrderRequest req) {
+			if (req.getSide() == OrderSide.BID) {
+				if (slot.allocation() >= 1) {
+					return Optional.of(req);
+				}
+				BigDecimal weight = BigDecimal.valueOf(slot.allocation());
+				if (req.getOrdType() == OrderType.PRICE) {                 // 시장가 매수: KRW 총액
+					BigDecimal krw = req.getPrice().multiply(weight).setScale(0, RoundingMode.DOWN);
+					return krw.signum() <= 0 ? Optional.empty() : Optional.of(copy(req, req.getVolume(), krw));
+				}
+				BigDecimal qty = req.getVolume().multiply(weight).setScale(8, RoundingMode.DOWN);   // 지정가: 수량
+				return qty.signum() <= 0 ? Optional.empty() : Optional.of(copy(req, qty, req.getPrice()));
+			}
+
+			if (bindings.size() == 1) {
+				return Optional.of(req);
+			}
+			BigDecimal mine = BigDecimal.valueOf(position);
+			if (mine.signum() <= 0) {
+				return Optional.empty();
+			}
+			return Optional.of(req.getVolume().compareTo(mine) > 0 ? copy(req, mine, req.getPrice()) : req);
+		}
+
+		private void onOrderPlaced(OrderRequest order, double price) {
+			if (order.getSide() == OrderSide.BID) {
+				if (order.getOrdType() != OrderType.PRICE) {
+					position += order.getVolume().doubleValue();
+				} else if (price > 0) {
+					position += Math.floor(order.getPrice().doubleValue() / price * QTY_SCALE) / QTY_SCALE;
+				}
+			} else {
+				position = Math.max(0, position - order.getVolume().doubleValue());
+			}
+		}
+
+		private OrderRequest copy(OrderRequest req, BigDecimal volume, BigDecimal price) {
+			return OrderRequest.builder()
+				.market(req.getMarket())
+				.side(req.getSide())
+				.volume(volume)
+				.price(price)
+				.ordType(req.getOrdType())
+				.build();
+		}
+	}
+}
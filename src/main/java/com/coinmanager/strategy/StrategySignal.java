@@ -0,0 +1,9 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.dto.OrderRequest;
+
+/**
+ * 어느 전략 슬롯이 낸 주문인지 함께 들고 다니는 신호 (체결 내역 귀속용)
+ */
+public record StrategySignal(String strategy, OrderRequest order) {
+}
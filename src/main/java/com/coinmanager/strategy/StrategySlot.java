@@ -0,0 +1,27 @@
+package com.coinmanager.strategy;
+
+import java.util.List;
+
+/**
+ * 레지스트리에 올라간 전략 하나와 그 몫
+ *
+ * @param markets 비어 있으면 모든 마켓
+ */
+public record StrategySlot(
+	String name,
+	TradingStrategy strategy,
+	double allocation,
+	List<String> markets
+) {
+
+	public boolean appliesTo(String market) {
+		return markets.isEmpty() || markets.contains(market);
+	}
+
+	/**
+	 * 두 슬롯이 적용되는 마켓이 하나라도 겹치는지
+	 */
+	public boolean overlaps(StrategySlot other) {
+		return markets.isEmpty() || other.markets.isEmpty() || markets.stream().anyMatch(other.markets::contains);
+	}
+}
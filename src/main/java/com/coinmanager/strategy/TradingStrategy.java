@@ -3,10 +3,51 @@ package com.coinmanager.strategy;
 import com.coinmanager.domain.dto.MarketData;
 import com.coinmanager.domain.dto.OrderRequest;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TradingStrategy {
 
 	Optional<OrderRequest> generateSignal(List<MarketData> marketData);
 
+	/**
+	 * 레지스트리 등록 이름 (trading.strategies[n].name)
+	 */
+	default String name() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * 파라미터 일부를 바꾼 변형 (trading.strategies[n].params.*). 기본 구현은 변형을 지원하지 않는다
+	 *
+	 * @throws IllegalArgumentException 지원하지 않는 전략이거나 알 수 없는 키·값
+	 */
+	default TradingStrategy withParams(Map<String, String> params) {
+		if (params.isEmpty()) {
+			return this;
+		}
+		throw new IllegalArgumentException(name() + " 전략은 파라미터 변형을 지원하지 않음: " + params.keySet());
+	}
+
+	/**
+	 * 공유 컨텍스트에 바인딩한다. 기본 구현은 최근 캔들 뷰(복사 없음)로 generateSignal 을 호출하며,
+	 * 스트리밍 지표를 쓰는 전략은 context.engine() 에 지표를 등록하도록 재정의한다.
+	 * 지표 등록은 첫 캔들 반영 전에만 가능하다.
+	 */
+	default SignalEvaluator bind(MarketContext context) {
+		return () -> generateSignal(context.candles().snapshot().asMarketDataList());
+	}
+
+	/**
+	 * 마켓 전용 컨텍스트를 가진 캔들 푸시형 전략 인스턴스 (백테스트용)
+	 */
+	default CandleStrategy streaming(String market) {
+		MarketContext context = new MarketContext(market, StrategyRuntime.DEFAULT_WINDOW);
+		SignalEvaluator evaluator = bind(context);
+		return (series, i) -> {
+			context.update(series.time(i), series.open(i), series.high(i), series.low(i), series.close(i), series.volume(i));
+			return evaluator.evaluate();
+		};
+	}
+
 }
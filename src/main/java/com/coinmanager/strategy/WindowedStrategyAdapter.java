@@ -0,0 +1,29 @@
+package com.coinmanager.strategy;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.OrderRequest;
+import java.util.Optional;
+
+/**
+ * 기존 List 기반 TradingStrategy 를 CandleStrategy 로 감싸는 어댑터.
+ * 매 봉마다 최근 window 개의 캔들 뷰(복사 없음)를 넘겨 generateSignal 을 호출한다.
+ */
+public class WindowedStrategyAdapter implements CandleStrategy {
+
+	private final TradingStrategy delegate;
+	private final int window;
+
+	public WindowedStrategyAdapter(TradingStrategy delegate, int window) {
+		this.delegate = delegate;
+		this.window = window;
+	}
+
+	@Override
+	public Optional<OrderRequest> onCandle(CandleSeries series, int index) {
+		if (index + 1 < window) {
+			return Optional.empty();
+		}
+		return delegate.generateSignal(
+			series.asMarketDataList().subList(index + 1 - window, index + 1));
+	}
+}
@@ -1,5 +1,6 @@
 package com.coinmanager.util;
 
+import com.coinmanager.domain.candle.CandleSeries;
 import com.coinmanager.domain.dto.MarketData;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -134,4 +135,95 @@ public class TechIndicatorUtil {
 			.divide(avg, 4, RoundingMode.HALF_UP);
 	}
 
+	/* =====================================================
+	   CandleSeries(컬럼) 버전 – index 번째 캔들 기준, 데이터 부족 시 NaN
+	   ===================================================== */
+
+	public double sma(CandleSeries s, int index, int period) {
+		return mean(s.closeColumn(), index, period);
+	}
+
+	public double momentum(CandleSeries s, int index, int period) {
+		if (index < period) {
+			return Double.NaN;
+		}
+		double[] close = s.closeColumn();
+		return close[index] / close[index - period];
+	}
+
+	/**
+	 * 볼린저밴드 {상단, 하단} (± 표준편차 2)
+	 */
+	public double[] bollinger(CandleSeries s, int index, int period) {
+		double ma = mean(s.closeColumn(), index, period);
+		if (Double.isNaN(ma)) {
+			return null;
+		}
+		double[] close = s.closeColumn();
+		double varianceSum = 0;
+		for (int i = index - period + 1; i <= index; i++) {
+			double diff = close[i] - ma;
+			varianceSum += diff * diff;
+		}
+		double stdDev = Math.sqrt(varianceSum / period);
+		return new double[]{ma + 2 * stdDev, ma - 2 * stdDev};
+	}
+
+	public double rsi(CandleSeries s, int index, int period) {
+		if (index < period) {
+			return Double.NaN;
+		}
+		double[] close = s.closeColumn();
+		double gain = 0;
+		double loss = 0;
+		for (int i = index - period + 1; i <= index; i++) {
+			double diff = close[i] - close[i - 1];
+			if (diff > 0) {
+				gain += diff;
+			} else {
+				loss -= diff;
+			}
+		}
+		if (loss == 0) {
+			return 100;
+		}
+		return 100 - 100 / (1 + gain / loss);
+	}
+
+	public double volumeMultiplier(CandleSeries s, int index, int period) {
+		double avg = mean(s.volumeColumn(), index, period);
+		if (Double.isNaN(avg) || avg == 0) {
+			return Double.NaN;
+		}
+		return s.volume(index) / avg;
+	}
+
+	/**
+	 * Wilder 방식 ATR (최근 N개 TR 평균)
+	 */
+	public double atr(CandleSeries s, int index, int period) {
+		if (index < period) {
+			return Double.NaN;
+		}
+		double trSum = 0;
+		for (int i = index - period + 1; i <= index; i++) {
+			double prevClose = s.close(i - 1);
+			double tr = Math.max(s.high(i) - s.low(i),
+				Math.max(Math.abs(s.high(i) - prevClose), Math.abs(s.low(i) - prevClose)));
+			trSum += tr;
+		}
+		return trSum / period;
+	}
+
+	private double mean(double[] column, int index, int period) {
+		if (index + 1 < period) {
+			return Double.NaN;
+		}
+		double sum = 0;
+		for (int i = index - period + 1; i <= index; i++) {
+			sum += column[i];
+		}
+		return sum / period;
+	}
+
 }
@@ -0,0 +1,199 @@
+package com.coinmanager.warehouse;
+
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.service.UpbitApiClient;
+import com.coinmanager.service.ratelimit.RequestPriority;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 과거 구간 대량 수집.
+ * 요청 구간을 독립된 하위 구간으로 나눠 동시에 받고(전체 속도는 UpbitRateLimiter 가 조절),
+ * 완료된 하위 구간은 체크포인트 파일로 남겨 중단 후 다시 실행하면 이어서 받는다.
+ * 하위 구간 경계는 요청 시작점이 아니라 고정된 절대 시각(span 배수)이라, from/to 가 달라져도 안쪽 구간의 체크포인트는 그대로 쓰인다.
+ * 결과는 타임스탬프로 중복을 제거해 CandleWarehouse 앞쪽에 붙인다.
+ */
+@Slf4j
+@Service
+public class CandleBackfillService {
+
+	private static final int PAGE = 200;               // Upbit 캔들 API 1회 최대 개수
+	private static final int PAGES_PER_RANGE = 20;     // 하위 구간 1개 = 최대 4000 캔들 (체크포인트 단위)
+
+	private final UpbitApiClient api;
+	private final CandleWarehouse warehouse;
+	private final Path checkpointRoot;
+	private final int parallelism;
+
+	public CandleBackfillService(
+		UpbitApiClient api,
+		CandleWarehouse warehouse,
+		@Value("${warehouse.dir:data/warehouse}") String root,
+		@Value("${warehouse.backfill.parallelism:4}") int parallelism
+	) {
+		this.api = api;
+		this.warehouse = warehouse;
+		this.checkpointRoot = Path.of(root).resolve(".backfill");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * [from, to) 구간(KST)을 창고에 채운다.
+	 * 창고가 끊김 없이 이어지도록 구간 끝은 저장된 가장 오래된 캔들 직전까지로 맞춘다.
+	 *
+	 * @return 창고에 새로 추가된 캔들 수
+	 */
+	public int backfill(String market, int unit, LocalDateTime from, LocalDateTime to) throws IOException {
+		long unitMs = unit * 60_000L;
+		warehouse.sync(market, unit, RequestPriority.BACKFILL);     // 최근 꼬리는 sync 로
+
+		long start = CandleSeries.toEpochMillis(from);
+		long first = warehouse.firstTime(market, unit);
+		long end = first != Long.MAX_VALUE ? first : Math.min(CandleSeries.toEpochMillis(to), System.currentTimeMillis());
+		if (start >= end) {
+			return 0;
+		}
+
+		List<long[]> ranges = split(start, end, unitMs * PAGE * PAGES_PER_RANGE);
+		Path dir = checkpointRoot.resolve(market).resolve(unit + "m");
+		Files.createDirectories(dir);
+		deleteStaleCheckpoints(dir, ranges);
+		log.info("[{}] 과거 수집 시작 {}m, 하위 구간 {}개 (동시 {}개)", market, unit, ranges.size(), parallelism);
+
+		long started = System.nanoTime();
+		CandleSeries merged = new CandleSeries(market);
+		Semaphore slots = new Semaphore(parallelism);
+		try (ExecutorService ex = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<CandleSeries>> parts = new ArrayList<>(ranges.size());
+			for (long[] r : ranges) {
+				parts.add(ex.submit(() -> {
+					slots.acquire();
+					try {
+						return fetchRange(market, unit, r[0], r[1], dir);
+					} finally {
+						slots.release();
+					}
+				}));
+			}
+
+			// 하위 구간은 서로 겹치지 않고 시간순 → 순서대로 이어 붙이며 경계 중복만 제거
+			long last = Long.MIN_VALUE;
+			for (Future<CandleSeries> f : parts) {
+				CandleSeries part = f.get();
+				for (int i = 0; i < part.size(); i++) {
+					if (part.time(i) > last) {
+						merged.append(part, i);
+						last = part.time(i);
+					}
+				}
+			}
+		} catch (ExecutionException e) {
+			throw new IOException("과거 수집 실패 (완료된 하위 구간은 체크포인트로 보존)", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("과거 수집 중단 (완료된 하위 구간은 체크포인트로 보존)", e);
+		}
+
+		int added = warehouse.importHistory(market, unit, merged);
+		for (long[] r : ranges) {
+			Files.deleteIfExists(checkpoint(dir, r[0], r[1]));
+		}
+		log.info("[{}] 과거 수집 완료 +{} ({} ms)", market, added, (System.nanoTime() - started) / 1_000_000);
+		return added;
+	}
+
+	/* ---------------- 내부 ---------------- */
+
+	/**
+	 * [start, end) 한 구간을 end 에서부터 과거 방향으로 페이징. 완료되면 체크포인트 파일로 남긴다.
+	 */
+	private CandleSeries fetchRange(String market, int unit, long start, long end, Path dir) throws IOException {
+		Path cp = checkpoint(dir, start, end);
+		if (Files.exists(cp)) {
+			return BinaryCandleFile.read(cp);                 // 이전 실행에서 완료된 구간
+		}
+
+		long unitMs = unit * 60_000L;
+		TreeMap<Long, MarketData> acc = new TreeMap<>();
+		long cursor = end;
+		while (cursor > start) {
+			int count = (int) Math.min(PAGE, Math.max(1, (cursor - start + unitMs - 1) / unitMs));
+			List<MarketData> page = api.getMarketData(
+				market, unit, count, CandleWarehouse.cursorParam(cursor), RequestPriority.BACKFILL);
+			if (page.isEmpty()) {
+				break;                                        // 상장 이전
+			}
+
+			long oldest = Long.MAX_VALUE;
+			for (MarketData m : page) {
+				long t = CandleSeries.toEpochMillis(m.getTimestamp());
+				oldest = Math.min(oldest, t);
+				if (t >= start && t < end) {
+					acc.putIfAbsent(t, m);
+				}
+			}
+			if (oldest >= cursor) {
+				throw new IOException("to 커서가 과거로 이동하지 않음: " + market + " cursor=" + cursor);
+			}
+			cursor = oldest;
+		}
+
+		CandleSeries series = new CandleSeries(market, acc.size());
+		acc.values().forEach(series::append);
+
+		Path tmp = cp.resolveSibling(cp.getFileName() + ".tmp");
+		BinaryCandleFile.write(series, unit, tmp);
+		Files.move(tmp, cp, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return series;
+	}
+
+	/**
+	 * [start, end) 를 절대 시각 기준 span 칸([k·span, (k+1)·span))으로 자른다. 양 끝 칸만 잘린 구간이 된다
+	 */
+	private static List<long[]> split(long start, long end, long span) {
+		List<long[]> ranges = new ArrayList<>();
+		for (long b = Math.floorDiv(start, span) * span; b < end; b += span) {
+			ranges.add(new long[]{Math.max(start, b), Math.min(end, b + span)});
+		}
+		return ranges;
+	}
+
+	/**
+	 * 이번 구간 목록에 없는 체크포인트(이전 실행의 잘린 끝 칸, 쓰다 만 .tmp)는 다시 쓰일 일이 없으므로 지운다
+	 */
+	private static void deleteStaleCheckpoints(Path dir, List<long[]> ranges) throws IOException {
+		Set<Path> keep = new HashSet<>();
+		for (long[] r : ranges) {
+			keep.add(checkpoint(dir, r[0], r[1]));
+		}
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path p : files.filter(p -> !keep.contains(p)).toList()) {
+				log.debug("오래된 체크포인트 삭제: {}", p.getFileName());
+				Files.deleteIfExists(p);
+			}
+		}
+	}
+
+	private static Path checkpoint(Path dir, long start, long end) {
+		return dir.resolve(start + "-" + end + BinaryCandleFile.EXTENSION);
+	}
+}
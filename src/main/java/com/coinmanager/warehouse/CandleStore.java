@@ -0,0 +1,222 @@
+package com.coinmanager.warehouse;
+
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.domain.candle.CandleSeries;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * (market, unit) 하나의 캔들 저장소.
+ * 시간 오름차순 .bin 세그먼트들의 모음이며, 세그먼트는 시작 시각으로 정렬된 TreeMap(시간 인덱스)으로 찾는다.
+ * 새 캔들은 마지막 세그먼트 끝에 이어 쓰고, 과거 캔들은 가장 앞에 새 세그먼트로 추가한다 (기존 파일은 고치지 않음).
+ * 스레드 안전하지 않음 – CandleWarehouse 가 저장소 단위로 잠근다.
+ */
+class CandleStore {
+
+	static final int SEGMENT_CAPACITY = 50_000;     // 1분봉 약 35일, 파일 약 2.4MB
+
+	private static final String PREFIX = "seg-";
+
+	private final String market;
+	private final int unit;
+	private final Path dir;
+	private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+	private long size;
+
+	CandleStore(Path root, String market, int unit) throws IOException {
+		this.market = market;
+		this.unit = unit;
+		this.dir = root.resolve(market).resolve(unit + "m");
+		Files.createDirectories(dir);
+
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path p : files.filter(CandleStore::isSegment).toList()) {
+				long count = BinaryCandleFile.readHeader(p).count();
+				if (count == 0) {
+					continue;
+				}
+				Segment s = new Segment(p, BinaryCandleFile.timeAt(p, 0), BinaryCandleFile.timeAt(p, count - 1), count);
+				segments.put(s.first, s);
+				size += count;
+			}
+		}
+	}
+
+	String market() {
+		return market;
+	}
+
+	int unit() {
+		return unit;
+	}
+
+	long size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 가장 오래된 캔들 시각 (비었으면 Long.MAX_VALUE)
+	 */
+	long firstTime() {
+		return segments.isEmpty() ? Long.MAX_VALUE : segments.firstEntry().getValue().first;
+	}
+
+	/**
+	 * 가장 최근 캔들 시각 (비었으면 Long.MIN_VALUE)
+	 */
+	long lastTime() {
+		return segments.isEmpty() ? Long.MIN_VALUE : segments.lastEntry().getValue().last;
+	}
+
+	/* ---------------- 쓰기 ---------------- */
+
+	/**
+	 * lastTime 이후의 캔들을 뒤에 덧붙인다 (오름차순, 중복 없음이 전제)
+	 */
+	void append(CandleSeries fresh) throws IOException {
+		if (fresh.isEmpty()) {
+			return;
+		}
+		if (fresh.time(0) <= lastTime()) {
+			throw new IllegalArgumentException("이미 저장된 구간과 겹침: " + fresh.time(0) + " <= " + lastTime());
+		}
+
+		int i = 0;
+		while (i < fresh.size()) {
+			Segment tail = segments.isEmpty() ? null : segments.lastEntry().getValue();
+			if (tail == null || tail.count >= SEGMENT_CAPACITY) {
+				int n = Math.min(SEGMENT_CAPACITY, fresh.size() - i);
+				writeSegment(fresh, i, i + n);
+				i += n;
+			} else {
+				int n = (int) Math.min(SEGMENT_CAPACITY - tail.count, fresh.size() - i);
+				tail.count = BinaryCandleFile.append(tail.path, fresh, i, i + n);
+				tail.last = fresh.time(i + n - 1);
+				size += n;
+				i += n;
+			}
+		}
+	}
+
+	/**
+	 * firstTime 이전의 과거 캔들을 앞쪽 세그먼트로 추가 (오름차순, 중복 없음이 전제)
+	 */
+	void prepend(CandleSeries older) throws IOException {
+		if (older.isEmpty()) {
+			return;
+		}
+		if (older.time(older.size() - 1) >= firstTime()) {
+			throw new IllegalArgumentException("이미 저장된 구간과 겹침: " + older.time(older.size() - 1) + " >= " + firstTime());
+		}
+		for (int i = 0; i < older.size(); i += SEGMENT_CAPACITY) {
+			writeSegment(older, i, Math.min(older.size(), i + SEGMENT_CAPACITY));
+		}
+	}
+
+	/* ---------------- 읽기 ---------------- */
+
+	/**
+	 * fromInclusive ≤ t ≤ toInclusive 인 캔들 (오름차순)
+	 */
+	CandleSeries read(long fromInclusive, long toInclusive) throws IOException {
+		CandleSeries out = new CandleSeries(market);
+		if (fromInclusive > toInclusive || segments.isEmpty()) {
+			return out;
+		}
+		Long start = segments.floorKey(fromInclusive);
+		for (Segment s : segments.subMap(start == null ? Long.MIN_VALUE : start, true, toInclusive, true).values()) {
+			if (s.last < fromInclusive) {
+				continue;
+			}
+			long lo = s.first >= fromInclusive ? 0 : BinaryCandleFile.lowerBound(s.path, fromInclusive);
+			long hi = s.last <= toInclusive ? s.count : upperBound(s, toInclusive);
+			copy(BinaryCandleFile.read(s.path, lo, hi - lo), out);
+		}
+		return out;
+	}
+
+	/**
+	 * 가장 최근 n 개 (오름차순)
+	 */
+	CandleSeries latest(int n) throws IOException {
+		List<Segment> needed = new ArrayList<>();
+		long remaining = n;
+		for (Segment s : segments.descendingMap().values()) {
+			if (remaining <= 0) {
+				break;
+			}
+			needed.add(s);
+			remaining -= s.count;
+		}
+
+		CandleSeries out = new CandleSeries(market, n);
+		for (int k = needed.size() - 1; k >= 0; k--) {
+			Segment s = needed.get(k);
+			long skip = k == needed.size() - 1 ? Math.max(0, -remaining) : 0;    // 가장 오래된 세그먼트는 앞부분을 건너뜀
+			copy(BinaryCandleFile.read(s.path, skip, s.count - skip), out);
+		}
+		return out;
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private void writeSegment(CandleSeries src, int from, int to) throws IOException {
+		CandleSeries part = new CandleSeries(market, to - from);
+		for (int i = from; i < to; i++) {
+			part.append(src, i);
+		}
+		Path path = dir.resolve(PREFIX + part.time(0) + BinaryCandleFile.EXTENSION);
+		BinaryCandleFile.write(part, unit, path);
+
+		Segment s = new Segment(path, part.time(0), part.time(part.size() - 1), part.size());
+		segments.put(s.first, s);
+		size += s.count;
+	}
+
+	private long upperBound(Segment s, long toInclusive) throws IOException {
+		return toInclusive == Long.MAX_VALUE ? s.count : BinaryCandleFile.lowerBound(s.path, toInclusive + 1);
+	}
+
+	private static void copy(CandleSeries src, CandleSeries dst) {
+		for (int i = 0; i < src.size(); i++) {
+			dst.append(src, i);
+		}
+	}
+
+	private static boolean isSegment(Path p) {
+		String name = p.getFileName().toString();
+		return name.startsWith(PREFIX) && name.endsWith(BinaryCandleFile.EXTENSION);
+	}
+
+	/**
+	 * 세그먼트 파일 하나 – 마지막 세그먼트만 count/last 가 늘어난다
+	 */
+	private static final class Segment {
+
+		private final Path path;
+		private final long first;
+		private long last;
+		private long count;
+
+		private Segment(Path path, long first, long last, long count) {
+			this.path = path;
+			this.first = first;
+			this.last = last;
+			this.count = count;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return market + "/" + unit + "m(" + size + " candles, " + segments.size() + " segments)";
+	}
+}
@@ -0,0 +1,245 @@
+package com.coinmanager.warehouse;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.service.UpbitApiClient;
+import com.coinmanager.service.ratelimit.RequestPriority;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 캔들 창고. (market, unit) 별 append-only 세그먼트에 마감된 캔들을 쌓아 두고
+ * Upbit 에서는 아직 없는 구간(최근 꼬리, 부족한 과거)만 받아온다.
+ * 내보내기·백테스트·실거래 워밍업이 모두 여기서 구간을 읽는다.
+ */
+@Slf4j
+@Component
+public class CandleWarehouse {
+
+	private static final int PAGE = 200;            // Upbit 캔들 API 1회 최대 개수
+
+	private final UpbitApiClient api;
+	private final Path root;
+	private final Map<String, CandleStore> stores = new ConcurrentHashMap<>();
+
+	public CandleWarehouse(UpbitApiClient api, @Value("${warehouse.dir:data/warehouse}") String root) {
+		this.api = api;
+		this.root = Path.of(root);
+	}
+
+	/* ---------------- 동기화 ---------------- */
+
+	/**
+	 * 마지막 저장 시각 이후 마감된 캔들만 받아 덧붙인다. 저장소가 비어 있으면 최근 1페이지로 시작한다.
+	 *
+	 * @return 새로 저장된 캔들 수
+	 */
+	public int sync(String market, int unit) throws IOException {
+		return sync(market, unit, RequestPriority.MARKET_DATA);
+	}
+
+	public int sync(String market, int unit, RequestPriority priority) throws IOException {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			long unitMs = unit * 60_000L;
+			long now = System.currentTimeMillis();
+			long last = store.lastTime();
+
+			TreeMap<Long, MarketData> fresh = new TreeMap<>();
+			long cursor = Long.MAX_VALUE;
+			String to = null;
+			while (true) {
+				int count = store.isEmpty() ? PAGE : (int) Math.min(PAGE, (now - last) / unitMs + 2);
+				List<MarketData> page = api.getMarketData(market, unit, count, to, priority);
+				if (page.isEmpty()) {
+					break;
+				}
+
+				long oldest = Long.MAX_VALUE;
+				for (MarketData m : page) {
+					long t = CandleSeries.toEpochMillis(m.getTimestamp());
+					oldest = Math.min(oldest, t);
+					if (t > last && t + unitMs <= now) {          // 진행 중인 캔들 제외, 타임스탬프로 중복 제거
+						fresh.putIfAbsent(t, m);
+					}
+				}
+
+				if (store.isEmpty() || oldest <= last || page.size() < count) {
+					break;                                       // 저장된 구간에 닿음
+				}
+				if (oldest >= cursor) {
+					log.warn("[{}] to 커서가 과거로 이동하지 않음 → 꼬리 동기화 중단 (cursor={})", market, cursor);
+					break;
+				}
+				cursor = oldest;
+				to = cursorParam(cursor);
+			}
+
+			store.append(toSeries(market, fresh));
+			if (!fresh.isEmpty()) {
+				log.debug("[{}] 꼬리 동기화 +{} → {}", market, fresh.size(), store);
+			}
+			return fresh.size();
+		}
+	}
+
+	/**
+	 * 최신 꼬리를 맞춘 뒤, 저장된 캔들이 count 개보다 적으면 부족한 과거를 받아 앞쪽에 채운다
+	 *
+	 * @return 저장소의 전체 캔들 수
+	 */
+	public long ensure(String market, int unit, int count) throws IOException {
+		sync(market, unit, RequestPriority.BACKFILL);
+
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			if (store.isEmpty() || store.size() >= count) {
+				return store.size();
+			}
+
+			TreeMap<Long, MarketData> older = new TreeMap<>();
+			long first = store.firstTime();
+			long cursor = first;
+			while (store.size() + older.size() < count) {
+				int n = (int) Math.min(PAGE, count - store.size() - older.size());
+				List<MarketData> page = api.getMarketData(market, unit, n, cursorParam(cursor), RequestPriority.BACKFILL);
+				if (page.isEmpty()) {
+					break;                                       // 상장 이전
+				}
+
+				long oldest = Long.MAX_VALUE;
+				for (MarketData m : page) {
+					long t = CandleSeries.toEpochMillis(m.getTimestamp());
+					oldest = Math.min(oldest, t);
+					if (t < first) {
+						older.putIfAbsent(t, m);
+					}
+				}
+				if (oldest >= cursor) {
+					log.warn("[{}] to 커서가 과거로 이동하지 않음 → 과거 보충 중단 (cursor={})", market, cursor);
+					break;
+				}
+				cursor = oldest;
+			}
+
+			store.prepend(toSeries(market, older));
+			log.info("[{}] 과거 보충 +{} → {}", market, older.size(), store);
+			return store.size();
+		}
+	}
+
+	/**
+	 * 저장된 가장 오래된 캔들보다 과거인 캔들만 골라 앞쪽에 추가 (CandleBackfillService 결과 반영)
+	 *
+	 * @return 실제로 추가된 수
+	 */
+	public int importHistory(String market, int unit, CandleSeries older) throws IOException {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			long first = store.firstTime();
+			long last = Long.MIN_VALUE;
+			CandleSeries part = new CandleSeries(market, older.size());
+			for (int i = 0; i < older.size(); i++) {
+				long t = older.time(i);
+				if (t < first && t > last) {                      // 오름차순 + 타임스탬프 중복 제거
+					part.append(older, i);
+					last = t;
+				}
+			}
+			store.prepend(part);
+			return part.size();
+		}
+	}
+
+	/* ---------------- 읽기 ---------------- */
+
+	/**
+	 * fromInclusive ≤ t ≤ toInclusive 구간 (epoch millis, 오름차순)
+	 */
+	public CandleSeries read(String market, int unit, long fromInclusive, long toInclusive) throws IOException {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			return store.read(fromInclusive, toInclusive);
+		}
+	}
+
+	/**
+	 * afterExclusive 이후의 캔들 전부
+	 */
+	public CandleSeries since(String market, int unit, long afterExclusive) throws IOException {
+		return read(market, unit, afterExclusive + 1, Long.MAX_VALUE);
+	}
+
+	/**
+	 * 가장 최근 n 개
+	 */
+	public CandleSeries latest(String market, int unit, int n) throws IOException {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			return store.latest(n);
+		}
+	}
+
+	/**
+	 * 가장 오래된 캔들 시각 (비었으면 Long.MAX_VALUE)
+	 */
+	public long firstTime(String market, int unit) {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			return store.firstTime();
+		}
+	}
+
+	/**
+	 * 가장 최근 캔들 시각 (비었으면 Long.MIN_VALUE)
+	 */
+	public long lastTime(String market, int unit) {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			return store.lastTime();
+		}
+	}
+
+	public long size(String market, int unit) {
+		CandleStore store = store(market, unit);
+		synchronized (store) {
+			return store.size();
+		}
+	}
+
+	/* ---------------- 내부 ---------------- */
+	private CandleStore store(String market, int unit) {
+		return stores.computeIfAbsent(market + "/" + unit, k -> {
+			try {
+				return new CandleStore(root, market, unit);
+			} catch (IOException e) {
+				throw new UncheckedIOException("캔들 저장소 열기 실패: " + k, e);
+			}
+		});
+	}
+
+	private static CandleSeries toSeries(String market, TreeMap<Long, MarketData> candles) {
+		CandleSeries s = new CandleSeries(market, candles.size());
+		candles.values().forEach(s::append);
+		return s;
+	}
+
+	/**
+	 * Upbit to 파라미터 (해당 시각 이전 캔들, exclusive) – 오프셋을 붙인 ISO-8601
+	 */
+	static String cursorParam(long epochMillis) {
+		return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), CandleSeries.KST)
+			.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+	}
+}
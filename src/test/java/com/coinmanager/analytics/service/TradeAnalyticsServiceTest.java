@@ -0,0 +1,196 @@
+package com.coinmanager.analytics.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.coinmanager.analytics.dto.RebuildResult;
+import com.coinmanager.domain.dto.TradeRow;
+import com.coinmanager.domain.entity.DailyTradeStats;
+import com.coinmanager.domain.entity.OrderHistory;
+import com.coinmanager.domain.entity.PositionState;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.domain.repository.DailyTradeStatsRepository;
+import com.coinmanager.domain.repository.OrderHistoryRepository;
+import com.coinmanager.domain.repository.PositionStateRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 집계 재생성(rebuild) 결과가 배치마다 누적(record)한 결과와 같아야 한다 – 부분 매도, 보유분 초과 매도, side 없는 이전 기록 포함
+ */
+class TradeAnalyticsServiceTest {
+
+	private static final List<String> MARKETS = List.of("KRW-BTC", "KRW-ETH");
+
+	private final OrderHistoryRepository historyRepo = mock(OrderHistoryRepository.class);
+	private final DailyTradeStatsRepository statsRepo = mock(DailyTradeStatsRepository.class);
+	private final PositionStateRepository positionRepo = mock(PositionStateRepository.class);
+
+	// 저장소 대역 – saveAll 한 엔티티를 다음 조회에서 그대로 돌려준다
+	private final Map<String, PositionState> positions = new HashMap<>();
+	private final Map<String, DailyTradeStats> days = new HashMap<>();
+	private final List<OrderHistory> histories = new ArrayList<>();
+
+	private final TradeAnalyticsService service =
+		new TradeAnalyticsService(historyRepo, statsRepo, positionRepo, mock(PlatformTransactionManager.class));
+
+	@Test
+	void rebuildMatchesIncrementalRecord() {
+		stubRepositories();
+		List<OrderHistory> trades = trades(400, 7L);
+
+		Random rnd = new Random(3L);
+		for (int from = 0; from < trades.size(); ) {
+			int to = Math.min(trades.size(), from + 1 + rnd.nextInt(7));
+			service.record(trades.subList(from, to));
+			from = to;
+		}
+		Map<String, PositionState> recordedPositions = new HashMap<>(positions);
+		Map<String, DailyTradeStats> recordedDays = new HashMap<>(days);
+
+		RebuildResult result = service.rebuild();
+
+		assertEquals(trades.size(), result.rows());
+		assertEquals(trades.stream().filter(h -> h.getSide() == null).count(), result.skipped());
+		assertEquals(recordedDays.size(), result.days());
+		assertEquals(recordedPositions.keySet(), positions.keySet());
+		assertEquals(recordedDays.keySet(), days.keySet());
+
+		recordedPositions.forEach((market, expected) -> {
+			PositionState actual = positions.get(market);
+			assertAmount(expected.getQuantity(), actual.getQuantity(), market + " quantity");
+			assertAmount(expected.getCost(), actual.getCost(), market + " cost");
+		});
+		recordedDays.forEach((key, expected) -> {
+			DailyTradeStats actual = days.get(key);
+			assertEquals(expected.getBuyCount(), actual.getBuyCount(), key + " buyCount");
+			assertEquals(expected.getSellCount(), actual.getSellCount(), key + " sellCount");
+			assertEquals(expected.getWins(), actual.getWins(), key + " wins");
+			assertEquals(expected.getLosses(), actual.getLosses(), key + " losses");
+			assertAmount(expected.getBuyVolume(), actual.getBuyVolume(), key + " buyVolume");
+			assertAmount(expected.getSellVolume(), actual.getSellVolume(), key + " sellVolume");
+			assertAmount(expected.getBuyNotional(), actual.getBuyNotional(), key + " buyNotional");
+			assertAmount(expected.getSellNotional(), actual.getSellNotional(), key + " sellNotional");
+			assertAmount(expected.getFees(), actual.getFees(), key + " fees");
+			assertAmount(expected.getRealizedPnl(), actual.getRealizedPnl(), key + " realizedPnl");
+		});
+
+		// 데이터가 손익·승패를 실제로 만들어냈는지 (빈 집계끼리 같은 것이 아닌지)
+		assertTrue(recordedDays.values().stream().anyMatch(d -> d.getWins() > 0));
+		assertTrue(recordedDays.values().stream().anyMatch(d -> d.getLosses() > 0));
+	}
+
+	/* ---------------- 준비 ---------------- */
+
+	private void stubRepositories() {
+		doAnswer(inv -> {
+			inv.<Iterable<OrderHistory>>getArgument(0).forEach(histories::add);
+			return null;
+		}).when(historyRepo).saveAll(anyIterable());
+		when(historyRepo.streamAll()).thenAnswer(inv -> histories.stream().map(TradeRow::of));
+
+		when(positionRepo.findById(anyString()))
+			.thenAnswer(inv -> Optional.ofNullable(positions.get(inv.<String>getArgument(0))));
+		doAnswer(inv -> {
+			inv.<Iterable<PositionState>>getArgument(0).forEach(p -> positions.put(p.getMarket(), p));
+			return null;
+		}).when(positionRepo).saveAll(anyIterable());
+		doAnswer(inv -> {
+			positions.clear();
+			return null;
+		}).when(positionRepo).deleteAllInBatch();
+
+		when(statsRepo.findByMarketAndTradeDate(anyString(), any()))
+			.thenAnswer(inv -> Optional.ofNullable(days.get(key(inv.getArgument(0), inv.getArgument(1)))));
+		doAnswer(inv -> {
+			inv.<Iterable<DailyTradeStats>>getArgument(0).forEach(d -> days.put(key(d.getMarket(), d.getTradeDate()), d));
+			return null;
+		}).when(statsRepo).saveAll(anyIterable());
+		doAnswer(inv -> {
+			days.clear();
+			return null;
+		}).when(statsRepo).deleteAllInBatch();
+	}
+
+	/**
+	 * 마켓 2개 × 며칠에 걸친 매수/매도. 매도는 보유분 일부·전부·초과가 섞이고, 가끔 side 가 없는 이전 기록이 끼어 있다
+	 */
+	private static List<OrderHistory> trades(int n, long seed) {
+		Random rnd = new Random(seed);
+		Map<String, BigDecimal> held = new HashMap<>();
+		List<OrderHistory> out = new ArrayList<>(n);
+		LocalDateTime t = LocalDateTime.of(2024, 3, 1, 0, 0);
+		double price = 90_000_000;
+		for (int i = 0; i < n; i++) {
+			t = t.plusMinutes(1 + rnd.nextInt(40));
+			price *= 1 + rnd.nextGaussian() * 0.01;
+			String market = MARKETS.get(rnd.nextInt(MARKETS.size()));
+			BigDecimal holding = held.getOrDefault(market, BigDecimal.ZERO);
+
+			OrderSide side;
+			BigDecimal volume;
+			if (rnd.nextInt(20) == 0) {
+				side = null;
+				volume = bd(0.001);
+			} else if (holding.signum() == 0 || rnd.nextBoolean()) {
+				side = OrderSide.BID;
+				volume = bd(0.0005 + rnd.nextDouble() * 0.002);
+			} else {
+				side = OrderSide.ASK;
+				volume = switch (rnd.nextInt(3)) {
+					case 0 -> holding.divide(BigDecimal.valueOf(3), 8, RoundingMode.DOWN);
+					case 1 -> holding;
+					default -> holding.add(bd(0.0003));          // 기록 이전 보유분까지 판다
+				};
+			}
+			if (side == OrderSide.BID) {
+				held.put(market, holding.add(volume));
+			} else if (side == OrderSide.ASK) {
+				held.put(market, holding.subtract(volume).max(BigDecimal.ZERO));
+			}
+
+			BigDecimal px = BigDecimal.valueOf(Math.round(price));
+			out.add(OrderHistory.builder()
+				.uuid("u" + i)
+				.market(market)
+				.side(side)
+				.price(px)
+				.volume(volume)
+				.fee(px.multiply(volume).multiply(new BigDecimal("0.0005")).setScale(8, RoundingMode.HALF_UP))
+				.orderType(side == OrderSide.ASK ? OrderType.MARKET : OrderType.PRICE)
+				.strategy("multi-factor")
+				.executedAt(t)
+				.build());
+		}
+		return out;
+	}
+
+	private static String key(String market, LocalDate date) {
+		return market + "@" + date;
+	}
+
+	private static void assertAmount(BigDecimal expected, BigDecimal actual, String what) {
+		assertEquals(0, expected.compareTo(actual), () -> what + ": expected " + expected + " but was " + actual);
+	}
+
+	private static BigDecimal bd(double v) {
+		return BigDecimal.valueOf(v).setScale(8, RoundingMode.HALF_UP);
+	}
+}
@@ -0,0 +1,69 @@
+package com.coinmanager.domain.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 평균단가법 실현손익 – 부분 매도, 보유분 초과 매도, 수수료 안분, 반올림 누적
+ */
+class PositionStateTest {
+
+	private final PositionState position = new PositionState("KRW-BTC");
+
+	@Test
+	void partialSellsRealizeAgainstAverageCostIncludingFees() {
+		position.buy(bd("1"), bd("100"), bd("1"));
+		position.buy(bd("1"), bd("200"), bd("1"));         // 평균 151 (수수료 포함)
+
+		assertAmount("74", position.sell(bd("0.5"), bd("150"), bd("0.5")));   // 149.5 - 75.5
+		assertAmount("1.5", position.getQuantity());
+		assertAmount("226.5", position.getCost());
+
+		assertAmount("222", position.sell(bd("1.5"), bd("450"), bd("1.5")));  // 448.5 - 226.5
+		assertAmount("0", position.getQuantity());
+		assertAmount("0", position.getCost());
+	}
+
+	@Test
+	void oversellOnlyRealizesHeldQuantityWithProratedFee() {
+		position.buy(bd("1"), bd("100"), bd("1"));
+
+		// 2개 중 1개만 원가를 안다 → 매도 대금과 수수료도 절반만 반영: (400 - 4) × 0.5 - 101
+		assertAmount("97", position.sell(bd("2"), bd("400"), bd("4")));
+		assertAmount("0", position.getQuantity());
+		assertAmount("0", position.getCost());
+	}
+
+	@Test
+	void sellWithoutPositionRealizesNothing() {
+		assertAmount("0", position.sell(bd("1"), bd("100"), bd("1")));
+
+		position.buy(bd("1"), bd("100"), bd("0"));
+		assertAmount("0", position.sell(bd("0"), bd("0"), bd("0")));
+		assertAmount("1", position.getQuantity());
+	}
+
+	@Test
+	void roundingDoesNotLeakAcrossSells() {
+		position.buy(bd("3"), bd("100"), bd("0"));
+
+		BigDecimal first = position.sell(bd("1"), bd("40"), bd("0"));
+		assertAmount("6.66666667", first);                 // 40 - 33.33333333
+		assertAmount("66.66666667", position.getCost());
+
+		// 마지막 매도는 남은 원가를 그대로 가져가므로 합계가 정확히 맞는다
+		BigDecimal second = position.sell(bd("2"), bd("80"), bd("0"));
+		assertAmount("20", first.add(second));
+		assertAmount("0", position.getCost());
+	}
+
+	private static void assertAmount(String expected, BigDecimal actual) {
+		assertEquals(0, bd(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+	}
+
+	private static BigDecimal bd(String v) {
+		return new BigDecimal(v);
+	}
+}
@@ -0,0 +1,51 @@
+package com.coinmanager.feed;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 체결 → 1분봉 – sequential_id 는 유일하지만 순서가 없으므로, 중복만 거르고 순서가 뒤바뀐 체결은 반영한다
+ */
+class LiveCandleBuilderTest {
+
+	private static final String MARKET = "KRW-BTC";
+	private static final long MINUTE = 60_000L;
+	private static final long BASE = CandleSeries.toEpochMillis(LocalDateTime.of(2024, 1, 1, 9, 0));
+
+	private final List<double[]> closed = new ArrayList<>();
+	private final LiveCandleBuilder builder = new LiveCandleBuilder(MARKET, MINUTE, 0,
+		List.of((market, interval, t, o, h, l, c, v) -> closed.add(new double[]{t, o, h, l, c, v})));
+
+	@Test
+	void outOfOrderIdsAreCountedAndDuplicatesDropped() {
+		builder.onTrade(tick(10_000, 100, 1, 5));
+		builder.onTrade(tick(30_000, 110, 1, 3));      // 더 작은 id, 더 늦은 체결
+		builder.onTrade(tick(20_000, 90, 2, 4));       // 늦게 도착한 이전 체결
+		builder.onTrade(tick(30_000, 110, 1, 3));      // 재연결 후 중복 수신
+		builder.onTrade(tick(MINUTE + 1_000, 120, 1, 7));
+
+		assertEquals(1, closed.size());
+		assertArrayEquals(new double[]{BASE, 100, 110, 90, 110, 4}, closed.getFirst());
+	}
+
+	@Test
+	void lateTradeForClosedMinuteIsIgnored() {
+		builder.onTrade(tick(10_000, 100, 1, 1));
+		builder.onTrade(tick(MINUTE + 5_000, 101, 1, 2));
+		builder.onTrade(tick(50_000, 99, 1, 3));        // 이미 마감된 구간
+		builder.closeIfDue(BASE + 2 * MINUTE);
+
+		assertEquals(2, closed.size());
+		assertArrayEquals(new double[]{BASE + MINUTE, 101, 101, 101, 101, 1}, closed.get(1));
+	}
+
+	private static TradeTick tick(long offset, double price, double volume, long id) {
+		return new TradeTick(MARKET, BASE + offset, price, volume, id);
+	}
+}
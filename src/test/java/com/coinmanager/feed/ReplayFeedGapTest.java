@@ -0,0 +1,196 @@
+package com.coinmanager.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.coinmanager.backtest.io.BinaryCandleFile;
+import com.coinmanager.backtest.io.CandleFileLoader;
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.domain.dto.OrderRequest;
+import com.coinmanager.feed.replay.ReplayTradeHandler;
+import com.coinmanager.journal.EventJournal;
+import com.coinmanager.metrics.TradingMetrics;
+import com.coinmanager.service.AccountService;
+import com.coinmanager.service.AutoTradingService;
+import com.coinmanager.service.OrderHistoryWriter;
+import com.coinmanager.service.UpbitApiClient;
+import com.coinmanager.strategy.MarketContext;
+import com.coinmanager.strategy.SignalEvaluator;
+import com.coinmanager.strategy.StrategyRegistry;
+import com.coinmanager.strategy.StrategySlot;
+import com.coinmanager.strategy.TradingStrategy;
+import com.coinmanager.warehouse.CandleWarehouse;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 재생 서버(ReplayTradeHandler) → 체결 파서 → 1분봉 집계 → AutoTradingService 실시간 경로.
+ * 기동 직후 첫 봉과 WebSocket 이 끊겼다 돌아온 뒤의 첫 봉은 창고 동기화로 이미 반영되므로,
+ * 그때도 판단이 한 번 일어나는지(신호 유실 없음) 확인한다.
+ */
+class ReplayFeedGapTest {
+
+	private static final String MARKET = "KRW-BTC";
+	private static final int CANDLES = 12;
+	private static final int GAP_FROM = 4;           // 이 구간 체결은 전달하지 않는다 (끊김)
+	private static final int GAP_TO = 6;
+	private static final long MINUTE = UpbitWebSocketFeed.MINUTE;
+	private static final long TIMEOUT_MS = 10_000;
+
+	@TempDir
+	Path dir;
+
+	private AutoTradingService service;
+
+	@AfterEach
+	void tearDown() {
+		if (service != null) {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	void evaluatesFirstCandleAfterStartupAndAfterGap() throws Exception {
+		CandleSeries source = candles();
+		Path file = dir.resolve("replay" + BinaryCandleFile.EXTENSION);
+		BinaryCandleFile.write(source, 1, file);
+
+		// 재생 서버가 보내는 시각 = 원본 + shift (첫 체결에서 알아낸다)
+		AtomicLong shift = new AtomicLong(Long.MIN_VALUE);
+		AtomicLong lastClosed = new AtomicLong(Long.MIN_VALUE);
+		List<Long> closed = Collections.synchronizedList(new ArrayList<>());
+		List<Long> evaluated = Collections.synchronizedList(new ArrayList<>());
+
+		// 거래소 쪽 캔들 – 실시간 피드가 마감한 시각까지는 창고 동기화로 받을 수 있다 (끊긴 구간 포함)
+		CandleWarehouse warehouse = mock(CandleWarehouse.class);
+		when(warehouse.latest(anyString(), anyInt(), anyInt()))
+			.thenAnswer(inv -> exchange(source, shift.get(), Long.MIN_VALUE, lastClosed.get()));
+		when(warehouse.since(anyString(), anyInt(), anyLong()))
+			.thenAnswer(inv -> exchange(source, shift.get(), inv.getArgument(2), lastClosed.get()));
+
+		service = service(warehouse, recorder(evaluated));
+
+		MarketFeedListener probe = (market, interval, t, o, h, l, c, v) -> {
+			lastClosed.set(t);
+			closed.add(t);
+		};
+		LiveCandleBuilder builder = new LiveCandleBuilder(MARKET, MINUTE, 0, List.of(probe, service));
+		UpbitTradeParser parser = new UpbitTradeParser();
+
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn("replay-test");
+		when(session.isOpen()).thenReturn(true);
+		doAnswer(inv -> {
+			byte[] json = ((BinaryMessage) inv.getArgument(0)).getPayload().array();
+			TradeTick tick = parser.parse(json, 0, json.length);
+			shift.compareAndSet(Long.MIN_VALUE, tick.epochMillis() - source.time(0));
+			int index = (int) ((tick.epochMillis() - shift.get() - source.time(0)) / MINUTE);
+			if (index < GAP_FROM || index > GAP_TO) {
+				builder.onTrade(tick);
+			}
+			return null;
+		}).when(session).sendMessage(any());
+
+		ReplayTradeHandler replay = new ReplayTradeHandler(new CandleFileLoader(), file.toString(), 600);
+		replay.handleMessage(session, new TextMessage("[{\"ticket\":\"test\"},{\"type\":\"trade\",\"codes\":[\"KRW-BTC\"]}]"));
+
+		// 마지막 봉은 다음 체결이 없어 마감되지 않는다
+		int expectedClosed = CANDLES - 1 - (GAP_TO - GAP_FROM + 1);
+		await(() -> closed.size() == expectedClosed);
+		await(() -> evaluated.size() >= expectedClosed);
+
+		long base = source.time(0) + shift.get();
+		assertEquals(base, closed.getFirst(), "첫 마감 봉");
+		assertEquals(base + (GAP_TO + 1) * MINUTE, closed.get(GAP_FROM), "끊김 이후 첫 마감 봉");
+		assertEquals(closed, evaluated, "마감된 봉마다 정확히 한 번 판단");
+	}
+
+	/* ---------------- 준비 ---------------- */
+
+	private AutoTradingService service(CandleWarehouse warehouse, TradingStrategy strategy) {
+		StrategyRegistry registry = mock(StrategyRegistry.class);
+		when(registry.slotsFor(MARKET)).thenReturn(List.of(new StrategySlot("recorder", strategy, 1.0, List.of())));
+
+		AutoTradingService s = new AutoTradingService(registry, mock(UpbitApiClient.class), mock(AccountService.class),
+			warehouse, mock(OrderHistoryWriter.class), EventJournal.disabled(), mock(TradingMetrics.class));
+		ReflectionTestUtils.setField(s, "markets", List.of(MARKET));
+		ReflectionTestUtils.setField(s, "feed", "websocket");
+		return s;
+	}
+
+	/**
+	 * 판단할 때마다 컨텍스트의 마지막 캔들 시각을 남기고 신호는 내지 않는 전략
+	 */
+	private static TradingStrategy recorder(List<Long> evaluated) {
+		return new TradingStrategy() {
+			@Override
+			public Optional<OrderRequest> generateSignal(List<MarketData> marketData) {
+				return Optional.empty();
+			}
+
+			@Override
+			public SignalEvaluator bind(MarketContext context) {
+				return () -> {
+					evaluated.add(context.lastTime());
+					return Optional.empty();
+				};
+			}
+		};
+	}
+
+	private static CandleSeries candles() {
+		CandleSeries series = new CandleSeries(MARKET, CANDLES);
+		long start = CandleSeries.toEpochMillis(LocalDateTime.of(2024, 1, 1, 9, 0));
+		double price = 50_000_000;
+		for (int i = 0; i < CANDLES; i++) {
+			double next = price * (1 + (i % 3 - 1) * 0.001);
+			series.append(start + i * MINUTE, price, Math.max(price, next) + 1_000, Math.min(price, next) - 1_000, next, 1.5);
+			price = next;
+		}
+		return series;
+	}
+
+	/**
+	 * 재생 시각으로 옮긴 원본 중 (after, upTo] 구간
+	 */
+	private static CandleSeries exchange(CandleSeries source, long shift, long after, long upTo) {
+		CandleSeries out = new CandleSeries(MARKET);
+		for (int i = 0; i < source.size(); i++) {
+			long t = source.time(i) + shift;
+			if (t > after && t <= upTo) {
+				out.append(t, source.open(i), source.high(i), source.low(i), source.close(i), source.volume(i));
+			}
+		}
+		return out;
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new AssertionError("제한시간 안에 조건을 만족하지 못함");
+			}
+			Thread.sleep(20);
+		}
+	}
+}
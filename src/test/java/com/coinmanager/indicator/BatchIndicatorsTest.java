@@ -0,0 +1,145 @@
+package com.coinmanager.indicator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.coinmanager.domain.candle.CandleSeries;
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.util.TechIndicatorUtil;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BatchIndicators 결과를 기존 BigDecimal 구현(TechIndicatorUtil)과 위치별로 대조한다.
+ * 가격은 원화 BTC 수준(수천만 원)으로 두어 누적합 정밀도 문제를 드러나게 한다.
+ */
+class BatchIndicatorsTest {
+
+	private static final int N = 3_000;
+	private static final int STEP = 97;
+
+	private final List<MarketData> candles = candles(N, 7L);
+	private final CandleSeries series = CandleSeries.of(candles);
+	private final double[] close = series.closeColumn();
+
+	@Test
+	void smaMatchesBigDecimal() {
+		for (int period : new int[]{9, 26}) {
+			double[] batch = BatchIndicators.sma(close, N, period);
+			assertTrue(Double.isNaN(batch[period - 2]));
+			for (int i = period - 1; i < N; i += STEP) {
+				assertClose(TechIndicatorUtil.sma(window(i), period).doubleValue(), batch[i], 1e-8, "SMA@" + i);
+			}
+		}
+	}
+
+	@Test
+	void rsiMatchesBigDecimal() {
+		double[] batch = BatchIndicators.rsi(close, N, 14);
+		assertTrue(Double.isNaN(batch[13]));
+		for (int i = 14; i < N; i += STEP) {
+			assertClose(TechIndicatorUtil.rsi(window(i), 14).doubleValue(), batch[i], 1e-6, "RSI@" + i);
+		}
+	}
+
+	@Test
+	void bollingerMatchesBigDecimal() {
+		BatchIndicators.Bands bands = BatchIndicators.bollinger(close, N, 20, 2);
+		for (int i = 19; i < N; i += STEP) {
+			BigDecimal[] expected = TechIndicatorUtil.bollinger(window(i), 20);
+			assertClose(expected[0].doubleValue(), bands.upper()[i], 1e-6, "BB upper@" + i);
+			assertClose(expected[1].doubleValue(), bands.lower()[i], 1e-6, "BB lower@" + i);
+		}
+	}
+
+	@Test
+	void volumeMultiplierMatchesBigDecimal() {
+		double[] batch = BatchIndicators.volumeMultiplier(series.volumeColumn(), N, 20);
+		for (int i = 19; i < N; i += STEP) {
+			assertClose(TechIndicatorUtil.volumeMultiplier(window(i), 20).doubleValue(), batch[i], 1e-4, "VOLX@" + i);
+		}
+	}
+
+	@Test
+	void momentumMatchesBigDecimal() {
+		double[] batch = BatchIndicators.momentum(close, N, 10);
+		assertTrue(Double.isNaN(batch[9]));
+		for (int i = 10; i < N; i += STEP) {
+			assertClose(TechIndicatorUtil.momentum(window(i), 10).doubleValue(), batch[i], 1e-8, "MOM@" + i);
+		}
+	}
+
+	@Test
+	void atrMatchesColumnar() {
+		// BigDecimal atr 는 현재 캔들 대신 list.get(1) 을 읽으므로 같은 정의의 컬럼 버전과 비교
+		double[] batch = BatchIndicators.atr(series.highColumn(), series.lowColumn(), close, N, 14);
+		for (int i = 14; i < N; i += STEP) {
+			assertClose(TechIndicatorUtil.atr(series, i, 14), batch[i], 1e-8, "ATR@" + i);
+		}
+	}
+
+	@Test
+	void emaSeedsWithSmaAndTracksConstantSeries() {
+		double[] batch = BatchIndicators.ema(close, N, 12);
+		assertClose(BatchIndicators.sma(close, N, 12)[11], batch[11], 1e-8, "EMA seed");
+
+		double[] flat = new double[50];
+		Arrays.fill(flat, 42.5);
+		assertEquals(42.5, BatchIndicators.ema(flat, flat.length, 12)[49], 1e-12);
+	}
+
+	@Test
+	void vectorKernelsAreBitIdenticalToScalar() {
+		assumeTrue(BatchIndicators.isVectorized(), "jdk.incubator.vector 없음");
+		double[] mean = BatchIndicators.sma(close, N, 20);
+		double[] scalar = new double[N];
+		double[] vector = new double[N];
+		ScalarKernels.stdDev(close, mean, 20, scalar, 19, N);
+		VectorKernels.stdDev(close, mean, 20, vector, 19, N);
+		assertArrayEquals(scalar, vector);
+
+		ScalarKernels.ratio(close, close, 10, Double.NaN, scalar, 10, N);
+		VectorKernels.ratio(close, close, 10, Double.NaN, vector, 10, N);
+		assertArrayEquals(scalar, vector);
+	}
+
+	private List<MarketData> window(int index) {
+		return candles.subList(0, index + 1);
+	}
+
+	private static void assertClose(double expected, double actual, double relTol, String what) {
+		double tol = relTol * Math.max(1, Math.abs(expected));
+		assertEquals(expected, actual, tol, what);
+	}
+
+	private static List<MarketData> candles(int n, long seed) {
+		Random rnd = new Random(seed);
+		List<MarketData> out = new ArrayList<>(n);
+		LocalDateTime t = LocalDateTime.of(2024, 1, 1, 0, 0);
+		double price = 55_000_000;
+		for (int i = 0; i < n; i++) {
+			double open = price;
+			price = Math.max(1_000_000, price * (1 + rnd.nextGaussian() * 0.002));
+			double high = Math.max(open, price) * (1 + rnd.nextDouble() * 0.001);
+			double low = Math.min(open, price) * (1 - rnd.nextDouble() * 0.001);
+			out.add(MarketData.builder()
+				.market("KRW-BTC")
+				.timestamp(t.plusMinutes(i))
+				.openPrice(BigDecimal.valueOf(Math.round(open)))
+				.highPrice(BigDecimal.valueOf(Math.round(high)))
+				.lowPrice(BigDecimal.valueOf(Math.round(low)))
+				.closePrice(BigDecimal.valueOf(Math.round(price)))
+				.volume(BigDecimal.valueOf(0.01 + rnd.nextDouble() * 3).setScale(8, RoundingMode.HALF_UP))
+				.build());
+		}
+		return out;
+	}
+}
@@ -0,0 +1,158 @@
+package com.coinmanager.indicator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.coinmanager.domain.dto.MarketData;
+import com.coinmanager.util.TechIndicatorUtil;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스트리밍 IndicatorEngine 을 기존 BigDecimal 구현(TechIndicatorUtil)과 봉마다 대조한다 (MultiFactorStrategy.bind 와 같은 지표 구성).
+ * RollingWindow 는 capacity × 64 번째 push 마다 누적합을 다시 계산하므로, 윈도우 크기별 그 경계 전후는 빠짐없이 확인한다.
+ */
+class IndicatorEngineTest {
+
+	private static final int N = 3_500;               // 가장 긴 윈도우(26) 의 재계산 경계를 두 번 넘긴다
+	private static final int STEP = 97;
+	private static final int RESYNC_ROUNDS = 64;
+
+	private static final int MA_SHORT = 9;
+	private static final int MA_LONG = 26;
+	private static final int RSI = 14;
+	private static final int BB = 20;
+	private static final int VOL = 20;
+	private static final int MOMENTUM = 10;
+
+	private final List<MarketData> candles = candles(N, 11L);
+
+	@Test
+	void matchesBigDecimalAtEveryCheckpoint() {
+		IndicatorEngine engine = new IndicatorEngine("KRW-BTC");
+		SmaIndicator maS = engine.sma(MA_SHORT);
+		SmaIndicator maL = engine.sma(MA_LONG);
+		RsiIndicator rsi = engine.rsi(RSI);
+		BollingerIndicator bb = engine.bollinger(BB, 2);
+		VolumeMultiplierIndicator volX = engine.volumeMultiplier(VOL);
+		MomentumIndicator momentum = engine.momentum(MOMENTUM);
+
+		TreeSet<Integer> checkpoints = checkpoints();
+		for (int i = 0; i < N; i++) {
+			engine.update(candles.get(i));
+			if (!checkpoints.contains(i)) {
+				continue;
+			}
+			List<MarketData> window = candles.subList(0, i + 1);
+
+			if (i >= MA_SHORT - 1) {
+				assertClose(TechIndicatorUtil.sma(window, MA_SHORT).doubleValue(), maS.value(), 1e-8, "SMA9@" + i);
+			}
+			if (i >= MA_LONG - 1) {
+				assertClose(TechIndicatorUtil.sma(window, MA_LONG).doubleValue(), maL.value(), 1e-8, "SMA26@" + i);
+			}
+			if (i >= RSI) {
+				assertClose(TechIndicatorUtil.rsi(window, RSI).doubleValue(), rsi.value(), 1e-6, "RSI@" + i);
+			}
+			if (i >= BB - 1) {
+				BigDecimal[] expected = TechIndicatorUtil.bollinger(window, BB);
+				assertClose(expected[0].doubleValue(), bb.upper(), 1e-6, "BB upper@" + i);
+				assertClose(expected[1].doubleValue(), bb.lower(), 1e-6, "BB lower@" + i);
+			}
+			if (i >= VOL - 1) {
+				assertClose(TechIndicatorUtil.volumeMultiplier(window, VOL).doubleValue(), volX.value(), 1e-4, "VOLX@" + i);
+			}
+			if (i >= MOMENTUM) {
+				assertClose(TechIndicatorUtil.momentum(window, MOMENTUM).doubleValue(), momentum.value(), 1e-8, "MOM@" + i);
+			}
+		}
+		assertTrue(engine.isReady());
+		assertEquals(N, engine.bars());
+	}
+
+	@Test
+	void readinessMatchesWarmupLength() {
+		IndicatorEngine engine = new IndicatorEngine("KRW-BTC");
+		SmaIndicator maL = engine.sma(MA_LONG);
+		RsiIndicator rsi = engine.rsi(RSI);
+		MomentumIndicator momentum = engine.momentum(MOMENTUM);
+
+		for (int i = 0; i < MA_LONG; i++) {
+			assertEquals(i >= RSI + 1, rsi.isReady(), "RSI ready before bar " + i);
+			assertEquals(i >= MOMENTUM + 1, momentum.isReady(), "MOM ready before bar " + i);
+			assertFalse(maL.isReady());
+			engine.update(candles.get(i));
+		}
+		assertTrue(maL.isReady());
+	}
+
+	@Test
+	void sharedNodesAreRegisteredOnce() {
+		IndicatorEngine engine = new IndicatorEngine("KRW-BTC");
+		assertTrue(engine.sma(BB) == engine.sma(BB));
+		engine.bollinger(BB, 2);
+		engine.volumeMultiplier(VOL);
+		assertEquals(List.of("SMA(CLOSE,20)", "STDDEV(20)", "BB(20,2.0)", "SMA(VOLUME,20)", "VOLX(20)"), engine.nodes());
+	}
+
+	/**
+	 * STEP 간격 + 윈도우 크기별 재계산 경계(capacity × 64 번째 push) 전후 3봉
+	 */
+	private static TreeSet<Integer> checkpoints() {
+		TreeSet<Integer> out = new TreeSet<>();
+		for (int i = 0; i < N; i += STEP) {
+			out.add(i);
+		}
+		out.add(N - 1);
+
+		// 윈도우 → push 가 시작되는 봉 (RSI 는 두 번째 봉부터, 모멘텀은 period + 1 칸)
+		int[][] windows = {{MA_SHORT, 0}, {MA_LONG, 0}, {BB, 0}, {VOL, 0}, {RSI, 1}, {MOMENTUM + 1, 0}};
+		for (int[] w : windows) {
+			long every = (long) w[0] * RESYNC_ROUNDS;
+			for (long push = every; push + w[1] <= N; push += every) {
+				int bar = (int) (push - 1 + w[1]);
+				for (int d = -3; d <= 3; d++) {
+					if (bar + d >= 0 && bar + d < N) {
+						out.add(bar + d);
+					}
+				}
+			}
+		}
+		return out;
+	}
+
+	private static void assertClose(double expected, double actual, double relTol, String what) {
+		double tol = relTol * Math.max(1, Math.abs(expected));
+		assertEquals(expected, actual, tol, what);
+	}
+
+	private static List<MarketData> candles(int n, long seed) {
+		Random rnd = new Random(seed);
+		List<MarketData> out = new ArrayList<>(n);
+		LocalDateTime t = LocalDateTime.of(2024, 1, 1, 0, 0);
+		double price = 55_000_000;
+		for (int i = 0; i < n; i++) {
+			double open = price;
+			price = Math.max(1_000_000, price * (1 + rnd.nextGaussian() * 0.002));
+			double high = Math.max(open, price) * (1 + rnd.nextDouble() * 0.001);
+			double low = Math.min(open, price) * (1 - rnd.nextDouble() * 0.001);
+			out.add(MarketData.builder()
+				.market("KRW-BTC")
+				.timestamp(t.plusMinutes(i))
+				.openPrice(BigDecimal.valueOf(Math.round(open)))
+				.highPrice(BigDecimal.valueOf(Math.round(high)))
+				.lowPrice(BigDecimal.valueOf(Math.round(low)))
+				.closePrice(BigDecimal.valueOf(Math.round(price)))
+				.volume(BigDecimal.valueOf(0.01 + rnd.nextDouble() * 3).setScale(8, RoundingMode.HALF_UP))
+				.build());
+		}
+		return out;
+	}
+}
@@ -0,0 +1,287 @@
+package com.coinmanager.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.journal.JournalEvent.BalanceSnapshot;
+import com.coinmanager.journal.JournalEvent.CandleReceived;
+import com.coinmanager.journal.JournalEvent.OrderAcked;
+import com.coinmanager.journal.JournalEvent.OrderFailed;
+import com.coinmanager.journal.JournalEvent.OrderSent;
+import com.coinmanager.journal.JournalEvent.StrategyState;
+import com.coinmanager.strategy.StrategyRuntime;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 저널 재시작 복구 – 깨진 꼬리, 세그먼트 교체 후 재생, 체크포인트 재적용, 미확인 주문 정리, force 실패.
+ * 재시작은 close() 후 같은 디렉터리로 새 인스턴스를 open() 해서 흉내 낸다.
+ */
+class EventJournalTest {
+
+	private static final int HEADER = 4 + 1 + 8 + 8;
+	private static final int TRAILER = 4;
+	private static final String MARKET = "KRW-BTC";
+	private static final long MINUTE = 60_000L;
+
+	@TempDir
+	Path dir;
+
+	private EventJournal journal;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (journal != null) {
+			journal.close();
+		}
+	}
+
+	@Test
+	void inFlightOrdersSurviveRestartUntilAckedOrFailed() throws Exception {
+		journal = open();
+		journal.appendDurable(sent("a"));
+		journal.appendDurable(sent("b"));
+		journal.appendDurable(sent("c"));
+		journal.append(new OrderAcked("a", "uuid-a"));
+		journal.append(new OrderFailed("c", "400 BAD_REQUEST"));
+
+		journal = reopen();
+		assertEquals(List.of("b"), identifiers(journal.inFlightOrders()));
+
+		journal.append(new OrderAcked("b", "uuid-b"));
+		journal = reopen();
+		assertTrue(journal.inFlightOrders().isEmpty());
+	}
+
+	@Test
+	void corruptLastRecordIsDiscardedAndEarlierRecordsKept() throws Exception {
+		journal = open();
+		journal.append(sent("kept"));
+		journal.append(sent("corrupt"));
+		journal.close();
+		journal = null;
+
+		Path segment = onlySegment();
+		List<Integer> offsets = recordOffsets(segment);
+		flipByte(segment, offsets.getLast() + HEADER);       // 마지막 레코드 본문 → CRC 불일치
+
+		journal = open();
+		assertEquals(List.of("kept"), identifiers(journal.inFlightOrders()));
+	}
+
+	@Test
+	void tornTailIsDiscarded() throws Exception {
+		journal = open();
+		journal.append(sent("kept"));
+		journal.close();
+		journal = null;
+
+		// 길이와 종류까지만 쓰이고 본문·CRC 는 비어 있는 레코드 (쓰던 중 전원 차단)
+		Path segment = onlySegment();
+		List<Integer> offsets = recordOffsets(segment);
+		int end = offsets.getLast() + HEADER + lengthAt(segment, offsets.getLast()) + TRAILER;
+		write(segment, end, ByteBuffer.allocate(5).putInt(0, 64).put(4, JournalEventType.ORDER_SENT.code()));
+
+		journal = open();
+		assertEquals(List.of("kept"), identifiers(journal.inFlightOrders()));
+
+		// 복구 후에도 이어서 기록·재생된다
+		journal.append(sent("after"));
+		journal = reopen();
+		assertEquals(List.of("kept", "after"), identifiers(journal.inFlightOrders()));
+	}
+
+	@Test
+	void corruptLengthNearIntMaxIsDiscarded() throws Exception {
+		journal = open();
+		journal.append(sent("kept"));
+		journal.close();
+		journal = null;
+
+		// pos + HEADER + len + TRAILER 가 int 범위를 넘는 길이
+		Path segment = onlySegment();
+		List<Integer> offsets = recordOffsets(segment);
+		int end = offsets.getLast() + HEADER + lengthAt(segment, offsets.getLast()) + TRAILER;
+		write(segment, end, ByteBuffer.allocate(5).putInt(0, Integer.MAX_VALUE - 8).put(4, JournalEventType.ORDER_SENT.code()));
+
+		journal = open();
+		assertEquals(List.of("kept"), identifiers(journal.inFlightOrders()));
+	}
+
+	@Test
+	void stateSurvivesSegmentRotation() throws Exception {
+		journal = open();
+		journal.appendDurable(sent("before-rotation"));
+		journal.append(new StrategyState(MARKET, "multi-factor", 0.25));
+
+		// 1MB 세그먼트를 여러 번 넘길 만큼 캔들 기록
+		int candles = 20_000;
+		for (int i = 0; i < candles; i++) {
+			journal.append(candle(i));
+		}
+		assertEquals(1, segmentCount(), "교체 후 이전 세그먼트는 지워진다");
+
+		journal = reopen();
+		assertEquals(List.of("before-rotation"), identifiers(journal.inFlightOrders()));
+		assertEquals(Map.of("multi-factor", 0.25), journal.positions(MARKET));
+
+		List<CandleReceived> recent = journal.recentCandles(MARKET);
+		assertEquals(StrategyRuntime.DEFAULT_WINDOW, recent.size());
+		assertEquals(candle(candles - StrategyRuntime.DEFAULT_WINDOW), recent.getFirst());
+		assertEquals(candle(candles - 1), recent.getLast());
+	}
+
+	@Test
+	void repeatedRestartsDoNotChangeState() throws Exception {
+		journal = open();
+		for (int i = 0; i < 150; i++) {
+			journal.append(candle(i));
+		}
+		journal.appendDurable(sent("pending"));
+		journal.append(new StrategyState(MARKET, "multi-factor", 0.5));
+		journal.append(new BalanceSnapshot(1L, Map.of("KRW", new BigDecimal("1000000"))));
+
+		journal = reopen();
+		List<CandleReceived> candles = journal.recentCandles(MARKET);
+		List<OrderSent> inFlight = journal.inFlightOrders();
+		Map<String, Double> positions = journal.positions(MARKET);
+		BalanceSnapshot balance = journal.lastBalance().orElseThrow();
+
+		// 기동마다 체크포인트를 새 세그먼트에 다시 쓴다 – 여러 번 반복해도 같은 상태
+		for (int i = 0; i < 3; i++) {
+			journal = reopen();
+			assertEquals(candles, journal.recentCandles(MARKET));
+			assertEquals(inFlight, journal.inFlightOrders());
+			assertEquals(positions, journal.positions(MARKET));
+			assertEquals(balance, journal.lastBalance().orElseThrow());
+			assertEquals(1, segmentCount());
+		}
+	}
+
+	@Test
+	void checkpointReappliedOnSameStateIsIdempotent() {
+		JournalState state = new JournalState(StrategyRuntime.DEFAULT_WINDOW);
+		for (int i = 0; i < 130; i++) {
+			state.apply(candle(i));
+		}
+		state.apply(sent("x"));
+		state.apply(new StrategyState(MARKET, "multi-factor", 1.5));
+
+		List<JournalEvent> checkpoint = state.checkpoint();
+		checkpoint.forEach(state::apply);                   // 체크포인트가 이전 세그먼트 꼬리와 겹친 경우
+		assertEquals(checkpoint, state.checkpoint());
+
+		JournalState fresh = new JournalState(StrategyRuntime.DEFAULT_WINDOW);
+		checkpoint.forEach(fresh::apply);
+		assertEquals(checkpoint, fresh.checkpoint());
+	}
+
+	@Test
+	void appendDurableFailsFastAfterFlushFailure() throws Exception {
+		journal = open();
+		journal.appendDurable(sent("ok"));
+
+		ReflectionTestUtils.invokeMethod(journal, "fail", new IOException("disk gone"));
+
+		assertTrue(journal.isFailed());
+		assertTimeoutPreemptively(Duration.ofSeconds(5),
+			() -> assertThrows(IllegalStateException.class, () -> journal.appendDurable(sent("blocked"))));
+	}
+
+	/* ---------------- 준비 ---------------- */
+
+	private EventJournal open() throws IOException {
+		EventJournal j = new EventJournal(true, dir.toString(), 1, 1);
+		j.open();
+		return j;
+	}
+
+	private EventJournal reopen() throws Exception {
+		journal.close();
+		journal = null;
+		return open();
+	}
+
+	private static OrderSent sent(String identifier) {
+		return new OrderSent(identifier, MARKET, "multi-factor", OrderSide.BID, OrderType.PRICE,
+			new BigDecimal("10000"), null);
+	}
+
+	private static CandleReceived candle(int i) {
+		double price = 50_000_000 + i;
+		return new CandleReceived(MARKET, i * MINUTE, price, price + 10, price - 10, price + 5, 1.25);
+	}
+
+	private static List<String> identifiers(List<OrderSent> orders) {
+		return orders.stream().map(OrderSent::identifier).toList();
+	}
+
+	private Path onlySegment() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			List<Path> segments = files.filter(p -> p.getFileName().toString().endsWith(".log")).toList();
+			assertEquals(1, segments.size());
+			return segments.getFirst();
+		}
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(p -> p.getFileName().toString().endsWith(".log")).count();
+		}
+	}
+
+	/**
+	 * 세그먼트의 레코드 시작 위치들 (길이 0 에서 끝)
+	 */
+	private static List<Integer> recordOffsets(Path segment) throws IOException {
+		List<Integer> offsets = new ArrayList<>();
+		int pos = 0;
+		int len;
+		while ((len = lengthAt(segment, pos)) > 0) {
+			offsets.add(pos);
+			pos += HEADER + len + TRAILER;
+		}
+		return offsets;
+	}
+
+	private static int lengthAt(Path segment, int pos) throws IOException {
+		try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+			ByteBuffer buf = ByteBuffer.allocate(4);
+			ch.read(buf, pos);
+			return buf.getInt(0);
+		}
+	}
+
+	private static void flipByte(Path segment, int pos) throws IOException {
+		try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer b = ByteBuffer.allocate(1);
+			ch.read(b, pos);
+			b.put(0, (byte) ~b.get(0));
+			ch.write(b.rewind(), pos);
+		}
+	}
+
+	private static void write(Path segment, int pos, ByteBuffer data) throws IOException {
+		try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			ch.write(data.rewind(), pos);
+		}
+	}
+}
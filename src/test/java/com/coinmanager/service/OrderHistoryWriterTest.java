@@ -0,0 +1,193 @@
+package com.coinmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.coinmanager.analytics.service.TradeAnalyticsService;
+import com.coinmanager.domain.entity.OrderHistory;
+import com.coinmanager.domain.enums.OrderSide;
+import com.coinmanager.domain.enums.OrderType;
+import com.coinmanager.domain.repository.OrderHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * write-behind 저장 – 재시작 후 스풀 복구, 저장 불가 레코드 격리, DB 장애 중 스풀로 넘친 레코드 재반영
+ */
+class OrderHistoryWriterTest {
+
+	private static final long TIMEOUT_MS = 20_000;
+
+	@TempDir
+	Path dir;
+
+	private final OrderHistoryRepository repo = mock(OrderHistoryRepository.class);
+	private final TradeAnalyticsService analytics = mock(TradeAnalyticsService.class);
+	private final List<String> saved = Collections.synchronizedList(new ArrayList<>());
+
+	private OrderHistoryWriter writer;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (writer != null) {
+			writer.stop();
+		}
+	}
+
+	@Test
+	void poisonRecordGoesToDeadLetterAndLaterRecordsAreSaved() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(inv -> {
+			calls.incrementAndGet();
+			List<OrderHistory> batch = inv.getArgument(0);
+			if (batch.stream().anyMatch(h -> h.getUuid().equals("bad"))) {
+				throw new DataIntegrityViolationException("Data too long for column 'uuid'");
+			}
+			batch.forEach(h -> saved.add(h.getUuid()));
+			return null;
+		}).when(analytics).record(any());
+
+		writer = writer(50, 100);
+		for (String uuid : List.of("a", "b", "bad", "c", "d", "e", "f")) {
+			writer.submit(history(uuid));
+		}
+		await(() -> writer.backlog() == 0 && saved.size() == 6);
+
+		assertEquals(List.of("a", "b", "c", "d", "e", "f"), saved);
+		List<String> dead = Files.readAllLines(deadLetter());
+		assertEquals(1, dead.size());
+		assertTrue(dead.getFirst().contains("\"uuid\":\"bad\""));
+		assertEquals(0, Files.size(spool()), "모두 반영되면 스풀을 비운다");
+	}
+
+	@Test
+	void spoolLeftByPreviousRunIsRecoveredOnStart() throws Exception {
+		ObjectMapper mapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		StringBuilder lines = new StringBuilder();
+		for (String uuid : List.of("r1", "r2", "already-saved")) {
+			lines.append(mapper.writeValueAsString(OrderHistoryWriter.Spooled.of(history(uuid)))).append('\n');
+		}
+		lines.append("{torn\n");
+		for (String uuid : List.of("r3", "r4")) {
+			lines.append(mapper.writeValueAsString(OrderHistoryWriter.Spooled.of(history(uuid)))).append('\n');
+		}
+		Files.createDirectories(spool().getParent());
+		Files.writeString(spool(), lines);
+
+		// 크래시 직전에 커밋됐지만 스풀에서 지우지 못한 레코드
+		when(repo.findExistingUuids(anyCollection())).thenAnswer(inv -> {
+			Collection<String> uuids = inv.getArgument(0);
+			return uuids.contains("already-saved") ? List.of("already-saved") : List.of();
+		});
+		recordSaved();
+
+		writer = writer(2, 100);
+		await(() -> writer.backlog() == 0 && saved.size() == 4);
+
+		assertEquals(List.of("r1", "r2", "r3", "r4"), saved);
+		assertEquals(List.of("{torn"), Files.readAllLines(deadLetter()));
+		assertEquals(0, Files.size(spool()));
+	}
+
+	@Test
+	void recordsSpilledDuringOutageAreSavedOnceInOrder() throws Exception {
+		AtomicInteger failures = new AtomicInteger(3);
+		doAnswer(inv -> {
+			if (failures.getAndDecrement() > 0) {
+				throw new QueryTimeoutException("DB 응답 없음");
+			}
+			List<OrderHistory> batch = inv.getArgument(0);
+			batch.forEach(h -> saved.add(h.getUuid()));
+			return null;
+		}).when(analytics).record(any());
+		when(repo.findExistingUuids(anyCollection())).thenAnswer(inv -> {
+			Collection<String> uuids = inv.getArgument(0);
+			synchronized (saved) {
+				return uuids.stream().filter(saved::contains).toList();
+			}
+		});
+
+		writer = writer(3, 2);                  // 큐 2칸 → 대부분 스풀로 넘친다
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			expected.add("o" + i);
+			writer.submit(history("o" + i));
+		}
+		await(() -> writer.backlog() == 0 && saved.size() >= expected.size());
+
+		assertEquals(expected, saved);
+		assertFalse(Files.exists(deadLetter()), "일시적 오류는 dead-letter 로 보내지 않는다");
+		assertEquals(0, Files.size(spool()));
+	}
+
+	/* ---------------- 준비 ---------------- */
+
+	private OrderHistoryWriter writer(int batchSize, int queueCapacity) throws Exception {
+		OrderHistoryWriter w = new OrderHistoryWriter(repo, analytics, batchSize, queueCapacity, 50,
+			spool().toString(), deadLetter().toString());
+		w.start();
+		return w;
+	}
+
+	private void recordSaved() {
+		doAnswer(inv -> {
+			List<OrderHistory> batch = inv.getArgument(0);
+			batch.forEach(h -> saved.add(h.getUuid()));
+			return null;
+		}).when(analytics).record(any());
+	}
+
+	private Path spool() {
+		return dir.resolve("spool").resolve("order-history.jsonl");
+	}
+
+	private Path deadLetter() {
+		return dir.resolve("spool").resolve("order-history.dead.jsonl");
+	}
+
+	private static OrderHistory history(String uuid) {
+		return OrderHistory.builder()
+			.uuid(uuid)
+			.market("KRW-BTC")
+			.side(OrderSide.BID)
+			.price(new BigDecimal("10000"))
+			.volume(new BigDecimal("0.0002"))
+			.fee(new BigDecimal("5"))
+			.orderType(OrderType.PRICE)
+			.strategy("multi-factor")
+			.build();
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				throw new AssertionError("제한시간 안에 조건을 만족하지 못함");
+			}
+			Thread.sleep(20);
+		}
+	}
+}
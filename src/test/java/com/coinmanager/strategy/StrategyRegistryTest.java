@@ -0,0 +1,77 @@
+package com.coinmanager.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.coinmanager.strategy.StrategyProperties.Slot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 슬롯 구성 – 같은 마켓의 슬롯 이름 중복 거절, 같은 전략의 파라미터 변형을 다른 이름으로 등록
+ */
+class StrategyRegistryTest {
+
+	private final MultiFactorStrategy multiFactor = new MultiFactorStrategy(MultiFactorParams.defaults(), null, null, null);
+
+	@Test
+	void rejectsSameSlotNameOnOverlappingMarkets() {
+		assertThrows(IllegalStateException.class, () -> registry(
+			slot("multi-factor", null, List.of("KRW-BTC", "KRW-ETH"), Map.of()),
+			slot("multi-factor", null, List.of("KRW-ETH"), Map.of())));
+
+		// markets 생략 = 모든 마켓
+		assertThrows(IllegalStateException.class, () -> registry(
+			slot("multi-factor", null, List.of(), Map.of()),
+			slot("multi-factor", null, List.of("KRW-XRP"), Map.of())));
+	}
+
+	@Test
+	void allowsSameSlotNameOnDisjointMarkets() {
+		StrategyRegistry registry = registry(
+			slot("multi-factor", null, List.of("KRW-BTC"), Map.of()),
+			slot("multi-factor", null, List.of("KRW-ETH"), Map.of()));
+
+		assertEquals(1, registry.slotsFor("KRW-BTC").size());
+		assertEquals(1, registry.slotsFor("KRW-ETH").size());
+	}
+
+	@Test
+	void parameterVariantRunsUnderItsOwnName() {
+		StrategyRegistry registry = registry(
+			slot("multi-factor", null, List.of(), Map.of()),
+			slot("multi-factor-fast", "multi-factor", List.of(), Map.of("ma-short", "5", "rsi-buy-max", "35")));
+
+		List<StrategySlot> slots = registry.slotsFor("KRW-BTC");
+		assertEquals(List.of("multi-factor", "multi-factor-fast"), slots.stream().map(StrategySlot::name).toList());
+		assertSame(multiFactor, slots.get(0).strategy());
+		assertNotSame(multiFactor, slots.get(1).strategy());
+
+		MultiFactorParams variant = (MultiFactorParams) ReflectionTestUtils.getField(slots.get(1).strategy(), "params");
+		MultiFactorParams defaults = MultiFactorParams.defaults();
+		assertEquals(5, variant.maShort());
+		assertEquals(35.0, variant.rsiBuyMax());
+		assertEquals(defaults.maLong(), variant.maLong());
+		assertEquals(defaults.momentumThreshold(), variant.momentumThreshold());
+	}
+
+	@Test
+	void rejectsUnknownParameter() {
+		assertThrows(IllegalStateException.class, () -> registry(
+			slot("multi-factor-typo", "multi-factor", List.of(), Map.of("ma-shrot", "5"))));
+	}
+
+	/* ---------------- 준비 ---------------- */
+
+	private StrategyRegistry registry(Slot... slots) {
+		return new StrategyRegistry(List.of(multiFactor), new StrategyProperties(List.of(slots)));
+	}
+
+	private static Slot slot(String name, String strategy, List<String> markets, Map<String, String> params) {
+		return new Slot(name, strategy, 0.5, markets, params);
+	}
+}